@@ -87,6 +87,14 @@ public abstract class BaseNumberBuilder {
         return nb.charAt(nb.length() - 1) == MathType.EXPONENT;
     }
 
+    /**
+     * @return true if no number is being built and the default numeral base is used, i.e. processing of the following
+     * tokens doesn't depend on the tokens processed so far
+     */
+    public boolean isClean() {
+        return numberBuilder == null && getNumeralBase() == engine.getMathEngine().getNumeralBase();
+    }
+
     public boolean isHexMode() {
         return getNumeralBase() == NumeralBase.hex;
     }
@@ -62,6 +62,8 @@ import java.util.concurrent.atomic.AtomicLong;
 public class Calculator implements SharedPreferences.OnSharedPreferenceChangeListener {
 
     public static final long NO_SEQUENCE = -1;
+    // delay of the calculations on the fly: evaluation starts once the user stops typing
+    private static final long CALCULATE_ON_FLY_DELAY = 100;
 
     @Nonnull
     private static final AtomicLong SEQUENCER = new AtomicLong(NO_SEQUENCE);
@@ -71,6 +73,8 @@ public class Calculator implements SharedPreferences.OnSharedPreferenceChangeLis
     final Bus bus;
     @Nonnull
     private final Executor background;
+    @Nonnull
+    private final EvaluationScheduler scheduler;
 
     private volatile boolean calculateOnFly = true;
 
@@ -86,6 +90,7 @@ public class Calculator implements SharedPreferences.OnSharedPreferenceChangeLis
         this.preferences = preferences;
         this.bus = bus;
         this.background = background;
+        this.scheduler = new EvaluationScheduler(background);
         bus.register(this);
         preferences.registerOnSharedPreferenceChangeListener(this);
     }
@@ -112,16 +117,27 @@ public class Calculator implements SharedPreferences.OnSharedPreferenceChangeLis
 
     public long evaluate(@Nonnull final JsclOperation operation, @Nonnull final String expression,
             final long sequence) {
-        background.execute(new Runnable() {
+        return evaluate(operation, expression, sequence, 0);
+    }
+
+    private long evaluate(@Nonnull final JsclOperation operation, @Nonnull final String expression,
+            final long sequence, long delay) {
+        // only the latest evaluation matters: stale ones are dropped or interrupted
+        scheduler.schedule(new Runnable() {
             @Override
             public void run() {
                 evaluateAsync(sequence, operation, expression);
             }
-        });
+        }, delay);
 
         return sequence;
     }
 
+    @Nonnull
+    public EvaluationScheduler getScheduler() {
+        return scheduler;
+    }
+
     public void init(@Nonnull Executor init) {
         engine.init(init);
         setCalculateOnFly(Preferences.Calculations.calculateOnFly.getPreference(preferences));
@@ -268,7 +284,7 @@ public class Calculator implements SharedPreferences.OnSharedPreferenceChangeLis
         if (!e.shouldEvaluate()) {
             return;
         }
-        evaluate(JsclOperation.numeric, e.newState.getTextString(), e.newState.sequence);
+        evaluate(JsclOperation.numeric, e.newState.getTextString(), e.newState.sequence, CALCULATE_ON_FLY_DELAY);
     }
 
     @Subscribe
@@ -57,6 +57,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import jscl.AngleUnit;
+import jscl.EvaluationBudget;
 import jscl.JsclMathEngine;
 import jscl.MathEngine;
 import jscl.NumeralBase;
@@ -68,6 +69,9 @@ import midpcalc.Real;
 @Singleton
 public class Engine implements SharedPreferences.OnSharedPreferenceChangeListener {
 
+    private static final long EVALUATION_TIMEOUT = 10000;
+    private static final int EVALUATION_MAX_TERMS = 100000;
+
     @Nonnull
     private final MathEngine mathEngine;
     @Inject
@@ -101,6 +105,8 @@ public class Engine implements SharedPreferences.OnSharedPreferenceChangeListene
 
         this.mathEngine.setPrecision(5);
         this.mathEngine.setGroupingSeparator(JsclMathEngine.GROUPING_SEPARATOR_DEFAULT);
+        // one pathological expression must not keep the background thread busy forever
+        mathEngine.setBudget(EvaluationBudget.UNLIMITED.withTimeout(EVALUATION_TIMEOUT).withMaxTerms(EVALUATION_MAX_TERMS));
     }
 
     private static void migratePreference(@Nonnull SharedPreferences preferences, @Nonnull StringPreference<?> preference, @Nonnull String oldKey, @Nonnull SharedPreferences.Editor editor) {
@@ -112,12 +118,8 @@ public class Engine implements SharedPreferences.OnSharedPreferenceChangeListene
 
     public static boolean isValidName(@Nullable String name) {
         if (!TextUtils.isEmpty(name)) {
-            try {
-                final String parsed = Identifier.parser.parse(Parser.Parameters.get(name), null);
-                return TextUtils.equals(parsed, name);
-            } catch (jscl.text.ParseException e) {
-                // not valid name;
-            }
+            final String parsed = Identifier.parser.parse(Parser.Parameters.get(name), null);
+            return TextUtils.equals(parsed, name);
         }
 
         return false;
@@ -0,0 +1,162 @@
+package org.solovyev.android.calculator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs only the latest of the scheduled tasks: a task which hasn't started yet is dropped once a newer task is
+ * scheduled and a running task is interrupted (evaluation is aborted by {@link jscl.text.ParserUtils#checkInterruption()}).
+ * Tasks might be delayed so that bursts of requests (f.e. calculations on every keystroke) are coalesced into one.
+ * Tasks are run one at a time on a thread of the given executor.
+ */
+public final class EvaluationScheduler {
+
+    @Nonnull
+    private final Executor executor;
+    @Nonnull
+    private final Object lock = new Object();
+    @Nonnull
+    private final Runnable worker = new Runnable() {
+        @Override
+        public void run() {
+            runTasks();
+        }
+    };
+
+    // guarded by lock
+    @Nullable
+    private Task pending;
+    @Nullable
+    private Task running;
+    @Nullable
+    private Thread runningThread;
+    private boolean working;
+
+    @Nonnull
+    private final AtomicLong dropped = new AtomicLong();
+    @Nonnull
+    private final AtomicLong cancelled = new AtomicLong();
+    @Nonnull
+    private final AtomicLong completed = new AtomicLong();
+
+    public EvaluationScheduler(@Nonnull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param task  task to be run
+     * @param delay delay in milliseconds before the task is started, the task is dropped if another task is scheduled
+     *              in the meantime
+     */
+    public void schedule(@Nonnull Runnable task, long delay) {
+        final boolean start;
+        synchronized (lock) {
+            if (pending != null) {
+                dropped.incrementAndGet();
+            }
+            pending = new Task(task, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay));
+            if (running != null && !running.cancelled && runningThread != null) {
+                running.cancelled = true;
+                runningThread.interrupt();
+            }
+            start = !working;
+            working = true;
+            lock.notifyAll();
+        }
+        if (start) {
+            executor.execute(worker);
+        }
+    }
+
+    private void runTasks() {
+        while (true) {
+            final Task task;
+            synchronized (lock) {
+                task = pending;
+                if (task == null) {
+                    working = false;
+                    return;
+                }
+                final long wait = task.time - System.nanoTime();
+                if (wait > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, wait);
+                    } catch (InterruptedException e) {
+                        // executor is shutting down
+                        working = false;
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    continue;
+                }
+                pending = null;
+                running = task;
+                runningThread = Thread.currentThread();
+            }
+            boolean finished = false;
+            try {
+                task.runnable.run();
+                finished = true;
+            } finally {
+                final boolean restart;
+                synchronized (lock) {
+                    running = null;
+                    runningThread = null;
+                    if (task.cancelled) {
+                        // the thread belongs to the executor: interruption must not leak to the next tasks
+                        Thread.interrupted();
+                        cancelled.incrementAndGet();
+                    } else {
+                        completed.incrementAndGet();
+                    }
+                    // if the task has thrown this thread leaves the loop and the pending task is run on another one
+                    restart = !finished && pending != null;
+                    if (!finished) {
+                        working = restart;
+                    }
+                }
+                if (restart) {
+                    executor.execute(worker);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of tasks which were replaced by newer tasks before they started
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of tasks which were interrupted as newer tasks were scheduled
+     */
+    public long getCancelledCount() {
+        return cancelled.get();
+    }
+
+    /**
+     * @return number of tasks which ran to completion
+     */
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    private static final class Task {
+        @Nonnull
+        final Runnable runnable;
+        // System.nanoTime() when the task should be started
+        final long time;
+        // guarded by EvaluationScheduler#lock
+        boolean cancelled;
+
+        Task(@Nonnull Runnable runnable, long time) {
+            this.runnable = runnable;
+            this.time = time;
+        }
+    }
+}
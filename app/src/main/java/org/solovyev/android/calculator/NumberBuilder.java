@@ -28,9 +28,10 @@ import android.text.Spanned;
 import jscl.MathContext;
 import jscl.MathEngine;
 import jscl.NumeralBase;
+import jscl.math.JsclInteger;
+import jscl.math.NumericWrapper;
 import jscl.text.DoubleParser;
 import jscl.text.JsclIntegerParser;
-import jscl.text.ParseException;
 import jscl.text.Parser;
 import org.solovyev.android.calculator.math.MathType;
 import org.solovyev.android.calculator.text.NumberSpan;
@@ -73,18 +74,17 @@ public class NumberBuilder extends BaseNumberBuilder {
             mc.setNumeralBase(nb);
 
             final Parser.Parameters p = Parser.Parameters.get(s);
-            try {
-                return JsclIntegerParser.parser.parse(p, null).content().doubleValue();
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
-                try {
-                    p.reset();
-                    return DoubleParser.parser.parse(p, null).content().doubleValue();
-                } catch (ParseException e1) {
-                    p.exceptionsPool.release(e1);
-                    throw new NumberFormatException();
-                }
+            final JsclInteger integer = JsclIntegerParser.parser.parse(p, null);
+            if (integer != null) {
+                return integer.content().doubleValue();
+            }
+
+            p.reset();
+            final NumericWrapper real = DoubleParser.parser.parse(p, null);
+            if (real != null) {
+                return real.content().doubleValue();
             }
+            throw new NumberFormatException();
 
         } finally {
             mc.setNumeralBase(defaultNb);
@@ -47,12 +47,23 @@ public class ToJsclTextProcessor implements TextProcessor<PreparedExpression, St
     public ToJsclTextProcessor() {
     }
 
+    @Nonnull
     private static PreparedExpression processWithDepth(@Nonnull String s, int depth, @Nonnull List<IConstant> undefinedVars, @Nonnull Engine engine) throws ParseException {
-        return replaceVariables(processExpression(s, engine).toString(), depth, undefinedVars, engine);
+        return new PreparedExpression(processExpression(s, depth, undefinedVars, engine).toString(), undefinedVars);
     }
 
+    /**
+     * Converts the expression to JSCL in one pass: each token is recognized only once and is used for both the
+     * multiplication sign insertion and the variables substitution
+     */
     @Nonnull
-    private static StringBuilder processExpression(@Nonnull String s, @Nonnull Engine engine) throws ParseException {
+    private static StringBuilder processExpression(@Nonnull String s, int depth, @Nonnull List<IConstant> undefinedVars, @Nonnull Engine engine) throws ParseException {
+        if (depth >= MAX_DEPTH) {
+            throw new ParseException(s, new CalculatorMessage(CalculatorMessages.msg_006, MessageType.error));
+        } else {
+            depth++;
+        }
+
         final StringBuilder result = new StringBuilder();
         final MathType.Results results = new MathType.Results();
 
@@ -64,8 +75,8 @@ public class ToJsclTextProcessor implements TextProcessor<PreparedExpression, St
             if (s.charAt(i) == ' ') continue;
 
             results.release(mathTypeBefore);
-            mathTypeBefore = mathTypeResult == null ? null : mathTypeResult;
-            mathTypeResult = MathType.getType(s, i, nb.isHexMode(), engine);
+            mathTypeBefore = mathTypeResult;
+            mathTypeResult = MathType.getType(s, i, nb.isHexMode(), results.obtain(), engine);
 
             nb.process(mathTypeResult);
 
@@ -88,67 +99,37 @@ public class ToJsclTextProcessor implements TextProcessor<PreparedExpression, St
                 }
             }
 
-            i = mathTypeResult.processToJscl(result, i);
+            if (mathTypeResult.type == MathType.constant) {
+                i = replaceVariable(result, i, mathTypeResult.match, depth, undefinedVars, engine);
+            } else {
+                i = mathTypeResult.processToJscl(result, i);
+            }
         }
         return result;
     }
 
-    @Nonnull
-    private static PreparedExpression replaceVariables(@Nonnull final String s, int depth, @Nonnull List<IConstant> undefinedVars, @Nonnull Engine engine) throws ParseException {
-        if (depth >= MAX_DEPTH) {
-            throw new ParseException(s, new CalculatorMessage(CalculatorMessages.msg_006, MessageType.error));
-        } else {
-            depth++;
-        }
+    private static int replaceVariable(@Nonnull StringBuilder result, int i, @Nonnull String varName, int depth, @Nonnull List<IConstant> undefinedVars, @Nonnull Engine engine) throws ParseException {
+        final IConstant var = engine.getVariablesRegistry().get(varName);
+        if (var != null) {
+            if (!var.isDefined()) {
+                undefinedVars.add(var);
+                result.append(varName);
+            } else {
+                final String value = var.getValue();
+                if (value == null) throw new AssertionError();
 
-        final StringBuilder result = new StringBuilder();
-        for (int i = 0; i < s.length(); i++) {
-            int offset = 0;
-            String functionName = App.find(MathType.function.getTokens(engine), s, i);
-            if (functionName == null) {
-                String operatorName = App.find(MathType.operator.getTokens(engine), s, i);
-                if (operatorName == null) {
-                    String varName = App.find(engine.getVariablesRegistry().getNames(), s, i);
-                    if (varName != null) {
-                        final IConstant var = engine.getVariablesRegistry().get(varName);
-                        if (var != null) {
-                            if (!var.isDefined()) {
-                                undefinedVars.add(var);
-                                result.append(varName);
-                                offset = varName.length();
-                            } else {
-                                final String value = var.getValue();
-                                if (value == null) throw new AssertionError();
-
-                                if (var.getDoubleValue() != null) {
-                                    //result.append(value);
-                                    // NOTE: append varName as JSCL engine will convert it to double if needed
-                                    result.append(varName);
-                                } else {
-                                    result.append("(").append(processWithDepth(value, depth, undefinedVars, engine)).append(")");
-                                }
-                                offset = varName.length();
-                            }
-                        }
-                    }
+                if (var.getDoubleValue() != null) {
+                    //result.append(value);
+                    // NOTE: append varName as JSCL engine will convert it to double if needed
+                    result.append(varName);
                 } else {
-                    result.append(operatorName);
-                    offset = operatorName.length();
+                    result.append("(").append(processExpression(value, depth, undefinedVars, engine)).append(")");
                 }
-            } else {
-                result.append(functionName);
-                offset = functionName.length();
-            }
-
-
-            if (offset == 0) {
-                result.append(s.charAt(i));
-            } else {
-                i += offset - 1;
             }
+        } else {
+            result.append(varName);
         }
-
-        return new PreparedExpression(result.toString(), undefinedVars);
+        return i + varName.length() - 1;
     }
 
     @Override
@@ -188,11 +188,22 @@ public abstract class BaseEntitiesRegistry<T extends MathEntity> implements Enti
         return mathRegistry.contains(name);
     }
 
+    @Nullable
+    @Override
+    public String findName(@Nonnull String text, int position) {
+        return mathRegistry.findName(text, position);
+    }
+
     @Override
     public T get(@Nonnull String name) {
         return mathRegistry.get(name);
     }
 
+    @Override
+    public long getVersion() {
+        return mathRegistry.getVersion();
+    }
+
     @Override
     public T getById(@Nonnull Integer id) {
         return mathRegistry.getById(id);
@@ -27,7 +27,6 @@ import jscl.JsclMathEngine;
 import jscl.NumeralBase;
 import jscl.math.function.Constants;
 import org.solovyev.android.Check;
-import org.solovyev.android.calculator.App;
 import org.solovyev.android.calculator.Engine;
 import org.solovyev.android.calculator.ParseException;
 
@@ -228,6 +227,8 @@ public enum MathType {
     public final static String INFINITY = "∞";
     public final static String INFINITY_JSCL = "Infinity";
     private static List<MathType> mathTypesByPriority;
+    @Nullable
+    private static volatile TokenTrie tokenTrie;
     @Nonnull
     protected final List<String> tokens;
     @Nonnull
@@ -280,9 +281,11 @@ public enum MathType {
             return result.set(MathType.text, text);
         }
         final List<MathType> mathTypes = getMathTypesByPriority();
+        final String[] matches = result.clearMatches(mathTypes.size());
+        getTokenTrie(engine).find(text, i, matches);
         for (int j = 0; j < mathTypes.size(); j++) {
             final MathType mathType = mathTypes.get(j);
-            final String s = App.find(mathType.getTokens(engine), text, i);
+            final String s = matches[mathType.ordinal()];
             if (s == null) {
                 continue;
             }
@@ -326,6 +329,32 @@ public enum MathType {
         return result.set(MathType.text, text.substring(i));
     }
 
+    /**
+     * @return length of the longest token recognized by {@link #getType(String, int, boolean, Result, Engine)}
+     */
+    public static int getMaxTokenLength(@Nonnull Engine engine) {
+        return getTokenTrie(engine).getMaxLength();
+    }
+
+    /**
+     * @return object identifying the current set of tokens, a different object is returned once the tokens have
+     * changed (f.e. a function has been added)
+     */
+    @Nonnull
+    public static Object getTokensVersion(@Nonnull Engine engine) {
+        return getTokenTrie(engine);
+    }
+
+    @Nonnull
+    private static TokenTrie getTokenTrie(@Nonnull Engine engine) {
+        TokenTrie trie = tokenTrie;
+        if (trie == null || !trie.isUpToDate(engine)) {
+            trie = TokenTrie.create(engine);
+            tokenTrie = trie;
+        }
+        return trie;
+    }
+
     @Nonnull
     private static List<MathType> getMathTypesByPriority() {
         if (mathTypesByPriority == null) {
@@ -414,6 +443,10 @@ public enum MathType {
         @Nonnull
         public String match;
 
+        // matches of the token types found by getType(), reused as the same result is passed for every character
+        @Nullable
+        private String[] matches;
+
         public Result(@Nonnull MathType type, @Nonnull String match) {
             this.type = type;
             this.match = match;
@@ -430,6 +463,16 @@ public enum MathType {
             this(MathType.text, "");
         }
 
+        @Nonnull
+        String[] clearMatches(int size) {
+            if (matches == null || matches.length != size) {
+                matches = new String[size];
+            } else {
+                Arrays.fill(matches, null);
+            }
+            return matches;
+        }
+
         public int processToJscl(@Nonnull StringBuilder result, int i) throws ParseException {
             return type.processToJscl(result, i, match);
         }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013 serso aka se.solovyev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+ * Contact details
+ *
+ * Email: se.solovyev@gmail.com
+ * Site:  http://se.solovyev.org
+ */
+
+package org.solovyev.android.calculator.math;
+
+import org.solovyev.android.calculator.Engine;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prefix tree over the tokens of all {@link MathType}s (including the names from the registries). One walk over the
+ * text finds the longest token of every type which starts at a given position.
+ */
+final class TokenTrie {
+
+    @Nonnull
+    private final Node root = new Node();
+
+    // token lists the trie was built from: registries publish a new list after each modification
+    @Nonnull
+    private final List<?>[] sources;
+    private int maxLength;
+
+    private TokenTrie(@Nonnull List<?>[] sources) {
+        this.sources = sources;
+    }
+
+    @Nonnull
+    static TokenTrie create(@Nonnull Engine engine) {
+        final MathType[] types = MathType.values();
+        if (types.length > Integer.SIZE) throw new AssertionError();
+
+        final TokenTrie trie = new TokenTrie(new List<?>[types.length]);
+        for (MathType type : types) {
+            final List<String> tokens = type.getTokens(engine);
+            trie.sources[type.ordinal()] = tokens;
+            for (int i = 0; i < tokens.size(); i++) {
+                trie.add(tokens.get(i), type);
+            }
+        }
+        return trie;
+    }
+
+    private void add(@Nonnull String token, @Nonnull MathType type) {
+        if (token.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.getOrAddChild(token.charAt(i));
+        }
+        node.word = token;
+        node.types |= 1 << type.ordinal();
+        maxLength = Math.max(maxLength, token.length());
+    }
+
+    int getMaxLength() {
+        return maxLength;
+    }
+
+    boolean isUpToDate(@Nonnull Engine engine) {
+        final MathType[] types = MathType.values();
+        for (MathType type : types) {
+            if (sources[type.ordinal()] != type.getTokens(engine)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param text     text to be searched in
+     * @param position position of the first character of the tokens
+     * @param matches  array indexed by {@link MathType#ordinal()} which receives the longest token of each type
+     */
+    void find(@Nonnull String text, int position, @Nonnull String[] matches) {
+        Node node = root;
+        for (int i = position; i < text.length(); i++) {
+            node = node.getChild(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            int types = node.types;
+            while (types != 0) {
+                matches[Integer.numberOfTrailingZeros(types)] = node.word;
+                types &= types - 1;
+            }
+        }
+    }
+
+    private static final class Node {
+
+        @Nonnull
+        private static final char[] NO_KEYS = new char[0];
+        @Nonnull
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        @Nonnull
+        private char[] keys = NO_KEYS;
+        @Nonnull
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        // bit mask of the types which have this node's word as a token
+        private int types;
+        @Nullable
+        private String word;
+
+        @Nullable
+        Node getChild(char key) {
+            final int i = Arrays.binarySearch(keys, 0, size, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        @Nonnull
+        Node getOrAddChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            if (i >= 0) {
+                return children[i];
+            }
+            i = -(i + 1);
+            if (size == keys.length) {
+                final int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, i, keys, i + 1, size - i);
+            System.arraycopy(children, i, children, i + 1, size - i);
+            final Node child = new Node();
+            keys[i] = key;
+            children[i] = child;
+            size++;
+            return child;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.solovyev.android.calculator.plot;
 
 import android.text.TextUtils;
+import jscl.AngleUnit;
+import jscl.JsclMathEngine;
+import jscl.compile.CompiledExpression;
+import jscl.compile.ExpressionCompiler;
 import jscl.math.Expression;
 import jscl.math.Generic;
 import jscl.math.JsclInteger;
 import jscl.math.NumericWrapper;
+import jscl.math.function.Constant;
 import jscl.math.function.CustomFunction;
 import jscl.math.numeric.Complex;
 import jscl.math.numeric.Numeric;
@@ -12,12 +17,18 @@ import jscl.math.numeric.Real;
 import org.solovyev.android.plotter.Function;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public class ExpressionFunction extends Function {
     @Nonnull
     public final jscl.math.function.Function function;
     public final int arity;
     private final Generic[] parameters;
+    @Nullable
+    private CompiledExpression compiled;
+    @Nullable
+    private AngleUnit compiledAngleUnits;
+    private boolean compilable = true;
 
     public ExpressionFunction(@Nonnull jscl.math.function.Function function) {
         super(makeFunctionName(function));
@@ -47,8 +58,46 @@ public class ExpressionFunction extends Function {
         return arity;
     }
 
+    /**
+     * Compiles the function to a primitive evaluator, see {@link ExpressionCompiler}. As compiled function depends on
+     * the angle units it is recompiled if they change.
+     *
+     * @return compiled function or null if function can't be compiled (f.e. it contains a matrix or an operator)
+     */
+    @Nullable
+    private CompiledExpression compile() {
+        if (!compilable) {
+            return null;
+        }
+        final AngleUnit angleUnits = JsclMathEngine.getInstance().getAngleUnits();
+        if (compiled != null && compiledAngleUnits == angleUnits) {
+            return compiled;
+        }
+        try {
+            final Constant[] variables = new Constant[arity];
+            final Generic[] arguments = new Generic[arity];
+            for (int i = 0; i < arity; i++) {
+                // name which can't clash with user's constants
+                variables[i] = new Constant("#" + i);
+                arguments[i] = Expression.valueOf(variables[i]);
+            }
+            function.setParameters(arguments);
+            compiled = ExpressionCompiler.compile(function.expressionValue(), angleUnits, variables);
+            compiledAngleUnits = angleUnits;
+        } catch (RuntimeException e) {
+            // NotCompilableException or an error in the function itself: use slow path
+            compilable = false;
+            compiled = null;
+        }
+        return compiled;
+    }
+
     @Override
     public float evaluate() {
+        final CompiledExpression compiled = compile();
+        if (compiled != null) {
+            return (float) compiled.evaluate();
+        }
         try {
             return unwrap(function.numeric());
         } catch (RuntimeException e) {
@@ -58,6 +107,10 @@ public class ExpressionFunction extends Function {
 
     @Override
     public float evaluate(float x) {
+        final CompiledExpression compiled = compile();
+        if (compiled != null) {
+            return (float) compiled.evaluate(x);
+        }
         try {
             parameters[0] = Expression.valueOf((double) x);
             function.setParameters(parameters);
@@ -69,6 +122,10 @@ public class ExpressionFunction extends Function {
 
     @Override
     public float evaluate(float x, float y) {
+        final CompiledExpression compiled = compile();
+        if (compiled != null) {
+            return (float) compiled.evaluate(x, y);
+        }
         try {
             parameters[0] = Expression.valueOf((double) x);
             parameters[1] = Expression.valueOf((double) y);
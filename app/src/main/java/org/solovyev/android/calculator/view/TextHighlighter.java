@@ -39,13 +39,28 @@ import org.solovyev.android.calculator.math.MathType;
 import org.solovyev.android.calculator.text.TextProcessor;
 import org.solovyev.android.calculator.text.TextProcessorEditorResult;
 
+import jscl.EvaluationContext;
+import jscl.JsclMathEngine;
+import jscl.NumeralBase;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+/**
+ * Highlights functions, constants and groups of brackets and formats numbers. The result of the last call is kept
+ * split into segments and only the segments around the edited part of the text are processed again (the instances
+ * are therefore not thread safe).
+ */
 public class TextHighlighter implements TextProcessor<TextProcessorEditorResult, String> {
 
+    // text is split into segments of at least this length (segment can start only where the processing doesn't
+    // depend on the previous text)
+    private static final int SEGMENT_LENGTH = 16;
+
     private final int red;
     private final int green;
     private final int blue;
@@ -53,6 +68,12 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
     private final int dark;
     @Nonnull
     private final Engine engine;
+    @Nonnull
+    private String text = "";
+    @Nonnull
+    private List<Segment> segments = Collections.emptyList();
+    @Nullable
+    private Configuration configuration;
 
     public TextHighlighter(int color, boolean formatNumber, @Nonnull Engine engine) {
         this.formatNumber = formatNumber;
@@ -87,15 +108,112 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
     @Nonnull
     @Override
     public TextProcessorEditorResult process(@Nonnull String text) {
+        final Configuration configuration = new Configuration(engine);
+        if (!configuration.equals(this.configuration)) {
+            this.configuration = configuration;
+            segments = Collections.emptyList();
+        }
+        segments = update(segments, this.text, text);
+        this.text = text;
+
         final SpannableStringBuilder sb = new SpannableStringBuilder();
+        int offset = 0;
+        int groupsCount = 0;
+        int openGroupsCount = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            final Segment segment = segments.get(i);
+            sb.append(segment.text);
+            offset += segment.offset;
+            groupsCount = Math.max(groupsCount, openGroupsCount + segment.maxOpenGroupsCount);
+            openGroupsCount += segment.openGroupsCount;
+        }
+
+        if (groupsCount == 0) {
+            return new TextProcessorEditorResult(sb, offset);
+        }
+        final List<GroupSpan> groupSpans = new ArrayList<>(groupsCount);
+        fillGroupSpans(sb, 0, 0, groupsCount, groupSpans);
+        for (GroupSpan groupSpan : Lists.reverse(groupSpans)) {
+            makeColor(sb, groupSpan.start, groupSpan.end, getColor(groupSpan.group, groupsCount));
+        }
+        return new TextProcessorEditorResult(sb, offset);
+    }
+
+    /**
+     * Only the segments around the changed part of the text are highlighted again: highlighting restarts from the
+     * last segment which can't be affected by the change (tokens are looked up at most
+     * {@link MathType#getMaxTokenLength(Engine)} characters ahead) and stops as soon as it reaches the start of an old
+     * segment in the unchanged tail of the text.
+     */
+    @Nonnull
+    private List<Segment> update(@Nonnull List<Segment> oldSegments, @Nonnull String oldText, @Nonnull String text) {
+        final List<Segment> segments = new ArrayList<>();
+        if (oldSegments.isEmpty()) {
+            highlight(text, 0, segments, oldSegments, 0, text.length() + 1);
+            return segments;
+        }
+
+        final int length = Math.min(oldText.length(), text.length());
+        int prefix = 0;
+        while (prefix < length && oldText.charAt(prefix) == text.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < length - prefix && oldText.charAt(oldText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+            suffix++;
+        }
+
+        final int maxTokenLength = MathType.getMaxTokenLength(engine);
+        int restart = 0;
+        while (restart + 1 < oldSegments.size() && oldSegments.get(restart + 1).start + maxTokenLength + 1 <= prefix) {
+            restart++;
+        }
+        segments.addAll(oldSegments.subList(0, restart));
+        // a token depends on one character before it (see grouping separators in MathType#getType)
+        highlight(text, oldSegments.get(restart).start, segments, oldSegments, text.length() - oldText.length(), text.length() - suffix + 1);
+        return segments;
+    }
+
+    /**
+     * Highlights <var>text</var> from <var>start</var> splitting it into segments
+     *
+     * @param oldSegments    segments of the previous text
+     * @param shift          difference between the lengths of the new and the previous texts
+     * @param unchangedStart position in the new text from which the tokens are the same as in the previous text
+     */
+    private void highlight(@Nonnull String text, int start, @Nonnull List<Segment> segments, @Nonnull List<Segment> oldSegments, int shift, int unchangedStart) {
         final BaseNumberBuilder nb = !formatNumber ? new LiteNumberBuilder(engine) : new NumberBuilder(engine);
         final MathType.Result result = new MathType.Result();
 
+        SpannableStringBuilder sb = new SpannableStringBuilder();
+        int segmentStart = start;
         int offset = 0;
-        int groupsCount = 0;
         int openGroupsCount = 0;
+        int maxOpenGroupsCount = 0;
+
+        for (int i = start; i < text.length(); i++) {
+            if (i > segmentStart && nb.isClean()) {
+                // highlighting of the rest of the text doesn't depend on the text before i
+                if (i >= unchangedStart) {
+                    final int old = findSegment(oldSegments, i - shift);
+                    if (old >= 0) {
+                        segments.add(new Segment(segmentStart, sb, offset, openGroupsCount, maxOpenGroupsCount));
+                        for (int j = old; j < oldSegments.size(); j++) {
+                            segments.add(oldSegments.get(j).shift(shift));
+                        }
+                        return;
+                    }
+                }
+                if (i - segmentStart >= SEGMENT_LENGTH) {
+                    segments.add(new Segment(segmentStart, sb, offset, openGroupsCount, maxOpenGroupsCount));
+                    sb = new SpannableStringBuilder();
+                    segmentStart = i;
+                    offset = 0;
+                    openGroupsCount = 0;
+                    maxOpenGroupsCount = 0;
+                }
+            }
 
-        for (int i = 0; i < text.length(); i++) {
             MathType.getType(text, i, nb.isHexMode(), result, engine);
 
             offset += nb.process(sb, result);
@@ -104,7 +222,7 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
             switch (result.type) {
                 case open_group_symbol:
                     openGroupsCount++;
-                    groupsCount = Math.max(groupsCount, openGroupsCount);
+                    maxOpenGroupsCount = Math.max(maxOpenGroupsCount, openGroupsCount);
                     sb.append(text.charAt(i));
                     break;
                 case close_group_symbol:
@@ -116,12 +234,12 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
                     break;
                 case function:
                     i += append(sb, match);
-                    makeItalic(sb, i + 1 - match.length(), i + 1);
+                    makeItalic(sb, sb.length() - match.length(), sb.length());
                     break;
                 case constant:
                 case numeral_base:
                     i += append(sb, match);
-                    makeBold(sb, i + 1 - match.length(), i + 1);
+                    makeBold(sb, sb.length() - match.length(), sb.length());
                     break;
                 default:
                     if (result.type == MathType.text || match.length() <= 1) {
@@ -135,16 +253,26 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
         if (nb instanceof NumberBuilder) {
             offset += ((NumberBuilder) nb).processNumber(sb);
         }
-
-        if (groupsCount == 0) {
-            return new TextProcessorEditorResult(sb, offset);
+        if (segmentStart < text.length() || segments.isEmpty()) {
+            segments.add(new Segment(segmentStart, sb, offset, openGroupsCount, maxOpenGroupsCount));
         }
-        final List<GroupSpan> groupSpans = new ArrayList<>(groupsCount);
-        fillGroupSpans(sb, 0, 0, groupsCount, groupSpans);
-        for (GroupSpan groupSpan : Lists.reverse(groupSpans)) {
-            makeColor(sb, groupSpan.start, groupSpan.end, getColor(groupSpan.group, groupsCount));
+    }
+
+    private static int findSegment(@Nonnull List<Segment> segments, int start) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midStart = segments.get(mid).start;
+            if (midStart < start) {
+                low = mid + 1;
+            } else if (midStart > start) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
         }
-        return new TextProcessorEditorResult(sb, offset);
+        return -1;
     }
 
     private int append(SpannableStringBuilder t, String match) {
@@ -202,6 +330,67 @@ public class TextHighlighter implements TextProcessor<TextProcessorEditorResult,
         return (0xFF << 24) | ((red + offset) << 16) | ((green + offset) << 8) | (blue + offset);
     }
 
+    private static final class Segment {
+        // position of the segment in the source text
+        final int start;
+        @Nonnull
+        final SpannableStringBuilder text;
+        final int offset;
+        // change of the number of open groups
+        final int openGroupsCount;
+        // max number of open groups inside the segment (relative to its start)
+        final int maxOpenGroupsCount;
+
+        Segment(int start, @Nonnull SpannableStringBuilder text, int offset, int openGroupsCount, int maxOpenGroupsCount) {
+            this.start = start;
+            this.text = text;
+            this.offset = offset;
+            this.openGroupsCount = openGroupsCount;
+            this.maxOpenGroupsCount = maxOpenGroupsCount;
+        }
+
+        @Nonnull
+        Segment shift(int shift) {
+            return shift == 0 ? this : new Segment(start + shift, text, offset, openGroupsCount, maxOpenGroupsCount);
+        }
+    }
+
+    /**
+     * Settings which affect the highlighting: segments are reused only if they haven't changed
+     */
+    private static final class Configuration {
+        @Nonnull
+        final Object tokens;
+        @Nonnull
+        final NumeralBase numeralBase;
+        // numeral base and number formatting of the default engine (MathType and number formatting depend on them)
+        @Nonnull
+        final EvaluationContext context;
+
+        Configuration(@Nonnull Engine engine) {
+            tokens = MathType.getTokensVersion(engine);
+            numeralBase = engine.getMathEngine().getNumeralBase();
+            context = JsclMathEngine.getInstance().getContext();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Configuration)) return false;
+
+            final Configuration that = (Configuration) o;
+            return tokens == that.tokens && numeralBase == that.numeralBase && context.equals(that.context);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = tokens.hashCode();
+            result = 31 * result + numeralBase.hashCode();
+            result = 31 * result + context.hashCode();
+            return result;
+        }
+    }
+
     private static class GroupSpan {
         final int start;
         final int end;
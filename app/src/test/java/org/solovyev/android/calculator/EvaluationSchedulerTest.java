@@ -0,0 +1,131 @@
+package org.solovyev.android.calculator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EvaluationSchedulerTest {
+
+    @Test
+    public void testShouldRunTask() throws Exception {
+        final EvaluationScheduler scheduler = new EvaluationScheduler(Tests.sameThreadExecutor());
+        final AtomicInteger runs = new AtomicInteger();
+        scheduler.schedule(new Counter(runs), 0);
+        scheduler.schedule(new Counter(runs), 0);
+        assertEquals(2, runs.get());
+        assertEquals(2, scheduler.getCompletedCount());
+        assertEquals(0, scheduler.getDroppedCount());
+        assertEquals(0, scheduler.getCancelledCount());
+    }
+
+    @Test
+    public void testShouldDropStaleTasks() throws Exception {
+        final List<Runnable> queue = new ArrayList<>();
+        final EvaluationScheduler scheduler = new EvaluationScheduler(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                queue.add(command);
+            }
+        });
+        final AtomicInteger stale = new AtomicInteger();
+        final AtomicInteger latest = new AtomicInteger();
+        scheduler.schedule(new Counter(stale), 0);
+        scheduler.schedule(new Counter(stale), 0);
+        scheduler.schedule(new Counter(latest), 0);
+        assertEquals(1, queue.size());
+        queue.get(0).run();
+        assertEquals(0, stale.get());
+        assertEquals(1, latest.get());
+        assertEquals(2, scheduler.getDroppedCount());
+        assertEquals(1, scheduler.getCompletedCount());
+    }
+
+    @Test
+    public void testShouldCoalesceDelayedTasks() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final EvaluationScheduler scheduler = new EvaluationScheduler(executor);
+            final AtomicInteger stale = new AtomicInteger();
+            final CountDownLatch latest = new CountDownLatch(1);
+            for (int i = 0; i < 10; i++) {
+                scheduler.schedule(new Counter(stale), 200);
+            }
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    latest.countDown();
+                }
+            }, 200);
+            assertTrue(latest.await(5, TimeUnit.SECONDS));
+            assertEquals(0, stale.get());
+            assertEquals(10, scheduler.getDroppedCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShouldInterruptRunningTask() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final EvaluationScheduler scheduler = new EvaluationScheduler(executor);
+            final CountDownLatch started = new CountDownLatch(1);
+            final AtomicBoolean interrupted = new AtomicBoolean();
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, 0);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            final CountDownLatch latest = new CountDownLatch(1);
+            final AtomicBoolean latestInterrupted = new AtomicBoolean(true);
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    latestInterrupted.set(Thread.currentThread().isInterrupted());
+                    latest.countDown();
+                }
+            }, 0);
+            assertTrue(latest.await(5, TimeUnit.SECONDS));
+            assertTrue(interrupted.get());
+            // interruption of the stale task doesn't leak to the next one
+            assertFalse(latestInterrupted.get());
+            assertEquals(1, scheduler.getCancelledCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class Counter implements Runnable {
+        private final AtomicInteger counter;
+
+        Counter(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void run() {
+            counter.incrementAndGet();
+        }
+    }
+}
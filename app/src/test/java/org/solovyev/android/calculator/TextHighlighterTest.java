@@ -32,6 +32,7 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricGradleTestRunner;
 import org.robolectric.annotation.Config;
 import org.solovyev.android.calculator.text.TextProcessor;
+import org.solovyev.android.calculator.text.TextProcessorEditorResult;
 import org.solovyev.android.calculator.view.TextHighlighter;
 
 import java.util.Date;
@@ -179,6 +180,53 @@ public class TextHighlighterTest {
         System.out.println("Total time, ms: " + (endTime - startTime));
     }
 
+    @Test
+    public void testIncrementalProcess() throws Exception {
+        final String[] tokens = {"1", "2", "0", "5", "sin", "cos", "(", ")", "+", "-", "E", ".", " ", "0x:", "F", "ln", "t", "!", "π", "√", "0b:", "^"};
+        final Random random = new Random(42);
+        for (boolean formatNumber : new boolean[]{true, false}) {
+            final TextHighlighter textHighlighter = new TextHighlighter(Color.WHITE, formatNumber, engine);
+            final StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                final int position = random.nextInt(text.length() + 1);
+                if (random.nextInt(3) > 0 || text.length() == 0) {
+                    text.insert(position, tokens[random.nextInt(tokens.length)]);
+                } else {
+                    text.delete(position, Math.min(text.length(), position + 1 + random.nextInt(3)));
+                }
+                final TextProcessorEditorResult expected = new TextHighlighter(Color.WHITE, formatNumber, engine).process(text.toString());
+                final TextProcessorEditorResult actual = textHighlighter.process(text.toString());
+                assertEquals(expected.toString(), actual.toString());
+                assertEquals(expected.getOffset(), actual.getOffset());
+            }
+        }
+    }
+
+    @Test
+    public void testIncrementalTime() throws Exception {
+        final String subExpression = "cos(acos(t8ln(t5t85tln(8ln(5t55tln(5))))))+tln(88cos(tln(t)))+t√(ln(t))+1000000";
+        for (int count : new int[]{1, 10, 100, 1000}) {
+            final StringBuilder expression = new StringBuilder(subExpression.length() * count);
+            for (int i = 0; i < count; i++) {
+                expression.append(subExpression);
+                expression.append("+");
+            }
+            final String text = expression.toString();
+            final int middle = text.length() / 2;
+
+            final TextHighlighter textHighlighter = new TextHighlighter(Color.WHITE, true, engine);
+            textHighlighter.process(text);
+            final int keystrokes = 100;
+            final long startTime = System.nanoTime();
+            for (int i = 0; i < keystrokes; i++) {
+                // type and erase a digit in the middle of the expression
+                textHighlighter.process(i % 2 == 0 ? text.substring(0, middle) + "5" + text.substring(middle) : text);
+            }
+            final long endTime = System.nanoTime();
+            System.out.println("Length: " + text.length() + ", time per keystroke, ms: " + (endTime - startTime) / 1000000d / keystrokes);
+        }
+    }
+
     @Test
     public void testDarkColor() throws Exception {
         final TextProcessor<?, String> textHighlighter = new TextHighlighter(Color.BLACK, false, engine);
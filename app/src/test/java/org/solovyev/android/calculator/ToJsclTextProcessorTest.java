@@ -26,6 +26,7 @@ import jscl.JsclMathEngine;
 import jscl.NumeralBase;
 import org.junit.Before;
 import org.junit.Test;
+import org.solovyev.android.calculator.variables.CppVariable;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -124,6 +125,15 @@ public class ToJsclTextProcessorTest {
         }
     }
 
+    @Test
+    public void testShouldRecognizeAddedVariables() throws Exception {
+        assertEquals("xy", preprocessor.process("xy").toString());
+
+        preprocessor.engine.getVariablesRegistry().addOrUpdate(CppVariable.builder("xy").withValue("2+x").build().toJsclConstant());
+        assertEquals("(2+x)", preprocessor.process("xy").toString());
+        assertEquals("3*(2+x)", preprocessor.process("3xy").toString());
+    }
+
     @Test
     public void testPostfixFunction() throws Exception {
     }
@@ -0,0 +1,66 @@
+package jscl.benchmarks;
+
+import jscl.compile.CompiledExpression;
+import jscl.compile.ExpressionCompiler;
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.function.Constant;
+import jscl.text.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluation of a function in one point (as done by plotter) via {@link Generic#numeric()} and via
+ * {@link CompiledExpression}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompiledExpressionBenchmark {
+
+    @Param({"x^2+2*x+1", "sin(x)*cos(x)+ln(x^2+1)", "x^0.5/(x^3+1)-exp(-x^2)"})
+    public String expression;
+
+    private final Constant x = new Constant("x");
+    private Generic generic;
+    private CompiledExpression compiled;
+    private double value;
+
+    @Setup
+    public void setUp() throws ParseException {
+        generic = Expression.valueOf(expression).expand();
+        compiled = ExpressionCompiler.compile(generic, x);
+    }
+
+    private double nextValue() {
+        value += 0.01;
+        if (value > 10) {
+            value = 0.01;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Generic numeric() {
+        return generic.substitute(x, Expression.valueOf(nextValue())).numeric();
+    }
+
+    @Benchmark
+    public double compiled() {
+        return compiled.evaluate(nextValue());
+    }
+}
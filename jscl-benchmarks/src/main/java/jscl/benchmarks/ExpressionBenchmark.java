@@ -0,0 +1,84 @@
+package jscl.benchmarks;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.text.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stages of expression evaluation as performed by {@link jscl.JsclMathEngine}: parsing,
+ * expansion, numeric evaluation and simplification. Each invocation processes the whole corpus of the given category.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    @Param({ExpressionCorpus.NUMERIC, ExpressionCorpus.SYMBOLIC})
+    public String category;
+
+    private List<String> expressions;
+    private Generic[] parsed;
+    private Generic[] expanded;
+
+    @Setup
+    public void setUp() throws ParseException {
+        expressions = ExpressionCorpus.load(category);
+        parsed = new Generic[expressions.size()];
+        expanded = new Generic[expressions.size()];
+        for (int i = 0; i < expressions.size(); i++) {
+            parsed[i] = Expression.valueOf(expressions.get(i));
+            expanded[i] = parsed[i].expand();
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) throws ParseException {
+        for (int i = 0; i < expressions.size(); i++) {
+            bh.consume(Expression.valueOf(expressions.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void expand(Blackhole bh) {
+        for (Generic generic : parsed) {
+            bh.consume(generic.expand());
+        }
+    }
+
+    @Benchmark
+    public void numeric(Blackhole bh) {
+        for (Generic generic : expanded) {
+            try {
+                bh.consume(generic.numeric());
+            } catch (ArithmeticException e) {
+                // symbolic expressions can't be evaluated numerically: the cost of the attempt is still measured
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void simplify(Blackhole bh) {
+        for (Generic generic : expanded) {
+            bh.consume(generic.simplify());
+        }
+    }
+}
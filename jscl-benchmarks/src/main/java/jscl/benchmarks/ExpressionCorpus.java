@@ -0,0 +1,64 @@
+package jscl.benchmarks;
+
+import au.com.bytecode.opencsv.CSVReader;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Expressions used as input for benchmarks. Expressions are read from tab separated <code>expressions.csv</code>
+ * (same format as test tables in jscl module) where each line contains an expression and its category.
+ */
+public final class ExpressionCorpus {
+
+    /**
+     * Expressions which evaluate to numbers, i.e. what user types in calculator
+     */
+    public static final String NUMERIC = "numeric";
+
+    /**
+     * Expressions with free variables which are to be expanded/simplified
+     */
+    public static final String SYMBOLIC = "symbolic";
+
+    private ExpressionCorpus() {
+        throw new AssertionError();
+    }
+
+    @Nonnull
+    public static List<String> load(@Nonnull String category) {
+        CSVReader reader = null;
+        try {
+            reader = new CSVReader(new InputStreamReader(ExpressionCorpus.class.getResourceAsStream("expressions.csv"), "UTF-8"), '\t');
+
+            // skip header
+            reader.readNext();
+
+            final List<String> expressions = new ArrayList<String>();
+            String[] line = reader.readNext();
+            for (; line != null; line = reader.readNext()) {
+                if (line.length >= 2 && category.equals(line[1])) {
+                    expressions.add(line[0]);
+                }
+            }
+            if (expressions.isEmpty()) {
+                throw new IllegalArgumentException("No expressions found for category: " + category);
+            }
+            return Collections.unmodifiableList(expressions);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+}
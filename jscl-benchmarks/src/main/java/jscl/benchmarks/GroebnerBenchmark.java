@@ -0,0 +1,120 @@
+package jscl.benchmarks;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import jscl.math.polynomial.Basis;
+import jscl.math.polynomial.Monomial;
+import jscl.text.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Gröbner bases of the standard benchmark ideals cyclic-n and katsura-n (both in n unknowns) in degree
+ * reverse lexicographic ordering computed by the block algorithm sequentially and with the pairs of a block reduced
+ * concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GroebnerBenchmark {
+
+    @Param({"cyclic4", "cyclic5", "katsura4", "katsura5"})
+    public String ideal;
+
+    private Generic[] generic;
+    private Variable[] unknown;
+
+    @Setup
+    public void setUp() throws ParseException {
+        final int n = Integer.parseInt(ideal.substring(ideal.length() - 1));
+        final String[] polynomials = ideal.startsWith("cyclic") ? cyclic(n) : katsura(n);
+        generic = new Generic[polynomials.length];
+        for (int i = 0; i < polynomials.length; i++) {
+            generic[i] = Expression.valueOf(polynomials[i]);
+        }
+        unknown = new Variable[polynomials.length];
+        for (int i = 0; i < unknown.length; i++) {
+            unknown[i] = Expression.valueOf("x" + i).variableValue();
+        }
+    }
+
+    /**
+     * @return sum over the cyclic shifts of x(i)*x(i+1)*...*x(i+k-1) for k = 1..n-1 and x0*x1*...*x(n-1)-1
+     */
+    static String[] cyclic(int n) {
+        final String[] result = new String[n];
+        for (int k = 1; k < n; k++) {
+            final StringBuilder sum = new StringBuilder();
+            for (int i = 0; i < n; i++) {
+                if (i > 0) {
+                    sum.append('+');
+                }
+                for (int j = 0; j < k; j++) {
+                    if (j > 0) {
+                        sum.append('*');
+                    }
+                    sum.append('x').append((i + j) % n);
+                }
+            }
+            result[k - 1] = sum.toString();
+        }
+        final StringBuilder product = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                product.append('*');
+            }
+            product.append('x').append(i);
+        }
+        result[n - 1] = product + "-1";
+        return result;
+    }
+
+    /**
+     * @return sum of x(|i|) over i = -n+1..n-1 minus 1 and sums of x(|i|)*x(|m-i|) minus x(m) for m = 0..n-2 (x(i)
+     * is 0 for i >= n)
+     */
+    static String[] katsura(int n) {
+        final String[] result = new String[n];
+        final StringBuilder linear = new StringBuilder("x0");
+        for (int i = 1; i < n; i++) {
+            linear.append("+2*x").append(i);
+        }
+        result[0] = linear + "-1";
+        for (int m = 0; m < n - 1; m++) {
+            final StringBuilder sum = new StringBuilder();
+            for (int i = -n + 1; i < n; i++) {
+                final int j = Math.abs(m - i);
+                if (j < n) {
+                    sum.append("+x").append(Math.abs(i)).append("*x").append(j);
+                }
+            }
+            result[m + 1] = sum.substring(1) + "-x" + m;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Basis block() {
+        return Basis.compute(generic, unknown, Monomial.degreeReverseLexicographic, 0, Basis.BLOCK);
+    }
+
+    @Benchmark
+    public Basis parallel() {
+        return Basis.compute(generic, unknown, Monomial.degreeReverseLexicographic, 0, Basis.PARALLEL);
+    }
+}
@@ -0,0 +1,75 @@
+package jscl.benchmarks;
+
+import jscl.math.Generic;
+import jscl.math.JsclInteger;
+import jscl.math.numeric.Numeric;
+import jscl.math.numeric.Real;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures determinant and inverse computation of symbolic ({@link jscl.math.Matrix}) and numeric
+ * ({@link jscl.math.numeric.Matrix}) matrices of small integer entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @Param({"3", "5", "7", "10"})
+    public int size;
+
+    private jscl.math.Matrix matrix;
+    private jscl.math.numeric.Matrix numericMatrix;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final Generic[][] elements = new Generic[size][size];
+        final Numeric[][] numericElements = new Numeric[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                final int value = random.nextInt(19) - 9;
+                elements[i][j] = JsclInteger.valueOf(value);
+                numericElements[i][j] = Real.valueOf(value);
+            }
+        }
+        matrix = new jscl.math.Matrix(elements);
+        numericMatrix = new jscl.math.numeric.Matrix(numericElements);
+    }
+
+    @Benchmark
+    public Generic determinant() {
+        return matrix.determinant();
+    }
+
+    @Benchmark
+    public Numeric numericDeterminant() {
+        return numericMatrix.determinant();
+    }
+
+    @Benchmark
+    public Generic inverse() {
+        return matrix.inverse();
+    }
+
+    @Benchmark
+    public Numeric numericInverse() {
+        return numericMatrix.inverse();
+    }
+}
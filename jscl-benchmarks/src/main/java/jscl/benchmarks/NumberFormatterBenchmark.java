@@ -0,0 +1,74 @@
+package jscl.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.solovyev.common.NumberFormatter;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NumberFormatter} on a fixed set of pseudo-random doubles and integers similar to what is shown in
+ * the calculator display and history.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NumberFormatterBenchmark {
+
+    private static final int COUNT = 100;
+
+    @Param({"10", "16", "2"})
+    public int radix;
+
+    @Param({"simple", "sci"})
+    public String format;
+
+    private final NumberFormatter formatter = new NumberFormatter();
+    private final double[] doubles = new double[COUNT];
+    private final BigInteger[] integers = new BigInteger[COUNT];
+
+    @Setup
+    public void setUp() {
+        if ("sci".equals(format)) {
+            formatter.useScientificFormat(NumberFormatter.DEFAULT_MAGNITUDE);
+        } else {
+            formatter.useSimpleFormat();
+        }
+        final Random random = new Random(42);
+        for (int i = 0; i < COUNT; i++) {
+            // mix of small/large magnitudes and signs
+            final double magnitude = Math.pow(10, random.nextInt(31) - 15);
+            doubles[i] = (random.nextBoolean() ? 1 : -1) * random.nextDouble() * magnitude;
+            integers[i] = new BigInteger(1 + random.nextInt(128), random);
+        }
+    }
+
+    @Benchmark
+    public void formatDouble(Blackhole bh) {
+        for (double value : doubles) {
+            bh.consume(formatter.format(value, radix));
+        }
+    }
+
+    @Benchmark
+    public void formatBigInteger(Blackhole bh) {
+        for (BigInteger value : integers) {
+            bh.consume(formatter.format(value, radix));
+        }
+    }
+}
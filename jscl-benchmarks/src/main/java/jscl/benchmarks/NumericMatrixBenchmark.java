@@ -0,0 +1,73 @@
+package jscl.benchmarks;
+
+import jscl.math.numeric.Matrix;
+import jscl.math.numeric.Numeric;
+import jscl.math.numeric.Real;
+import jscl.math.numeric.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures arithmetic of real-valued {@link jscl.math.numeric.Matrix} of larger sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumericMatrixBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private Matrix matrix;
+    private Vector vector;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final Numeric[][] elements = new Numeric[size][size];
+        final Numeric[] vectorElements = new Numeric[size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                elements[i][j] = Real.valueOf(random.nextGaussian());
+            }
+            vectorElements[i] = Real.valueOf(random.nextGaussian());
+        }
+        matrix = new Matrix(elements);
+        vector = new Vector(vectorElements);
+    }
+
+    @Benchmark
+    public Numeric multiply() {
+        return matrix.multiply(matrix);
+    }
+
+    @Benchmark
+    public Numeric multiplyVector() {
+        return matrix.multiply(vector);
+    }
+
+    @Benchmark
+    public Numeric determinant() {
+        return matrix.determinant();
+    }
+
+    @Benchmark
+    public Numeric inverse() {
+        return matrix.inverse();
+    }
+}
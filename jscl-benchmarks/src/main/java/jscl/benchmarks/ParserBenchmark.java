@@ -0,0 +1,53 @@
+package jscl.benchmarks;
+
+import jscl.math.Expression;
+import jscl.text.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of long expressions, i.e. the cost of backtracking in the recursive descent parser
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String[] TERMS = {"2.5*x", "sin(x)^2", "3/(x+1)", "ln(2)", "0x:FF", "[1, 2]*[3, 4]", "x!", "√(x)"};
+
+    @Param({"10", "100", "500"})
+    public int terms;
+
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < terms; i++) {
+            if (i > 0) {
+                sb.append(i % 2 == 0 ? " + " : " - ");
+            }
+            sb.append(TERMS[i % TERMS.length]);
+        }
+        expression = sb.toString();
+    }
+
+    @Benchmark
+    public Expression parse() throws ParseException {
+        return Expression.valueOf(expression);
+    }
+}
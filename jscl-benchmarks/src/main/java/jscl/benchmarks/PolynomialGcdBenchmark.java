@@ -0,0 +1,75 @@
+package jscl.benchmarks;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import jscl.math.polynomial.Polynomial;
+import jscl.text.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures gcd of univariate polynomials with integer coefficients <code>g * a</code> and <code>g * b</code> where
+ * <var>g</var>, <var>a</var> and <var>b</var> are random polynomials of the given degree, and simplification of the
+ * corresponding rational function.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PolynomialGcdBenchmark {
+
+    @Param({"3", "6", "12", "24"})
+    public int degree;
+
+    private Polynomial p;
+    private Polynomial q;
+    private Generic fraction;
+
+    @Setup
+    public void setUp() throws ParseException {
+        final Random random = new Random(42);
+        final String g = random(random, degree);
+        final String a = random(random, degree);
+        final String b = random(random, degree);
+        final Generic numerator = Expression.valueOf("(" + g + ")*(" + a + ")").expand();
+        final Generic denominator = Expression.valueOf("(" + g + ")*(" + b + ")").expand();
+        final Variable x = Expression.valueOf("x").variableValue();
+        p = Polynomial.factory(x).valueOf(numerator);
+        q = Polynomial.factory(x).valueOf(denominator);
+        fraction = Expression.valueOf("(" + numerator + ")/(" + denominator + ")");
+    }
+
+    private static String random(Random random, int degree) {
+        final StringBuilder result = new StringBuilder();
+        for (int i = degree; i >= 0; i--) {
+            final int c = random.nextInt(41) - 20;
+            result.append(c < 0 ? "-" : "+").append(i == degree ? Math.abs(c) + 1 : Math.abs(c)).append("*x^").append(i);
+        }
+        return result.substring(1);
+    }
+
+    @Benchmark
+    public Polynomial gcd() {
+        return p.gcd(q);
+    }
+
+    @Benchmark
+    public Generic simplify() {
+        return fraction.simplify();
+    }
+}
@@ -0,0 +1,126 @@
+package jscl;
+
+import jscl.math.function.Constants;
+import jscl.math.function.IConstant;
+import org.solovyev.common.math.AbstractMathRegistry;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the system constants by their double values, used to print a number which is exactly equal to a constant
+ * as the name of the constant. Lookups probe an open addressing table keyed by the bits of the value, i.e. a number
+ * which is not a constant costs one probe in most cases.
+ * <p/>
+ * The index is built from a version of the registry and must be rebuilt once the registry changes or the angle units
+ * of the default engine (which define the value of Π, see {@link jscl.math.function.PiConstant}) change.
+ */
+@Immutable
+final class ConstantsIndex {
+
+    private final long version;
+    @Nonnull
+    private final AngleUnit angleUnits;
+    private final int mask;
+    @Nonnull
+    private final long[] keys;
+    // constants with the value of the key in the order of the linear search, null for empty slots
+    @Nonnull
+    private final IConstant[][] constants;
+
+    private ConstantsIndex(long version, @Nonnull AngleUnit angleUnits, int capacity) {
+        this.version = version;
+        this.angleUnits = angleUnits;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.constants = new IConstant[capacity][];
+    }
+
+    /**
+     * @param registry   registry of the constants
+     * @param angleUnits angle units of the default engine
+     */
+    @Nonnull
+    static ConstantsIndex create(@Nonnull AbstractMathRegistry<IConstant> registry, @Nonnull AngleUnit angleUnits) {
+        // version is read first: if the registry changes concurrently the index is rebuilt on the next lookup
+        final long version = registry.getVersion();
+        final Map<Long, List<IConstant>> byValue = new LinkedHashMap<Long, List<IConstant>>();
+        for (IConstant constant : registry.getSystemEntities()) {
+            final String name = constant.getName();
+            if (!name.equals(Constants.PI_INV.getName()) && !name.equals(Constants.ANS)) {
+                put(byValue, constant);
+            }
+        }
+        // π is the last resort
+        final IConstant piInv = registry.get(Constants.PI_INV.getName());
+        if (piInv != null) {
+            put(byValue, piInv);
+        }
+
+        int capacity = 2;
+        while (capacity < 2 * byValue.size()) {
+            capacity <<= 1;
+        }
+        final ConstantsIndex index = new ConstantsIndex(version, angleUnits, capacity);
+        for (Map.Entry<Long, List<IConstant>> entry : byValue.entrySet()) {
+            final long key = entry.getKey();
+            int i = index.slot(key);
+            while (index.constants[i] != null) {
+                i = (i + 1) & index.mask;
+            }
+            index.keys[i] = key;
+            index.constants[i] = entry.getValue().toArray(new IConstant[entry.getValue().size()]);
+        }
+        return index;
+    }
+
+    private static void put(@Nonnull Map<Long, List<IConstant>> byValue, @Nonnull IConstant constant) {
+        final Double value = constant.getDoubleValue();
+        if (value == null) {
+            return;
+        }
+        final Long key = Double.doubleToLongBits(value);
+        List<IConstant> constants = byValue.get(key);
+        if (constants == null) {
+            constants = new ArrayList<IConstant>(1);
+            byValue.put(key, constants);
+        }
+        constants.add(constant);
+    }
+
+    boolean isUpToDate(long version, @Nonnull AngleUnit angleUnits) {
+        return this.version == version && this.angleUnits == angleUnits;
+    }
+
+    /**
+     * @param value      value to be found
+     * @param angleUnits angle units of the formatting context, Π is recognized only in radians
+     * @return constant which has exactly the same value or null
+     */
+    @Nullable
+    IConstant find(double value, @Nonnull AngleUnit angleUnits) {
+        final long key = Double.doubleToLongBits(value);
+        for (int i = slot(key); constants[i] != null; i = (i + 1) & mask) {
+            if (keys[i] != key) {
+                continue;
+            }
+            for (IConstant constant : constants[i]) {
+                if (!constant.getName().equals(Constants.PI.getName()) || angleUnits == AngleUnit.rad) {
+                    return constant;
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    private int slot(long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
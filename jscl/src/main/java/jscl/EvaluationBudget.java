@@ -0,0 +1,252 @@
+package jscl;
+
+import jscl.text.ParserUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits of an evaluation: wall-clock time, number of operations and number of terms of intermediate results.
+ * Long running loops (expansion, factorization, simplification, Gröbner bases, sums, products and numeric integrals)
+ * report their progress by {@link #check(String)} and {@link #checkTerms(String, int)} which throw
+ * {@link EvaluationBudgetExceededException} once any of the limits of the budget running in the current thread is
+ * exceeded. Both methods also abort the evaluation if the current thread is interrupted. Parallel computations run
+ * the budget in the worker threads, see {@link jscl.util.ParallelExecutor#invokeAll(java.util.List, String)}.
+ * <p/>
+ * A budget is started by {@link #start()} and stopped by {@link #stop(Meter)}, nested evaluations share the budget of
+ * the outermost one. {@link JsclMathEngine} does that for every evaluation, see
+ * {@link JsclMathEngine#setBudget(EvaluationBudget)}.
+ */
+@Immutable
+public final class EvaluationBudget {
+
+    public enum Limit {
+        time,
+        operations,
+        terms
+    }
+
+    // stages of an evaluation, see EvaluationBudgetExceededException#getStage()
+    public static final String EXPAND = "expand";
+    public static final String SIMPLIFY = "simplify";
+    public static final String FACTORIZE = "factorize";
+    public static final String FACTORIAL = "factorial";
+    // reduction of a polynomial modulo other polynomials (Gröbner bases, division, gcd)
+    public static final String REDUCE = "reduce";
+    public static final String GROEBNER = "groebner";
+    public static final String SUM = "sum";
+    public static final String PRODUCT = "product";
+    public static final String INTEGRATE = "integrate";
+
+    // 0 stands for no limit
+    @Nonnull
+    public static final EvaluationBudget UNLIMITED = new EvaluationBudget(0, 0, 0);
+
+    @Nonnull
+    private static final ThreadLocal<Meter> meters = new ThreadLocal<Meter>();
+
+    private final long timeout;
+    private final long maxOperations;
+    private final int maxTerms;
+
+    private EvaluationBudget(long timeout, long maxOperations, int maxTerms) {
+        this.timeout = timeout;
+        this.maxOperations = maxOperations;
+        this.maxTerms = maxTerms;
+    }
+
+    /**
+     * @return timeout in milliseconds, 0 if time is not limited
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public long getMaxOperations() {
+        return maxOperations;
+    }
+
+    public int getMaxTerms() {
+        return maxTerms;
+    }
+
+    public boolean isUnlimited() {
+        return timeout == 0 && maxOperations == 0 && maxTerms == 0;
+    }
+
+    /**
+     * @param timeout wall-clock time of an evaluation in milliseconds, 0 for no limit
+     */
+    @Nonnull
+    public EvaluationBudget withTimeout(long timeout) {
+        checkLimit(timeout);
+        if (this.timeout == timeout) {
+            return this;
+        }
+        return new EvaluationBudget(timeout, maxOperations, maxTerms);
+    }
+
+    /**
+     * @param maxOperations number of steps done by the loops of an evaluation, 0 for no limit
+     */
+    @Nonnull
+    public EvaluationBudget withMaxOperations(long maxOperations) {
+        checkLimit(maxOperations);
+        if (this.maxOperations == maxOperations) {
+            return this;
+        }
+        return new EvaluationBudget(timeout, maxOperations, maxTerms);
+    }
+
+    /**
+     * @param maxTerms number of terms of any intermediate expression or polynomial, 0 for no limit
+     */
+    @Nonnull
+    public EvaluationBudget withMaxTerms(int maxTerms) {
+        checkLimit(maxTerms);
+        if (this.maxTerms == maxTerms) {
+            return this;
+        }
+        return new EvaluationBudget(timeout, maxOperations, maxTerms);
+    }
+
+    private static void checkLimit(long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+    }
+
+    /**
+     * Starts this budget in the current thread unless another one is already running
+     *
+     * @return value to be passed to {@link #stop(Meter)} once the evaluation is done
+     */
+    @Nullable
+    public Meter start() {
+        final Meter current = meters.get();
+        if (current != null || isUnlimited()) {
+            return current;
+        }
+        meters.set(new Meter(this));
+        return null;
+    }
+
+    /**
+     * @param previous value returned by {@link #start()}
+     */
+    public static void stop(@Nullable Meter previous) {
+        if (previous == null) {
+            meters.remove();
+        }
+    }
+
+    /**
+     * @return budget running in the current thread, null if there is none
+     */
+    @Nullable
+    public static Meter current() {
+        return meters.get();
+    }
+
+    /**
+     * Runs the budget of another thread (see {@link #current()}) in the current thread, f.e. in a worker thread of a
+     * parallel computation. Operations of all the threads are counted together.
+     *
+     * @param meter budget to be run, null for no budget
+     * @return budget which was running in the current thread, to be restored by this method once the work is done
+     */
+    @Nullable
+    public static Meter attach(@Nullable Meter meter) {
+        final Meter previous = meters.get();
+        if (meter == null) {
+            meters.remove();
+        } else {
+            meters.set(meter);
+        }
+        return previous;
+    }
+
+    /**
+     * Counts one operation of <var>stage</var>
+     *
+     * @param stage name of the running stage of the evaluation, reported if the budget is exceeded
+     */
+    public static void check(@Nonnull String stage) {
+        ParserUtils.checkInterruption();
+        final Meter meter = meters.get();
+        if (meter != null) {
+            meter.check(stage);
+        }
+    }
+
+    /**
+     * @param stage name of the running stage of the evaluation, reported if the budget is exceeded
+     * @param terms number of terms of the current intermediate result of <var>stage</var>
+     */
+    public static void checkTerms(@Nonnull String stage, int terms) {
+        final Meter meter = meters.get();
+        if (meter != null && meter.budget.maxTerms > 0 && terms > meter.budget.maxTerms) {
+            throw new EvaluationBudgetExceededException(stage, Limit.terms);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EvaluationBudget)) return false;
+
+        final EvaluationBudget that = (EvaluationBudget) o;
+        return timeout == that.timeout && maxOperations == that.maxOperations && maxTerms == that.maxTerms;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (timeout ^ (timeout >>> 32));
+        result = 31 * result + (int) (maxOperations ^ (maxOperations >>> 32));
+        result = 31 * result + maxTerms;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationBudget{timeout=" + timeout + ", maxOperations=" + maxOperations + ", maxTerms=" + maxTerms
+                + "}";
+    }
+
+    /**
+     * Budget running in a thread (or in several threads, see {@link #attach(Meter)})
+     */
+    public static final class Meter {
+        @Nonnull
+        private final EvaluationBudget budget;
+        // System.nanoTime() after which evaluation is aborted
+        private final long deadline;
+        @Nonnull
+        private final AtomicLong operations = new AtomicLong();
+
+        private Meter(@Nonnull EvaluationBudget budget) {
+            this.budget = budget;
+            this.deadline = budget.timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budget.timeout) : 0;
+        }
+
+        /**
+         * @return nanoseconds left till the evaluation is aborted (negative if the time is over), Long.MAX_VALUE if
+         * time is not limited
+         */
+        public long getRemainingNanos() {
+            return deadline == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+        }
+
+        private void check(@Nonnull String stage) {
+            if (budget.maxOperations > 0 && operations.incrementAndGet() > budget.maxOperations) {
+                throw new EvaluationBudgetExceededException(stage, Limit.operations);
+            }
+            if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                throw new EvaluationBudgetExceededException(stage, Limit.time);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package jscl;
+
+import jscl.text.msg.Messages;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Thrown when an evaluation exceeds its {@link EvaluationBudget}
+ */
+public class EvaluationBudgetExceededException extends JsclArithmeticException {
+
+    @Nonnull
+    private final String stage;
+    @Nonnull
+    private final EvaluationBudget.Limit limit;
+
+    public EvaluationBudgetExceededException(@Nonnull String stage, @Nonnull EvaluationBudget.Limit limit) {
+        super(Messages.msg_26, stage, limit.name());
+        this.stage = stage;
+        this.limit = limit;
+    }
+
+    /**
+     * @return stage of the evaluation which has exceeded the budget, f.e. "expand" or "groebner"
+     */
+    @Nonnull
+    public String getStage() {
+        return stage;
+    }
+
+    @Nonnull
+    public EvaluationBudget.Limit getLimit() {
+        return limit;
+    }
+}
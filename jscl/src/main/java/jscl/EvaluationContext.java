@@ -0,0 +1,135 @@
+package jscl;
+
+import org.solovyev.common.NumberFormatter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import static midpcalc.Real.NumberFormat.FSE_ENG;
+import static midpcalc.Real.NumberFormat.FSE_NONE;
+import static midpcalc.Real.NumberFormat.FSE_SCI;
+
+/**
+ * Immutable settings of an evaluation: angle units, numeral base and output number formatting. The engine keeps
+ * default settings (see {@link JsclMathEngine#getContext()}) which might be overridden for the current thread, e.g.
+ * {@link JsclMathEngine#evaluate(String, EvaluationContext)} evaluates an expression with the given settings without
+ * affecting evaluations done concurrently by other threads.
+ */
+@Immutable
+public final class EvaluationContext {
+
+    @Nonnull
+    public static final EvaluationContext DEFAULT = new EvaluationContext(AngleUnit.deg, NumeralBase.dec,
+            NumberFormatter.MAX_PRECISION, FSE_NONE, NumberFormatter.NO_GROUPING);
+
+    @Nonnull
+    private final AngleUnit angleUnits;
+    @Nonnull
+    private final NumeralBase numeralBase;
+    private final int precision;
+    private final int notation;
+    private final char groupingSeparator;
+
+    private EvaluationContext(@Nonnull AngleUnit angleUnits, @Nonnull NumeralBase numeralBase, int precision,
+                              int notation, char groupingSeparator) {
+        this.angleUnits = angleUnits;
+        this.numeralBase = numeralBase;
+        this.precision = precision;
+        this.notation = notation;
+        this.groupingSeparator = groupingSeparator;
+    }
+
+    @Nonnull
+    public AngleUnit getAngleUnits() {
+        return angleUnits;
+    }
+
+    @Nonnull
+    public NumeralBase getNumeralBase() {
+        return numeralBase;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public int getNotation() {
+        return notation;
+    }
+
+    public char getGroupingSeparator() {
+        return groupingSeparator;
+    }
+
+    @Nonnull
+    public EvaluationContext withAngleUnits(@Nonnull AngleUnit angleUnits) {
+        if (this.angleUnits == angleUnits) {
+            return this;
+        }
+        return new EvaluationContext(angleUnits, numeralBase, precision, notation, groupingSeparator);
+    }
+
+    @Nonnull
+    public EvaluationContext withNumeralBase(@Nonnull NumeralBase numeralBase) {
+        if (this.numeralBase == numeralBase) {
+            return this;
+        }
+        return new EvaluationContext(angleUnits, numeralBase, precision, notation, groupingSeparator);
+    }
+
+    @Nonnull
+    public EvaluationContext withPrecision(int precision) {
+        if (this.precision == precision) {
+            return this;
+        }
+        return new EvaluationContext(angleUnits, numeralBase, precision, notation, groupingSeparator);
+    }
+
+    @Nonnull
+    public EvaluationContext withNotation(int notation) {
+        if (notation != FSE_SCI && notation != FSE_ENG && notation != FSE_NONE) {
+            throw new IllegalArgumentException("Unsupported notation: " + notation);
+        }
+        if (this.notation == notation) {
+            return this;
+        }
+        return new EvaluationContext(angleUnits, numeralBase, precision, notation, groupingSeparator);
+    }
+
+    @Nonnull
+    public EvaluationContext withGroupingSeparator(char groupingSeparator) {
+        if (this.groupingSeparator == groupingSeparator) {
+            return this;
+        }
+        return new EvaluationContext(angleUnits, numeralBase, precision, notation, groupingSeparator);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EvaluationContext)) return false;
+
+        final EvaluationContext that = (EvaluationContext) o;
+        return angleUnits == that.angleUnits
+                && numeralBase == that.numeralBase
+                && precision == that.precision
+                && notation == that.notation
+                && groupingSeparator == that.groupingSeparator;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = angleUnits.hashCode();
+        result = 31 * result + numeralBase.hashCode();
+        result = 31 * result + precision;
+        result = 31 * result + notation;
+        result = 31 * result + (int) groupingSeparator;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationContext{angleUnits=" + angleUnits + ", numeralBase=" + numeralBase + ", precision="
+                + precision + ", notation=" + notation + ", groupingSeparator='" + groupingSeparator + "'}";
+    }
+}
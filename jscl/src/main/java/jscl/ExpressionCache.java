@@ -0,0 +1,149 @@
+package jscl;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.text.ParseException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of parsed expressions and of the results of their evaluation. Entries are keyed by the expression
+ * text, numeral base and angle units and are all dropped once the version of the registries changes (i.e. a function
+ * or a variable has been added, changed or removed).
+ */
+@ThreadSafe
+public final class ExpressionCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    @GuardedBy("this")
+    @Nonnull
+    private final Map<Key, Entry> entries;
+    @GuardedBy("this")
+    private long version;
+    @Nonnull
+    private final AtomicLong hits = new AtomicLong();
+    @Nonnull
+    private final AtomicLong misses = new AtomicLong();
+
+    public ExpressionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ExpressionCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        // Entry of the anonymous subclass would be Map.Entry
+        this.entries = new LinkedHashMap<Key, ExpressionCache.Entry>(2 * capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ExpressionCache.Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached entry for <var>expression</var> parsing it if necessary. Note that parsing is done outside of
+     * the lock and the same expression might be parsed twice by concurrent callers.
+     *
+     * @param expression expression to be parsed
+     * @param nb         numeral base used for parsing
+     * @param angleUnits angle units used for evaluation
+     * @param version    current version of the registries
+     * @return cache entry for the expression
+     * @throws ParseException if the expression can't be parsed
+     */
+    @Nonnull
+    Entry get(@Nonnull String expression, @Nonnull NumeralBase nb, @Nonnull AngleUnit angleUnits, long version) throws ParseException {
+        final Key key = new Key(expression, nb, angleUnits);
+        synchronized (this) {
+            if (this.version != version) {
+                entries.clear();
+                this.version = version;
+            }
+            final Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry;
+            }
+        }
+        misses.incrementAndGet();
+        final Entry entry = new Entry(Expression.valueOf(expression));
+        synchronized (this) {
+            if (this.version == version) {
+                entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    static final class Entry {
+        @Nonnull
+        final Generic parsed;
+        @Nullable
+        volatile Generic numeric;
+        @Nullable
+        volatile Generic simplified;
+        @Nullable
+        volatile Generic elementary;
+
+        Entry(@Nonnull Generic parsed) {
+            this.parsed = parsed;
+        }
+    }
+
+    private static final class Key {
+        @Nonnull
+        private final String expression;
+        @Nonnull
+        private final NumeralBase nb;
+        @Nonnull
+        private final AngleUnit angleUnits;
+
+        Key(@Nonnull String expression, @Nonnull NumeralBase nb, @Nonnull AngleUnit angleUnits) {
+            this.expression = expression;
+            this.nb = nb;
+            this.angleUnits = angleUnits;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            final Key that = (Key) o;
+            return nb == that.nb && angleUnits == that.angleUnits && expression.equals(that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = expression.hashCode();
+            result = 31 * result + nb.hashCode();
+            result = 31 * result + angleUnits.hashCode();
+            return result;
+        }
+    }
+}
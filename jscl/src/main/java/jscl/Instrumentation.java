@@ -0,0 +1,231 @@
+package jscl;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters and timers of evaluations, f.e. the number of pairs processed by the Gröbner basis computation or the time
+ * spent on parsing. Collection is off by default: then every probe costs one branch on a flag and nothing is computed.
+ * Once enabled by {@link #setEnabled(boolean)} the values are accumulated in all threads (see {@link #snapshot()})
+ * and reported to the {@link Listener} if one is set.
+ * <p/>
+ * Probes are placed as follows:
+ * <pre>
+ * Instrumentation.count(Counter.groebner_pairs);
+ *
+ * final long start = Instrumentation.start();
+ * ...
+ * Instrumentation.stop(Timer.parse, start);
+ * </pre>
+ * Arguments of the probes which are not trivial to compute should be guarded by {@link #isEnabled()}.
+ */
+@ThreadSafe
+public final class Instrumentation {
+
+    public enum Counter {
+        // pairs of polynomials reduced during the computation of Gröbner bases
+        groebner_pairs,
+        // polynomials added to Gröbner bases, the value is the number of terms of a polynomial
+        groebner_polynomials,
+        // final reductions of the elements of Gröbner bases, the value is the number of terms of the result
+        groebner_reductions,
+        factorizations,
+        linearizations,
+        simplifications,
+        antiderivatives
+    }
+
+    public enum Timer {
+        parse,
+        expand,
+        numeric,
+        simplify,
+        elementary,
+        groebner
+    }
+
+    /**
+     * Receives the events in the thread which has produced them, must be fast and thread-safe
+     */
+    public interface Listener {
+
+        /**
+         * @param value 1 or the value of the event, f.e. number of terms of a polynomial
+         */
+        void onCount(@Nonnull Counter counter, long value);
+
+        void onTime(@Nonnull Timer timer, long nanos);
+    }
+
+    // number of values per counter or timer: count of events, sum of values, maximal value
+    private static final int STATS = 3;
+
+    private static volatile boolean enabled;
+    @Nullable
+    private static volatile Listener listener;
+    @Nonnull
+    private static final AtomicLongArray counters = new AtomicLongArray(STATS * Counter.values().length);
+    @Nonnull
+    private static final AtomicLongArray timers = new AtomicLongArray(STATS * Timer.values().length);
+
+    private Instrumentation() {
+        throw new AssertionError();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Instrumentation.enabled = enabled;
+    }
+
+    public static void setListener(@Nullable Listener listener) {
+        Instrumentation.listener = listener;
+    }
+
+    public static void count(@Nonnull Counter counter) {
+        if (enabled) {
+            record(counter, 1);
+        }
+    }
+
+    /**
+     * @param value value of the event, f.e. size of an intermediate result
+     */
+    public static void count(@Nonnull Counter counter, long value) {
+        if (enabled) {
+            record(counter, value);
+        }
+    }
+
+    /**
+     * @return value to be passed to {@link #stop(Timer, long)}
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param start value returned by {@link #start()}, nothing is recorded if instrumentation was disabled at the
+     *              start
+     */
+    public static void stop(@Nonnull Timer timer, long start) {
+        if (start != 0) {
+            final long nanos = System.nanoTime() - start;
+            add(timers, timer.ordinal(), nanos);
+            final Listener listener = Instrumentation.listener;
+            if (listener != null) {
+                listener.onTime(timer, nanos);
+            }
+        }
+    }
+
+    private static void record(@Nonnull Counter counter, long value) {
+        add(counters, counter.ordinal(), value);
+        final Listener listener = Instrumentation.listener;
+        if (listener != null) {
+            listener.onCount(counter, value);
+        }
+    }
+
+    private static void add(@Nonnull AtomicLongArray stats, int index, long value) {
+        final int i = STATS * index;
+        stats.incrementAndGet(i);
+        stats.addAndGet(i + 1, value);
+        while (true) {
+            final long max = stats.get(i + 2);
+            if (value <= max || stats.compareAndSet(i + 2, max, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return values accumulated since the last {@link #reset()}
+     */
+    @Nonnull
+    public static Snapshot snapshot() {
+        return new Snapshot(copy(counters), copy(timers));
+    }
+
+    public static void reset() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+        for (int i = 0; i < timers.length(); i++) {
+            timers.set(i, 0);
+        }
+    }
+
+    @Nonnull
+    private static long[] copy(@Nonnull AtomicLongArray stats) {
+        final long[] result = new long[stats.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = stats.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Values of the counters and the timers at some point of time. Values of concurrently running evaluations might
+     * be not consistent with each other
+     */
+    @Immutable
+    public static final class Snapshot {
+        @Nonnull
+        private final long[] counters;
+        @Nonnull
+        private final long[] timers;
+
+        private Snapshot(@Nonnull long[] counters, @Nonnull long[] timers) {
+            this.counters = counters;
+            this.timers = timers;
+        }
+
+        public long getCount(@Nonnull Counter counter) {
+            return counters[STATS * counter.ordinal()];
+        }
+
+        /**
+         * @return sum of the values of the events
+         */
+        public long getTotal(@Nonnull Counter counter) {
+            return counters[STATS * counter.ordinal() + 1];
+        }
+
+        public long getMax(@Nonnull Counter counter) {
+            return counters[STATS * counter.ordinal() + 2];
+        }
+
+        public long getCount(@Nonnull Timer timer) {
+            return timers[STATS * timer.ordinal()];
+        }
+
+        public long getTotalNanos(@Nonnull Timer timer) {
+            return timers[STATS * timer.ordinal() + 1];
+        }
+
+        public long getMaxNanos(@Nonnull Timer timer) {
+            return timers[STATS * timer.ordinal() + 2];
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder result = new StringBuilder();
+            for (Counter counter : Counter.values()) {
+                result.append(counter).append(": count=").append(getCount(counter)).append(", total=")
+                        .append(getTotal(counter)).append(", max=").append(getMax(counter)).append('\n');
+            }
+            for (Timer timer : Timer.values()) {
+                result.append(timer).append(": count=").append(getCount(timer)).append(", total=")
+                        .append(getTotalNanos(timer) / 1000).append("us, max=").append(getMaxNanos(timer) / 1000)
+                        .append("us\n");
+            }
+            return result.toString();
+        }
+    }
+}
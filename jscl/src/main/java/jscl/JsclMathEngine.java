@@ -26,19 +26,21 @@ import static midpcalc.Real.NumberFormat.FSE_SCI;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigInteger;
-import java.util.List;
 
 import static midpcalc.Real.NumberFormat.*;
 
 public class JsclMathEngine implements MathEngine {
 
-    public static final AngleUnit DEFAULT_ANGLE_UNITS = AngleUnit.deg;
-    public static final NumeralBase DEFAULT_NUMERAL_BASE = NumeralBase.dec;
+    public static final AngleUnit DEFAULT_ANGLE_UNITS = EvaluationContext.DEFAULT.getAngleUnits();
+    public static final NumeralBase DEFAULT_NUMERAL_BASE = EvaluationContext.DEFAULT.getNumeralBase();
     public static final char GROUPING_SEPARATOR_DEFAULT = ' ';
     @Nonnull
     private static JsclMathEngine instance = new JsclMathEngine();
     @Nonnull
     private final ConstantsRegistry constantsRegistry = new ConstantsRegistry();
+    // system constants by their values, rebuilt lazily by #findConstant(double, AngleUnit)
+    @Nullable
+    private volatile ConstantsIndex constantsIndex;
     @Nonnull
     private final ThreadLocal<NumberFormatter> numberFormatter = new ThreadLocal<NumberFormatter>() {
         @Override
@@ -46,15 +48,19 @@ public class JsclMathEngine implements MathEngine {
             return new NumberFormatter();
         }
     };
-    private char groupingSeparator = NumberFormatter.NO_GROUPING;
-    private int notation = FSE_NONE;
-    private int precision = NumberFormatter.MAX_PRECISION;
+    // settings of the engine, replaced as a whole by the setters
     @Nonnull
-    private AngleUnit angleUnits = DEFAULT_ANGLE_UNITS;
+    private volatile EvaluationContext context = EvaluationContext.DEFAULT;
+    // settings overriding the ones of any engine in the current thread (evaluation reads the settings of the default
+    // engine, see #getCacheEntry(String))
     @Nonnull
-    private NumeralBase numeralBase = DEFAULT_NUMERAL_BASE;
+    private static final ThreadLocal<EvaluationContext> threadContext = new ThreadLocal<EvaluationContext>();
     @Nonnull
     private MessageRegistry messageRegistry = Messages.synchronizedMessageRegistry(new FixedCapacityListMessageRegistry(10));
+    @Nonnull
+    private final ExpressionCache cache = new ExpressionCache();
+    @Nonnull
+    private volatile EvaluationBudget budget = EvaluationBudget.UNLIMITED;
 
     public JsclMathEngine() {
     }
@@ -79,27 +85,211 @@ public class JsclMathEngine implements MathEngine {
         return elementaryGeneric(expression).toString();
     }
 
+    /**
+     * Evaluates <var>expression</var> with the given settings, the settings of the engine are not changed and other
+     * threads might evaluate expressions concurrently with different settings
+     */
+    @Nonnull
+    public String evaluate(@Nonnull String expression, @Nonnull EvaluationContext context) throws ParseException {
+        final EvaluationContext previous = setThreadContext(context);
+        try {
+            return evaluate(expression);
+        } finally {
+            setThreadContext(previous);
+        }
+    }
+
+    @Nonnull
+    public String simplify(@Nonnull String expression, @Nonnull EvaluationContext context) throws ParseException {
+        final EvaluationContext previous = setThreadContext(context);
+        try {
+            return simplify(expression);
+        } finally {
+            setThreadContext(previous);
+        }
+    }
+
+    @Nonnull
+    public String elementary(@Nonnull String expression, @Nonnull EvaluationContext context) throws ParseException {
+        final EvaluationContext previous = setThreadContext(context);
+        try {
+            return elementary(expression);
+        } finally {
+            setThreadContext(previous);
+        }
+    }
+
+    /**
+     * @return settings used by the current thread: the ones set by {@link #setThreadContext(EvaluationContext)} or,
+     * if there are none, the settings of the engine
+     */
+    @Nonnull
+    public EvaluationContext getContext() {
+        final EvaluationContext context = threadContext.get();
+        return context != null ? context : this.context;
+    }
+
+    /**
+     * @return settings set by {@link #setThreadContext(EvaluationContext)} in the current thread, null if there are
+     * none
+     */
+    @Nullable
+    public EvaluationContext getThreadContext() {
+        return threadContext.get();
+    }
+
+    /**
+     * Overrides the settings of the engines in the current thread. Parsing, evaluation and formatting done by the
+     * thread use <var>context</var> until the previous value is restored.
+     *
+     * @param context settings to be used by the current thread, null to use the settings of the engine
+     * @return previous settings of the current thread (might be null)
+     */
+    @Nullable
+    public EvaluationContext setThreadContext(@Nullable EvaluationContext context) {
+        final EvaluationContext previous = threadContext.get();
+        if (context != null) {
+            threadContext.set(context);
+        } else {
+            threadContext.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Replaces the settings of the engine, threads which have their own settings are not affected
+     */
+    public void setContext(@Nonnull EvaluationContext context) {
+        this.context = context;
+    }
+
     @Nonnull
     public Generic evaluateGeneric(@Nonnull String expression) throws ParseException {
-        if (expression.contains(Percent.NAME) || expression.contains(Rand.NAME)) {
+        if (expression.contains(Rand.NAME)) {
+            // random numbers can't be cached
             return Expression.valueOf(expression).numeric();
-        } else {
-            return Expression.valueOf(expression).expand().numeric();
         }
+        final ExpressionCache.Entry entry = getCacheEntry(expression);
+        Generic result = entry.numeric;
+        if (result == null) {
+            final boolean cacheable = !hasMessage();
+            final EvaluationBudget.Meter meter = budget.start();
+            try {
+                final Generic expanded = expression.contains(Percent.NAME) ? entry.parsed : expand(entry.parsed);
+                final long start = Instrumentation.start();
+                result = expanded.numeric();
+                Instrumentation.stop(Instrumentation.Timer.numeric, start);
+            } finally {
+                EvaluationBudget.stop(meter);
+            }
+            if (cacheable && !hasMessage()) {
+                entry.numeric = result;
+            }
+        }
+        return result;
     }
 
     @Nonnull
     public Generic simplifyGeneric(@Nonnull String expression) throws ParseException {
-        if (expression.contains(Percent.NAME) || expression.contains(Rand.NAME)) {
+        if (expression.contains(Rand.NAME)) {
+            // random numbers can't be cached
             return Expression.valueOf(expression);
-        } else {
-            return Expression.valueOf(expression).expand().simplify();
         }
+        final ExpressionCache.Entry entry = getCacheEntry(expression);
+        if (expression.contains(Percent.NAME)) {
+            return entry.parsed;
+        }
+        Generic result = entry.simplified;
+        if (result == null) {
+            final boolean cacheable = !hasMessage();
+            final EvaluationBudget.Meter meter = budget.start();
+            try {
+                final Generic expanded = expand(entry.parsed);
+                final long start = Instrumentation.start();
+                result = expanded.simplify();
+                Instrumentation.stop(Instrumentation.Timer.simplify, start);
+            } finally {
+                EvaluationBudget.stop(meter);
+            }
+            if (cacheable && !hasMessage()) {
+                entry.simplified = result;
+            }
+        }
+        return result;
     }
 
     @Nonnull
     public Generic elementaryGeneric(@Nonnull String expression) throws ParseException {
-        return Expression.valueOf(expression).elementary();
+        if (expression.contains(Rand.NAME)) {
+            // random numbers can't be cached
+            return Expression.valueOf(expression).elementary();
+        }
+        final ExpressionCache.Entry entry = getCacheEntry(expression);
+        Generic result = entry.elementary;
+        if (result == null) {
+            final boolean cacheable = !hasMessage();
+            final EvaluationBudget.Meter meter = budget.start();
+            try {
+                final long start = Instrumentation.start();
+                result = entry.parsed.elementary();
+                Instrumentation.stop(Instrumentation.Timer.elementary, start);
+            } finally {
+                EvaluationBudget.stop(meter);
+            }
+            if (cacheable && !hasMessage()) {
+                entry.elementary = result;
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Generic expand(@Nonnull Generic generic) {
+        final long start = Instrumentation.start();
+        final Generic result = generic.expand();
+        Instrumentation.stop(Instrumentation.Timer.expand, start);
+        return result;
+    }
+
+    @Nonnull
+    public EvaluationBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Limits every evaluation done by {@link #evaluateGeneric(String)}, {@link #simplifyGeneric(String)} and
+     * {@link #elementaryGeneric(String)}: {@link EvaluationBudgetExceededException} is thrown once the budget is
+     * exceeded
+     */
+    public void setBudget(@Nonnull EvaluationBudget budget) {
+        this.budget = budget;
+    }
+
+    @Nonnull
+    private ExpressionCache.Entry getCacheEntry(@Nonnull String expression) throws ParseException {
+        // parsing and evaluation always use the settings and the registries of the default engine
+        final JsclMathEngine engine = getInstance();
+        final long version = engine.getFunctionsRegistry().getVersion()
+                + engine.getConstantsRegistry().getVersion()
+                + engine.getOperatorsRegistry().getVersion()
+                + engine.getPostfixFunctionsRegistry().getVersion();
+        final EvaluationContext context = getContext();
+        return cache.get(expression, context.getNumeralBase(), context.getAngleUnits(), version);
+    }
+
+    private static boolean hasMessage() {
+        // evaluation reports its messages to the default engine, values with messages are not cached as otherwise
+        // the messages would be lost on subsequent evaluations
+        return getInstance().getMessageRegistry().hasMessage();
+    }
+
+    /**
+     * @return cache of the parsed expressions and their values used by {@link #evaluateGeneric(String)},
+     * {@link #simplifyGeneric(String)} and {@link #elementaryGeneric(String)}
+     */
+    @Nonnull
+    public ExpressionCache getCache() {
+        return cache;
     }
 
     @Nonnull
@@ -119,20 +309,20 @@ public class JsclMathEngine implements MathEngine {
 
     @Nonnull
     public AngleUnit getAngleUnits() {
-        return angleUnits;
+        return getContext().getAngleUnits();
     }
 
-    public void setAngleUnits(@Nonnull AngleUnit angleUnits) {
-        this.angleUnits = angleUnits;
+    public synchronized void setAngleUnits(@Nonnull AngleUnit angleUnits) {
+        context = context.withAngleUnits(angleUnits);
     }
 
     @Nonnull
     public NumeralBase getNumeralBase() {
-        return numeralBase;
+        return getContext().getNumeralBase();
     }
 
-    public void setNumeralBase(@Nonnull NumeralBase numeralBase) {
-        this.numeralBase = numeralBase;
+    public synchronized void setNumeralBase(@Nonnull NumeralBase numeralBase) {
+        context = context.withNumeralBase(numeralBase);
     }
 
     @Nonnull
@@ -142,7 +332,7 @@ public class JsclMathEngine implements MathEngine {
 
     @Nonnull
     public String format(double value) {
-        return format(value, numeralBase);
+        return format(value, getNumeralBase());
     }
 
     @Nonnull
@@ -154,24 +344,25 @@ public class JsclMathEngine implements MathEngine {
             // return "NaN"
             return String.valueOf(value);
         }
+        final EvaluationContext context = getContext();
         if (nb == NumeralBase.dec) {
             if (value == 0d) {
                 return "0";
             }
             // detect if current number is precisely equals to constant in constants' registry  (NOTE: ONLY FOR SYSTEM CONSTANTS)
-            final IConstant constant = findConstant(value);
+            final IConstant constant = findConstant(value, context.getAngleUnits());
             if (constant != null) {
                 return constant.getName();
             }
         }
-        return prepareNumberFormatter(nb).format(value, nb.radix).toString();
+        return prepareNumberFormatter(context, nb).format(value, nb.radix).toString();
     }
 
-    private NumberFormatter prepareNumberFormatter(@Nonnull NumeralBase nb) {
+    private NumberFormatter prepareNumberFormatter(@Nonnull EvaluationContext context, @Nonnull NumeralBase nb) {
         final NumberFormatter nf = numberFormatter.get();
-        nf.setGroupingSeparator(hasGroupingSeparator() ? getGroupingSeparator(nb) : NumberFormatter.NO_GROUPING);
-        nf.setPrecision(precision);
-        switch (notation) {
+        nf.setGroupingSeparator(hasGroupingSeparator(context) ? getGroupingSeparator(context, nb) : NumberFormatter.NO_GROUPING);
+        nf.setPrecision(context.getPrecision());
+        switch (context.getNotation()) {
             case FSE_ENG:
                 nf.useEngineeringFormat(NumberFormatter.DEFAULT_MAGNITUDE);
                 break;
@@ -187,7 +378,7 @@ public class JsclMathEngine implements MathEngine {
 
     @Override
     public String format(@Nonnull BigInteger value) {
-        return format(value, numeralBase);
+        return format(value, getNumeralBase());
     }
 
     @Nonnull
@@ -197,23 +388,28 @@ public class JsclMathEngine implements MathEngine {
                 return "0";
             }
         }
-        return prepareNumberFormatter(nb).format(value, nb.radix).toString();
+        return prepareNumberFormatter(getContext(), nb).format(value, nb.radix).toString();
+    }
+
+    /**
+     * Formats all the digits of <var>value</var> while {@link #format(BigInteger, NumeralBase)} prints big numbers in
+     * scientific notation
+     */
+    @Nonnull
+    public String formatAllDigits(@Nonnull BigInteger value, @Nonnull NumeralBase nb) {
+        return prepareNumberFormatter(getContext(), nb).formatAllDigits(value, nb.radix).toString();
     }
 
     @Nullable
-    private IConstant findConstant(double value) {
-        final IConstant constant = findConstant(constantsRegistry.getSystemEntities(), value);
-        if (constant != null) {
-            return constant;
+    private IConstant findConstant(double value, @Nonnull AngleUnit angleUnits) {
+        // value of Π depends on the angle units of the default engine, see PiConstant
+        final AngleUnit piAngleUnits = getInstance().getAngleUnits();
+        ConstantsIndex index = constantsIndex;
+        if (index == null || !index.isUpToDate(constantsRegistry.getVersion(), piAngleUnits)) {
+            index = ConstantsIndex.create(constantsRegistry, piAngleUnits);
+            constantsIndex = index;
         }
-        final IConstant piInv = constantsRegistry.get(Constants.PI_INV.getName());
-        if (piInv != null) {
-            final Double piInvValue = piInv.getDoubleValue();
-            if (piInvValue != null && piInvValue == value) {
-                return piInv;
-            }
-        }
-        return null;
+        return index.find(value, angleUnits);
     }
 
     private String formatInfinity(@Nonnull Double value) {
@@ -225,24 +421,6 @@ public class JsclMathEngine implements MathEngine {
         }
     }
 
-    @Nullable
-    private IConstant findConstant(@Nonnull List<IConstant> constants, @Nonnull Double value) {
-        for (int i = 0; i < constants.size(); i++) {
-            final IConstant constant = constants.get(i);
-            if (!value.equals(constant.getDoubleValue())) {
-                continue;
-            }
-            final String name = constant.getName();
-            if (name.equals(Constants.PI_INV.getName()) || name.equals(Constants.ANS)) {
-                continue;
-            }
-            if (!name.equals(Constants.PI.getName()) || getAngleUnits() == AngleUnit.rad) {
-                return constant;
-            }
-        }
-        return null;
-    }
-
     @Nonnull
     public MessageRegistry getMessageRegistry() {
         return messageRegistry;
@@ -255,25 +433,31 @@ public class JsclMathEngine implements MathEngine {
     @Nonnull
     @Override
     public String format(@Nonnull String value, @Nonnull NumeralBase nb) {
-        if (!hasGroupingSeparator()) {
+        final EvaluationContext context = getContext();
+        if (!hasGroupingSeparator(context)) {
             return value;
         }
         final int dot = value.indexOf('.');
         if (dot >= 0) {
-            final String intPart = dot != 0 ? insertSeparators(value.substring(0, dot), nb) : "";
+            final String intPart = dot != 0 ? insertSeparators(value.substring(0, dot), context, nb) : "";
             return intPart + value.substring(dot);
         }
         final int e = nb == NumeralBase.hex ? -1 : value.indexOf('E');
         if (e >= 0) {
-            final String intPart = e != 0 ? insertSeparators(value.substring(0, e), nb) : "";
+            final String intPart = e != 0 ? insertSeparators(value.substring(0, e), context, nb) : "";
             return intPart + value.substring(e);
         }
-        return insertSeparators(value, nb);
+        return insertSeparators(value, context, nb);
     }
 
     @Nonnull
     public String insertSeparators(@Nonnull String value, @Nonnull NumeralBase nb) {
-        final char separator = getGroupingSeparator(nb);
+        return insertSeparators(value, getContext(), nb);
+    }
+
+    @Nonnull
+    private static String insertSeparators(@Nonnull String value, @Nonnull EvaluationContext context, @Nonnull NumeralBase nb) {
+        final char separator = getGroupingSeparator(context, nb);
         final StringBuilder result = new StringBuilder(value.length() + nb.getGroupingSize());
         for (int i = value.length() - 1; i >= 0; i--) {
             result.append(value.charAt(i));
@@ -284,30 +468,27 @@ public class JsclMathEngine implements MathEngine {
         return result.reverse().toString();
     }
 
-    private boolean hasGroupingSeparator() {
-        return groupingSeparator != NumberFormatter.NO_GROUPING;
+    private static boolean hasGroupingSeparator(@Nonnull EvaluationContext context) {
+        return context.getGroupingSeparator() != NumberFormatter.NO_GROUPING;
     }
 
-    private char getGroupingSeparator(@Nonnull NumeralBase nb) {
-        return nb == NumeralBase.dec ? groupingSeparator : ' ';
+    private static char getGroupingSeparator(@Nonnull EvaluationContext context, @Nonnull NumeralBase nb) {
+        return nb == NumeralBase.dec ? context.getGroupingSeparator() : ' ';
     }
 
-    public void setPrecision(int precision) {
-        this.precision = precision;
+    public synchronized void setPrecision(int precision) {
+        context = context.withPrecision(precision);
     }
 
-    public void setNotation(int notation) {
-        if (notation != FSE_SCI && notation != FSE_ENG && notation != FSE_NONE) {
-            throw new IllegalArgumentException("Unsupported notation: " + notation);
-        }
-        this.notation = notation;
+    public synchronized void setNotation(int notation) {
+        context = context.withNotation(notation);
     }
 
     public char getGroupingSeparator() {
-        return this.groupingSeparator;
+        return getContext().getGroupingSeparator();
     }
 
-    public void setGroupingSeparator(char separator) {
-        this.groupingSeparator = separator;
+    public synchronized void setGroupingSeparator(char separator) {
+        context = context.withGroupingSeparator(separator);
     }
 }
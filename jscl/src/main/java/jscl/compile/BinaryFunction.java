@@ -0,0 +1,22 @@
+package jscl.compile;
+
+enum BinaryFunction {
+
+    divide {
+        @Override
+        double apply(double x, double y) {
+            return x / y;
+        }
+    },
+    pow {
+        @Override
+        double apply(double x, double y) {
+            if (y == 0) {
+                return 1;
+            }
+            return Math.pow(x, y);
+        }
+    };
+
+    abstract double apply(double x, double y);
+}
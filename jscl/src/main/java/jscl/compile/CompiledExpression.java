@@ -0,0 +1,71 @@
+package jscl.compile;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Expression lowered to a tree of primitive double operations by {@link ExpressionCompiler}. Evaluation doesn't
+ * allocate and can be done millions of times per second, f.e. for plotting or numeric integration.
+ * <p/>
+ * Methods which take values of parameters as separate arguments store them in the internal array and thus are not
+ * thread safe. {@link #evaluate(double[])} can be used concurrently (with different arrays).
+ */
+@NotThreadSafe
+public final class CompiledExpression {
+
+    @Nonnull
+    private final Node root;
+    @Nonnull
+    private final double[] values;
+
+    CompiledExpression(@Nonnull Node root, int arity) {
+        this.root = root;
+        this.values = new double[arity];
+    }
+
+    public int getArity() {
+        return values.length;
+    }
+
+    /**
+     * @return true if expression doesn't depend on its parameters
+     */
+    public boolean isConstant() {
+        return root.isConstant();
+    }
+
+    public double evaluate() {
+        checkArity(0);
+        return root.evaluate(values);
+    }
+
+    public double evaluate(double x) {
+        checkArity(1);
+        values[0] = x;
+        return root.evaluate(values);
+    }
+
+    public double evaluate(double x, double y) {
+        checkArity(2);
+        values[0] = x;
+        values[1] = y;
+        return root.evaluate(values);
+    }
+
+    /**
+     * @param values values of parameters in the order they were passed to {@link ExpressionCompiler}
+     * @return value of the expression, {@link Double#NaN} if the result is not a real number
+     */
+    public double evaluate(@Nonnull double[] values) {
+        if (values.length < this.values.length) {
+            throw new IllegalArgumentException("Expected " + this.values.length + " values, got " + values.length);
+        }
+        return root.evaluate(values);
+    }
+
+    private void checkArity(int arity) {
+        if (values.length != arity) {
+            throw new IllegalArgumentException("Expected " + values.length + " values, got " + arity);
+        }
+    }
+}
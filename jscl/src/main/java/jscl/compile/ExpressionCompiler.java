@@ -0,0 +1,313 @@
+package jscl.compile;
+
+import jscl.AngleUnit;
+import jscl.JsclMathEngine;
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.GenericVariable;
+import jscl.math.JsclInteger;
+import jscl.math.Literal;
+import jscl.math.NumericWrapper;
+import jscl.math.Rational;
+import jscl.math.Variable;
+import jscl.math.function.Abs;
+import jscl.math.function.Cubic;
+import jscl.math.function.Exp;
+import jscl.math.function.Fraction;
+import jscl.math.function.Lg;
+import jscl.math.function.Ln;
+import jscl.math.function.Pow;
+import jscl.math.function.Sgn;
+import jscl.math.function.Sqrt;
+import jscl.math.function.hyperbolic.Acosh;
+import jscl.math.function.hyperbolic.Acoth;
+import jscl.math.function.hyperbolic.Asinh;
+import jscl.math.function.hyperbolic.Atanh;
+import jscl.math.function.hyperbolic.Cosh;
+import jscl.math.function.hyperbolic.Coth;
+import jscl.math.function.hyperbolic.Sinh;
+import jscl.math.function.hyperbolic.Tanh;
+import jscl.math.function.trigonometric.Acos;
+import jscl.math.function.trigonometric.Acot;
+import jscl.math.function.trigonometric.Asin;
+import jscl.math.function.trigonometric.Atan;
+import jscl.math.function.trigonometric.Cos;
+import jscl.math.function.trigonometric.Cot;
+import jscl.math.function.trigonometric.Sin;
+import jscl.math.function.trigonometric.Tan;
+import jscl.math.numeric.Numeric;
+import jscl.math.numeric.Real;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lowers {@link Generic} to a {@link CompiledExpression}. Expression is expanded first, then every sum and product
+ * of the expression becomes a node working on primitive doubles, elementary functions are mapped to
+ * {@link java.lang.Math} and parameters become slots which are filled on evaluation. Subexpressions not depending on
+ * parameters are evaluated once during compilation via {@link Generic#numeric()}.
+ * <p/>
+ * Angle units are fixed at the moment of compilation, expression must be recompiled if they change.
+ */
+public final class ExpressionCompiler {
+
+    @Nonnull
+    private final Variable[] parameters;
+    @Nonnull
+    private final AngleUnit angleUnits;
+
+    private ExpressionCompiler(@Nonnull Variable[] parameters, @Nonnull AngleUnit angleUnits) {
+        this.parameters = parameters;
+        this.angleUnits = angleUnits;
+    }
+
+    @Nonnull
+    public static CompiledExpression compile(@Nonnull Generic expression, @Nonnull Variable... parameters) throws NotCompilableException {
+        return compile(expression, JsclMathEngine.getInstance().getAngleUnits(), parameters);
+    }
+
+    @Nonnull
+    public static CompiledExpression compile(@Nonnull Generic expression, @Nonnull AngleUnit angleUnits, @Nonnull Variable... parameters) throws NotCompilableException {
+        final ExpressionCompiler compiler = new ExpressionCompiler(parameters, angleUnits);
+        return new CompiledExpression(compiler.compile(expression.expand()), parameters.length);
+    }
+
+    @Nonnull
+    private Node compile(@Nonnull Generic generic) {
+        if (isConstant(generic)) {
+            return new Node.Const(evaluate(generic));
+        }
+        if (generic instanceof Expression) {
+            return compile((Expression) generic);
+        }
+        throw new NotCompilableException("Can't compile " + generic.getClass().getSimpleName() + ": " + generic);
+    }
+
+    @Nonnull
+    private Node compile(@Nonnull Expression expression) {
+        final List<Node> terms = new ArrayList<Node>(expression.size());
+        double constant = 0;
+        for (int i = 0; i < expression.size(); i++) {
+            final Node term = compile(expression.literal(i), expression.coef(i));
+            if (term.isConstant()) {
+                constant += ((Node.Const) term).value;
+            } else {
+                terms.add(term);
+            }
+        }
+        if (constant != 0 || terms.isEmpty()) {
+            terms.add(new Node.Const(constant));
+        }
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        return new Node.Sum(terms.toArray(new Node[terms.size()]));
+    }
+
+    @Nonnull
+    private Node compile(@Nonnull Literal literal, @Nonnull JsclInteger coefficient) {
+        double constant = coefficient.doubleValue();
+        final List<Node> factors = new ArrayList<Node>(literal.size());
+        for (int i = 0; i < literal.size(); i++) {
+            final Node factor = pow(compile(literal.getVariable(i)), literal.getPower(i));
+            if (factor.isConstant()) {
+                constant *= ((Node.Const) factor).value;
+            } else {
+                factors.add(factor);
+            }
+        }
+        if (factors.isEmpty()) {
+            return new Node.Const(constant);
+        }
+        if (constant == 1 && factors.size() == 1) {
+            return factors.get(0);
+        }
+        return new Node.Product(constant, factors.toArray(new Node[factors.size()]));
+    }
+
+    @Nonnull
+    private Node compile(@Nonnull Variable variable) {
+        final int slot = indexOf(variable);
+        if (slot >= 0) {
+            return new Node.Slot(slot);
+        }
+        if (isConstant(variable)) {
+            return new Node.Const(evaluate(variable.expressionValue()));
+        }
+        if (variable instanceof GenericVariable) {
+            return compile(GenericVariable.content(variable.expressionValue()));
+        }
+        if (variable instanceof Fraction) {
+            return binary(BinaryFunction.divide, (Fraction) variable);
+        }
+        if (variable instanceof Pow) {
+            return binary(BinaryFunction.pow, (Pow) variable);
+        }
+        if (variable instanceof Sin) {
+            return unary(UnaryFunction.sin, toRad(argument(variable)));
+        }
+        if (variable instanceof Cos) {
+            return unary(UnaryFunction.cos, toRad(argument(variable)));
+        }
+        if (variable instanceof Tan) {
+            return unary(UnaryFunction.tan, toRad(argument(variable)));
+        }
+        if (variable instanceof Cot) {
+            return unary(UnaryFunction.cot, toRad(argument(variable)));
+        }
+        if (variable instanceof Asin) {
+            return fromRad(unary(UnaryFunction.asin, argument(variable)));
+        }
+        if (variable instanceof Acos) {
+            return fromRad(unary(UnaryFunction.acos, argument(variable)));
+        }
+        if (variable instanceof Atan) {
+            return fromRad(unary(UnaryFunction.atan, argument(variable)));
+        }
+        if (variable instanceof Acot) {
+            return fromRad(unary(UnaryFunction.acot, argument(variable)));
+        }
+        // hyperbolic functions also respect angle units, see jscl.math.numeric.Numeric
+        if (variable instanceof Sinh) {
+            return unary(UnaryFunction.sinh, toRad(argument(variable)));
+        }
+        if (variable instanceof Cosh) {
+            return unary(UnaryFunction.cosh, toRad(argument(variable)));
+        }
+        if (variable instanceof Tanh) {
+            return unary(UnaryFunction.tanh, toRad(argument(variable)));
+        }
+        if (variable instanceof Coth) {
+            return unary(UnaryFunction.coth, toRad(argument(variable)));
+        }
+        if (variable instanceof Asinh) {
+            return fromRad(unary(UnaryFunction.asinh, argument(variable)));
+        }
+        if (variable instanceof Acosh) {
+            return fromRad(unary(UnaryFunction.acosh, argument(variable)));
+        }
+        if (variable instanceof Atanh) {
+            return fromRad(unary(UnaryFunction.atanh, argument(variable)));
+        }
+        if (variable instanceof Acoth) {
+            return fromRad(unary(UnaryFunction.acoth, argument(variable)));
+        }
+        if (variable instanceof Ln) {
+            return unary(UnaryFunction.ln, argument(variable));
+        }
+        if (variable instanceof Lg) {
+            return unary(UnaryFunction.lg, argument(variable));
+        }
+        if (variable instanceof Exp) {
+            return unary(UnaryFunction.exp, argument(variable));
+        }
+        if (variable instanceof Sqrt) {
+            return unary(UnaryFunction.sqrt, argument(variable));
+        }
+        if (variable instanceof Cubic) {
+            return unary(UnaryFunction.cbrt, argument(variable));
+        }
+        if (variable instanceof Abs) {
+            return unary(UnaryFunction.abs, argument(variable));
+        }
+        if (variable instanceof Sgn) {
+            return unary(UnaryFunction.sgn, argument(variable));
+        }
+        throw new NotCompilableException("Can't compile " + variable.getClass().getSimpleName() + ": " + variable);
+    }
+
+    @Nonnull
+    private Node argument(@Nonnull Variable variable) {
+        return compile(((jscl.math.function.Function) variable).getParameters()[0]);
+    }
+
+    @Nonnull
+    private Node binary(@Nonnull BinaryFunction function, @Nonnull jscl.math.function.Function variable) {
+        final Generic[] parameters = variable.getParameters();
+        return new Node.Binary(function, compile(parameters[0]), compile(parameters[1]));
+    }
+
+    @Nonnull
+    private static Node unary(@Nonnull UnaryFunction function, @Nonnull Node argument) {
+        if (argument.isConstant()) {
+            return new Node.Const(function.apply(((Node.Const) argument).value));
+        }
+        return new Node.Unary(function, argument);
+    }
+
+    @Nonnull
+    private static Node pow(@Nonnull Node base, int exponent) {
+        if (exponent == 1) {
+            return base;
+        }
+        if (base.isConstant()) {
+            return new Node.Const(Node.IntPow.pow(((Node.Const) base).value, exponent));
+        }
+        return new Node.IntPow(base, exponent);
+    }
+
+    @Nonnull
+    private Node toRad(@Nonnull Node node) {
+        return scale(node, angleUnits.transform(AngleUnit.rad, 1d));
+    }
+
+    @Nonnull
+    private Node fromRad(@Nonnull Node node) {
+        return scale(node, AngleUnit.rad.transform(angleUnits, 1d));
+    }
+
+    @Nonnull
+    private static Node scale(@Nonnull Node node, double coefficient) {
+        if (coefficient == 1d) {
+            return node;
+        }
+        return new Node.Product(coefficient, new Node[]{node});
+    }
+
+    private int indexOf(@Nonnull Variable variable) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isIdentity(variable)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isConstant(@Nonnull Generic generic) {
+        for (Variable parameter : parameters) {
+            if (!generic.isConstant(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isConstant(@Nonnull Variable variable) {
+        for (Variable parameter : parameters) {
+            if (!variable.isConstant(parameter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double evaluate(@Nonnull Generic generic) {
+        final Generic numeric;
+        try {
+            numeric = generic.numeric();
+        } catch (ArithmeticException e) {
+            throw new NotCompilableException("Can't evaluate " + generic + ": " + e.getMessage());
+        }
+        if (numeric instanceof JsclInteger || numeric instanceof Rational) {
+            return numeric.doubleValue();
+        }
+        if (numeric instanceof NumericWrapper) {
+            final Numeric content = ((NumericWrapper) numeric).content();
+            if (content instanceof Real) {
+                return content.doubleValue();
+            }
+        }
+        throw new NotCompilableException("Not a real number: " + numeric);
+    }
+}
@@ -0,0 +1,166 @@
+package jscl.compile;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Node of compiled expression tree. Nodes are immutable and evaluation must not allocate: all the variable state is
+ * kept in the <var>values</var> array passed from {@link CompiledExpression}.
+ */
+abstract class Node {
+
+    abstract double evaluate(@Nonnull double[] values);
+
+    boolean isConstant() {
+        return false;
+    }
+
+    static final class Const extends Node {
+
+        final double value;
+
+        Const(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            return value;
+        }
+
+        @Override
+        boolean isConstant() {
+            return true;
+        }
+    }
+
+    static final class Slot extends Node {
+
+        private final int index;
+
+        Slot(int index) {
+            this.index = index;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            return values[index];
+        }
+    }
+
+    /**
+     * Sum of terms: <code>t_0 + t_1 + ... + t_n</code>
+     */
+    static final class Sum extends Node {
+
+        @Nonnull
+        private final Node[] terms;
+
+        Sum(@Nonnull Node[] terms) {
+            this.terms = terms;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            double result = 0;
+            for (Node term : terms) {
+                result += term.evaluate(values);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Product of constant coefficient and factors: <code>c * f_0 * f_1 * ... * f_n</code>
+     */
+    static final class Product extends Node {
+
+        private final double coefficient;
+        @Nonnull
+        private final Node[] factors;
+
+        Product(double coefficient, @Nonnull Node[] factors) {
+            this.coefficient = coefficient;
+            this.factors = factors;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            double result = coefficient;
+            for (Node factor : factors) {
+                result *= factor.evaluate(values);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Natural power of the base, <code>b^n, n > 1</code>
+     */
+    static final class IntPow extends Node {
+
+        @Nonnull
+        private final Node base;
+        private final int exponent;
+
+        IntPow(@Nonnull Node base, int exponent) {
+            this.base = base;
+            this.exponent = exponent;
+        }
+
+        static double pow(double base, int exponent) {
+            double result = 1;
+            while (exponent > 0) {
+                if ((exponent & 1) != 0) {
+                    result *= base;
+                }
+                base *= base;
+                exponent >>= 1;
+            }
+            return result;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            return pow(base.evaluate(values), exponent);
+        }
+    }
+
+    static final class Unary extends Node {
+
+        @Nonnull
+        private final UnaryFunction function;
+        @Nonnull
+        private final Node argument;
+
+        Unary(@Nonnull UnaryFunction function, @Nonnull Node argument) {
+            this.function = function;
+            this.argument = argument;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            return function.apply(argument.evaluate(values));
+        }
+    }
+
+    static final class Binary extends Node {
+
+        @Nonnull
+        private final BinaryFunction function;
+        @Nonnull
+        private final Node left;
+        @Nonnull
+        private final Node right;
+
+        Binary(@Nonnull BinaryFunction function, @Nonnull Node left, @Nonnull Node right) {
+            this.function = function;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double evaluate(@Nonnull double[] values) {
+            return function.apply(left.evaluate(values), right.evaluate(values));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package jscl.compile;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Thrown if expression contains a construct which has no primitive double counterpart (f.e. matrix, complex constant,
+ * unbound variable or operator like factorial of a variable). Callers are expected to fall back to
+ * {@link jscl.math.Generic#numeric()} in such case.
+ */
+public class NotCompilableException extends ArithmeticException {
+
+    public NotCompilableException(@Nonnull String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,170 @@
+package jscl.compile;
+
+/**
+ * Real-valued counterparts of {@link jscl.math.numeric.Real} functions. Arguments and results are in radians, angle
+ * unit conversion is compiled into the tree by {@link ExpressionCompiler}. If the result is not a real number (f.e.
+ * logarithm of a negative number) {@link Double#NaN} is returned.
+ */
+enum UnaryFunction {
+
+    sin {
+        @Override
+        double apply(double x) {
+            return Math.sin(x);
+        }
+    },
+    cos {
+        @Override
+        double apply(double x) {
+            return Math.cos(x);
+        }
+    },
+    tan {
+        @Override
+        double apply(double x) {
+            return tan(x);
+        }
+    },
+    cot {
+        @Override
+        double apply(double x) {
+            return 1d / tan(x);
+        }
+    },
+    asin {
+        @Override
+        double apply(double x) {
+            return Math.asin(x);
+        }
+    },
+    acos {
+        @Override
+        double apply(double x) {
+            return Math.acos(x);
+        }
+    },
+    atan {
+        @Override
+        double apply(double x) {
+            return Math.atan(x);
+        }
+    },
+    acot {
+        @Override
+        double apply(double x) {
+            return Math.PI / 2 - Math.atan(x);
+        }
+    },
+    sinh {
+        @Override
+        double apply(double x) {
+            return Math.sinh(x);
+        }
+    },
+    cosh {
+        @Override
+        double apply(double x) {
+            return Math.cosh(x);
+        }
+    },
+    tanh {
+        @Override
+        double apply(double x) {
+            return Math.tanh(x);
+        }
+    },
+    coth {
+        @Override
+        double apply(double x) {
+            return 1d / Math.tanh(x);
+        }
+    },
+    asinh {
+        @Override
+        double apply(double x) {
+            return Math.log(x + Math.sqrt(1 + x * x));
+        }
+    },
+    acosh {
+        @Override
+        double apply(double x) {
+            return Math.log(x + Math.sqrt(x * x - 1));
+        }
+    },
+    atanh {
+        @Override
+        double apply(double x) {
+            return Math.log((1 + x) / (1 - x)) / 2;
+        }
+    },
+    acoth {
+        @Override
+        double apply(double x) {
+            return Math.log((x + 1) / (x - 1)) / 2;
+        }
+    },
+    ln {
+        @Override
+        double apply(double x) {
+            return Math.log(x);
+        }
+    },
+    lg {
+        @Override
+        double apply(double x) {
+            return Math.log10(x);
+        }
+    },
+    exp {
+        @Override
+        double apply(double x) {
+            return Math.exp(x);
+        }
+    },
+    sqrt {
+        @Override
+        double apply(double x) {
+            return Math.sqrt(x);
+        }
+    },
+    cbrt {
+        @Override
+        double apply(double x) {
+            return Math.cbrt(x);
+        }
+    },
+    abs {
+        @Override
+        double apply(double x) {
+            return Math.abs(x);
+        }
+    },
+    sgn {
+        @Override
+        double apply(double x) {
+            return Math.signum(x);
+        }
+    };
+
+    abstract double apply(double x);
+
+    // same as jscl.math.numeric.Real#tan(double)
+    private static double tan(double value) {
+        if (value > Math.PI || value < Math.PI) {
+            value = value % Math.PI;
+        }
+        if (value == Math.PI / 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (value == Math.PI) {
+            return 0;
+        }
+        if (value == -Math.PI / 2) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (value == -Math.PI) {
+            return 0;
+        }
+        return Math.tan(value);
+    }
+}
@@ -1,5 +1,6 @@
 package jscl.math;
 
+import jscl.Instrumentation;
 import jscl.math.function.*;
 import jscl.math.polynomial.Monomial;
 import jscl.math.polynomial.Polynomial;
@@ -41,8 +42,7 @@ public class AntiDerivative {
     }
 
     void compute(Fraction fraction) {
-        Debug.println("antiDerivative");
-        Debug.increment();
+        Instrumentation.count(Instrumentation.Counter.antiderivatives);
         Generic g[] = fraction.getParameters();
         Generic r[] = reduce(g[0], g[1]);
         r = divideAndRemainder(r[0], r[1]);
@@ -50,11 +50,9 @@ public class AntiDerivative {
         Generic p = r[0].multiply(s);
         Generic a = r[1].multiply(s);
         result = p.antiDerivative(factory.variable()).add(hermite(a, g[1]));
-        Debug.decrement();
     }
 
     Generic[] reduce(Generic n, Generic d) {
-        Debug.println("reduce(" + n + ", " + d + ")");
         Polynomial pn = factory.valueOf(n);
         Polynomial pd = factory.valueOf(d);
         Polynomial gcd = pn.gcd(pd);
@@ -65,7 +63,6 @@ public class AntiDerivative {
     }
 
     Generic[] divideAndRemainder(Generic n, Generic d) {
-        Debug.println("divideAndRemainder(" + n + ", " + d + ")");
         Polynomial pn = syzygy.valueof(n, 0);
         Polynomial pd = syzygy.valueof(d, 1);
         PolynomialWithSyzygy pr = (PolynomialWithSyzygy) pn.remainderUpToCoefficient(pd);
@@ -77,7 +74,6 @@ public class AntiDerivative {
     }
 
     Generic[] bezout(Generic a, Generic b) {
-        Debug.println("bezout(" + a + ", " + b + ")");
         Polynomial pa = syzygy.valueof(a, 0);
         Polynomial pb = syzygy.valueof(b, 1);
         PolynomialWithSyzygy gcd = (PolynomialWithSyzygy) pa.gcd(pb);
@@ -89,7 +85,6 @@ public class AntiDerivative {
     }
 
     Generic hermite(Generic a, Generic d) {
-        Debug.println("hermite(" + a + ", " + d + ")");
         UnivariatePolynomial sd[] = ((UnivariatePolynomial) factory.valueOf(d)).squarefreeDecomposition();
         int m = sd.length - 1;
         if (m < 2) return trager(a, d);
@@ -117,7 +112,6 @@ public class AntiDerivative {
     }
 
     Generic trager(Generic a, Generic d) {
-        Debug.println("trager(" + a + ", " + d + ")");
         Variable t = new TechnicalVariable("t");
         UnivariatePolynomial pd = (UnivariatePolynomial) factory.valueOf(d);
         UnivariatePolynomial pa = (UnivariatePolynomial) factory.valueOf(a).subtract(pd.derivative().multiply(t.expressionValue()));
@@ -9,6 +9,10 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import jscl.EvaluationBudget;
+import jscl.Instrumentation;
 import jscl.math.function.Constant;
 import jscl.math.function.Fraction;
 import jscl.math.function.Inverse;
@@ -49,9 +53,17 @@ public class Expression extends Generic {
             return variable.numeric();
         }
     };
+    // number of products formed by multiply(Expression) per operation counted by EvaluationBudget (power of 2)
+    private static final int BUDGET_STEPS = 1024;
+    // canonical instances, see #intern()
+    @Nonnull
+    private static final Interner<Expression> interner = Interners.newWeakInterner();
     int size;
     private Literal literals[];
     private JsclInteger coefficients[];
+    // 0 if not computed yet
+    private int hash;
+    private boolean interned;
 
     Expression() {
     }
@@ -119,9 +131,13 @@ public class Expression extends Generic {
     }
 
     public static Expression valueOf(@Nonnull String expression) throws ParseException {
+        final long start = Instrumentation.start();
         final Parser.Parameters p = Parser.Parameters.get(expression);
 
         final Generic generic = ExpressionParser.parser.parse(p, null);
+        if (generic == null) {
+            throw p.newParseException();
+        }
 
         ParserUtils.skipWhitespaces(p);
 
@@ -130,7 +146,9 @@ public class Expression extends Generic {
             throw new ParseException(index, expression, Messages.msg_1, index + 1);
         }
 
-        return new Expression().init(generic);
+        final Expression result = new Expression().init(generic);
+        Instrumentation.stop(Instrumentation.Timer.parse, start);
+        return result;
     }
 
     public Expression init(@Nonnull NumericWrapper numericWrapper) {
@@ -229,6 +247,7 @@ public class Expression extends Generic {
         }
 
         result.resize(result.size - i);
+        EvaluationBudget.checkTerms(EvaluationBudget.EXPAND, result.size);
 
         return result;
     }
@@ -303,16 +322,145 @@ public class Expression extends Generic {
         return result;
     }
 
+    /**
+     * Sparse multiplication (Johnson): for each term of the shorter operand a heap holds its product with the next term
+     * of the longer one, products are taken out in increasing order of literals and terms with equal literals are
+     * summed. As order of literals is compatible with multiplication the result is formed in one pass with
+     * O(n * m * log(min(n, m))) comparisons.
+     */
     public Expression multiply(Expression expression) {
-        Expression result = newInstance(0);
+        if (size > expression.size) {
+            return expression.multiply(this);
+        }
+        if (size <= 1) {
+            final Expression result = newInstance(0);
+            return size == 0 ? result : result.multiplyAndAdd(literals[0], coefficients[0], expression);
+        }
 
-        for (int i = 0; i < size; i++) {
-            result = result.multiplyAndAdd(literals[i], coefficients[i], expression);
+        final int n = size;
+        final Literal[] thatLiterals = expression.literals;
+        final JsclInteger[] thatCoefficients = expression.coefficients;
+        final int m = expression.size;
+
+        // for i-th term of this: index of the term of that and their product
+        final int[] columns = new int[n];
+        final Literal[] products = new Literal[n];
+        // heap of terms of this ordered by their current products
+        final int[] heap = new int[n];
+        for (int i = 0; i < n; i++) {
+            products[i] = literals[i].multiply(thatLiterals[0]);
+            heap[i] = i;
+        }
+        // products of the first term of that are already sorted, i.e. the array is a heap
+        int heapSize = n;
+
+        Literal[] resultLiterals = new Literal[n + m];
+        JsclInteger[] resultCoefficients = new JsclInteger[n + m];
+        int resultSize = 0;
+
+        Literal literal = null;
+        JsclInteger coefficient = null;
+        int steps = 0;
+        while (heapSize > 0) {
+            if ((++steps & (BUDGET_STEPS - 1)) == 0) {
+                EvaluationBudget.check(EvaluationBudget.EXPAND);
+            }
+            final int i = heap[0];
+            final Literal product = products[i];
+            final JsclInteger c = coefficients[i].multiply(thatCoefficients[columns[i]]);
+            if (literal != null && literal.compareTo(product) == 0) {
+                coefficient = coefficient.add(c);
+            } else {
+                if (literal != null && coefficient.signum() != 0) {
+                    if (resultSize == resultLiterals.length) {
+                        EvaluationBudget.checkTerms(EvaluationBudget.EXPAND, resultSize);
+                        final int length = 2 * resultSize;
+                        resultLiterals = copyOf(resultLiterals, new Literal[length], resultSize);
+                        resultCoefficients = copyOf(resultCoefficients, new JsclInteger[length], resultSize);
+                    }
+                    resultLiterals[resultSize] = literal;
+                    resultCoefficients[resultSize] = coefficient;
+                    resultSize++;
+                }
+                literal = product;
+                coefficient = c;
+            }
+
+            final int column = ++columns[i];
+            if (column < m) {
+                products[i] = literals[i].multiply(thatLiterals[column]);
+            } else {
+                products[i] = null;
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, products);
         }
 
+        final Expression result = newInstance(0);
+        final boolean last = literal != null && coefficient.signum() != 0;
+        result.init(resultSize + (last ? 1 : 0));
+        System.arraycopy(resultLiterals, 0, result.literals, 0, resultSize);
+        System.arraycopy(resultCoefficients, 0, result.coefficients, 0, resultSize);
+        if (last) {
+            result.literals[resultSize] = literal;
+            result.coefficients[resultSize] = coefficient;
+        }
         return result;
     }
 
+    private static void siftDown(@Nonnull int[] heap, int size, @Nonnull Literal[] products) {
+        if (size == 0) {
+            return;
+        }
+        final int top = heap[0];
+        final Literal literal = products[top];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && products[heap[child + 1]].compareTo(products[heap[child]]) < 0) {
+                child++;
+            }
+            if (products[heap[child]].compareTo(literal) >= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = top;
+    }
+
+    @Nonnull
+    private static <T> T[] copyOf(@Nonnull T[] array, @Nonnull T[] result, int size) {
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Binary powering: O(log(exponent)) multiplications instead of exponent
+     */
+    @Override
+    public Generic pow(int exponent) {
+        assert exponent >= 0;
+        if (exponent == 0) {
+            return JsclInteger.valueOf(1);
+        }
+        return powExpression(exponent);
+    }
+
+    @Nonnull
+    private Expression powExpression(int exponent) {
+        EvaluationBudget.check(EvaluationBudget.EXPAND);
+        if (exponent == 1) {
+            return this;
+        }
+        final Expression half = powExpression(exponent / 2);
+        final Expression result = half.multiply(half);
+        return exponent % 2 == 0 ? result : result.multiply(this);
+    }
+
     @Nonnull
     public Generic multiply(@Nonnull Generic that) {
         if (that instanceof Expression) {
@@ -732,6 +880,9 @@ public class Expression extends Generic {
     }
 
     public int compareTo(Expression expression) {
+        if (this == expression) {
+            return 0;
+        }
         int i1 = size;
         int i2 = expression.size;
         Literal l1 = i1 == 0 ? null : literals[--i1];
@@ -761,6 +912,62 @@ public class Expression extends Generic {
         }
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof Expression) {
+            final Expression that = (Expression) o;
+            if (this == that) {
+                return true;
+            }
+            if (interned && that.interned) {
+                // there is only one interned instance of each value
+                return false;
+            }
+            return size == that.size && hashCode() == that.hashCode() && compareTo(that) == 0;
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Structural hash code, an expression which is an integer has the hash code of {@link JsclInteger}. Note that
+     * numeric values ({@link NumericWrapper}) are not equal to expressions.
+     */
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0 && size > 0) {
+            if (size == 1 && literals[0].size() == 0) {
+                result = coefficients[0].hashCode();
+            } else {
+                for (int i = 0; i < size; i++) {
+                    result = 31 * (31 * result + literals[i].hashCode()) + coefficients[i].hashCode();
+                }
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Hash-consing: interns literals (and their variables) of this expression and the expression itself. Interned
+     * expressions are kept in a weak table, i.e. they are released as soon as they are not used anymore.
+     *
+     * @return canonical instance equal to this expression: equal interned expressions are the same object
+     */
+    @Nonnull
+    @Override
+    public Expression intern() {
+        if (interned) {
+            return this;
+        }
+        for (int i = 0; i < size; i++) {
+            literals[i] = literals[i].intern();
+        }
+        final Expression result = interner.intern(this);
+        result.interned = true;
+        return result;
+    }
+
     void init(Literal lit, JsclInteger integer) {
         if (integer.signum() != 0) {
             init(1);
@@ -0,0 +1,247 @@
+package jscl.math;
+
+import jscl.EvaluationBudget;
+import jscl.math.numeric.Real;
+
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Factorials and multifactorials (n!, n!!, n!!!, ...). n! is computed by Luschny's prime swing algorithm:
+ * n! = ((n/2)!)^2 * swing(n) where swing(n) = n! / ((n/2)!)^2 is a product of prime powers with easily computed
+ * exponents. Other multifactorials are products of arithmetic progressions which are multiplied by binary splitting,
+ * i.e. operands of all multiplications are of comparable size. Values computed last are cached.
+ * <p/>
+ * {@link #log(int, int)} approximates logarithm of a multifactorial in constant time which is enough to tell whether
+ * the value fits into double without computing it.
+ */
+public final class Factorials {
+
+    private static final int CACHE_SIZE = 16;
+    // factorials of 0..20 fit into long
+    @Nonnull
+    private static final long[] SMALL = new long[21];
+    // coefficients of the Lanczos approximation for g = 7
+    private static final double LANCZOS_G = 7;
+    @Nonnull
+    private static final double[] LANCZOS = {0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+            771.32342877765313, -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+            9.9843695780195716e-6, 1.5056327351493116e-7};
+    private static final double LOG_SQRT_2PI = 0.5 * Math.log(2 * Math.PI);
+    // values with larger logarithms surely overflow double (the margin covers errors of log(int, int))
+    private static final double MAX_LOG = Math.log(Double.MAX_VALUE) + 1;
+
+    // key = n * 2^8 + k, guarded by itself
+    @Nonnull
+    private static final Map<Long, BigInteger> cache = new LinkedHashMap<Long, BigInteger>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BigInteger> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    static {
+        SMALL[0] = 1;
+        for (int i = 1; i < SMALL.length; i++) {
+            SMALL[i] = SMALL[i - 1] * i;
+        }
+    }
+
+    private Factorials() {
+        throw new AssertionError();
+    }
+
+    @Nonnull
+    public static BigInteger factorial(int n) {
+        return multifactorial(n, 1);
+    }
+
+    /**
+     * @param n non-negative integer
+     * @param k step of the product, f.e. 2 for n!!
+     * @return n * (n - k) * (n - 2k) * ... down to the smallest positive term, 1 for n = 0
+     */
+    @Nonnull
+    public static BigInteger multifactorial(int n, int k) {
+        checkArguments(n, k);
+        if (n < SMALL.length && k == 1) {
+            return BigInteger.valueOf(SMALL[n]);
+        }
+        if (n <= k) {
+            return BigInteger.valueOf(Math.max(n, 1));
+        }
+        final Long key = ((long) n << 8) + k;
+        synchronized (cache) {
+            final BigInteger result = cache.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+        final BigInteger result;
+        if (k == 1) {
+            result = primeSwingFactorial(n);
+        } else if (k == 2 && n % 2 == 0) {
+            // (2m)!! = 2^m * m!
+            result = primeSwingFactorial(n / 2).shiftLeft(n / 2);
+        } else {
+            result = product(n, k, (n - 1) / k + 1);
+        }
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return numeric value of {@link #multifactorial(int, int)}: values which overflow double are not computed
+     */
+    @Nonnull
+    public static Generic numeric(int n, int k) {
+        if (log(n, k) > MAX_LOG) {
+            return new NumericWrapper(Real.valueOf(Double.POSITIVE_INFINITY));
+        }
+        return new NumericWrapper(new JsclInteger(multifactorial(n, k)));
+    }
+
+    /**
+     * @return natural logarithm of {@link #multifactorial(int, int)} with relative error of about 1e-14
+     */
+    public static double log(int n, int k) {
+        checkArguments(n, k);
+        if (n <= 1) {
+            return 0;
+        }
+        if (k == 1 && n < SMALL.length) {
+            return Math.log(SMALL[n]);
+        }
+        // n * (n - k) * ... * last = k^m * Gamma(n / k + 1) / Gamma(last / k)
+        final int m = (n - 1) / k + 1;
+        final int last = n - (m - 1) * k;
+        return m * Math.log(k) + logGamma((double) n / k + 1) - logGamma((double) last / k);
+    }
+
+    private static void checkArguments(int n, int k) {
+        if (n < 0) {
+            throw new ArithmeticException("Cannot take factorial from negative integer!");
+        }
+        if (k < 1 || k > 255) {
+            throw new IllegalArgumentException("Unsupported step: " + k);
+        }
+    }
+
+    /**
+     * @return logarithm of the gamma function for positive <var>x</var>
+     */
+    static double logGamma(double x) {
+        if (x < 0.5) {
+            // Gamma(x) = Gamma(x + 1) / x, the approximation is accurate for x >= 0.5
+            return logGamma(x + 1) - Math.log(x);
+        }
+        final double y = x - 1;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (y + i);
+        }
+        final double t = y + LANCZOS_G + 0.5;
+        return LOG_SQRT_2PI + (y + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+
+    @Nonnull
+    private static BigInteger primeSwingFactorial(int n) {
+        final boolean[] composite = sieve(n);
+        return primeSwingFactorial(n, composite);
+    }
+
+    @Nonnull
+    private static BigInteger primeSwingFactorial(int n, @Nonnull boolean[] composite) {
+        if (n < SMALL.length) {
+            return BigInteger.valueOf(SMALL[n]);
+        }
+        final BigInteger half = primeSwingFactorial(n / 2, composite);
+        return half.multiply(half).multiply(swing(n, composite));
+    }
+
+    /**
+     * @return n! / ((n/2)!)^2
+     */
+    @Nonnull
+    private static BigInteger swing(int n, @Nonnull boolean[] composite) {
+        EvaluationBudget.check(EvaluationBudget.FACTORIAL);
+        final List<Long> factors = new ArrayList<Long>();
+        long factor = 1;
+        for (int p = 2; p <= n; p++) {
+            if (composite[p]) {
+                continue;
+            }
+            // exponent of p is the number of odd values among n / p, n / p^2, ...
+            long power = 1;
+            int q = n;
+            while (q >= p) {
+                q /= p;
+                if ((q & 1) != 0) {
+                    power *= p;
+                }
+            }
+            if (power > 1) {
+                if (factor > Long.MAX_VALUE / power) {
+                    factors.add(factor);
+                    factor = power;
+                } else {
+                    factor *= power;
+                }
+            }
+        }
+        factors.add(factor);
+        return product(factors, 0, factors.size());
+    }
+
+    @Nonnull
+    private static boolean[] sieve(int n) {
+        final boolean[] composite = new boolean[n + 1];
+        for (int i = 2; (long) i * i <= n; i++) {
+            if (!composite[i]) {
+                for (int j = i * i; j <= n; j += i) {
+                    composite[j] = true;
+                }
+            }
+        }
+        return composite;
+    }
+
+    @Nonnull
+    private static BigInteger product(@Nonnull List<Long> factors, int from, int to) {
+        if (to - from == 1) {
+            return BigInteger.valueOf(factors.get(from));
+        }
+        final int middle = (from + to) >>> 1;
+        return product(factors, from, middle).multiply(product(factors, middle, to));
+    }
+
+    /**
+     * @return n * (n - k) * ... * (n - (count - 1) * k)
+     */
+    @Nonnull
+    private static BigInteger product(long n, int k, int count) {
+        if (count <= 16) {
+            EvaluationBudget.check(EvaluationBudget.FACTORIAL);
+            BigInteger result = BigInteger.ONE;
+            long factor = 1;
+            for (int i = 0; i < count; i++) {
+                final long term = n - (long) i * k;
+                if (factor > Long.MAX_VALUE / term) {
+                    result = result.multiply(BigInteger.valueOf(factor));
+                    factor = term;
+                } else {
+                    factor *= term;
+                }
+            }
+            return result.multiply(BigInteger.valueOf(factor));
+        }
+        final int half = count / 2;
+        return product(n, k, half).multiply(product(n - (long) half * k, k, count - half));
+    }
+}
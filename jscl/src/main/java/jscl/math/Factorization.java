@@ -1,5 +1,7 @@
 package jscl.math;
 
+import jscl.EvaluationBudget;
+import jscl.Instrumentation;
 import jscl.math.polynomial.Basis;
 import jscl.math.polynomial.Monomial;
 import jscl.math.polynomial.Ordering;
@@ -36,6 +38,7 @@ public class Factorization {
         Generic a = JsclInteger.valueOf(1);
         Generic p = JsclInteger.valueOf(2);
         while (s.compareTo(JsclInteger.valueOf(1)) > 0) {
+            EvaluationBudget.check(EvaluationBudget.FACTORIZE);
             Generic q[] = s.divideAndRemainder(p);
             if (q[0].compareTo(p) < 0) {
                 p = s;
@@ -113,12 +116,8 @@ public class Factorization {
         else return GenericVariable.valueOf(generic, integer).expressionValue();
     }
 
-    static String toString(Monomial monomial[]) {
-        return "{" + monomial[0] + ", " + monomial[1] + "}";
-    }
-
     void computeValue(Generic generic) {
-        Debug.println("factorization");
+        Instrumentation.count(Instrumentation.Counter.factorizations);
         Polynomial n[] = factory.valueOf(generic).gcdAndNormalize();
         Monomial m = n[1].monomialGcd();
         Polynomial s = n[1].divide(m);
@@ -133,17 +132,15 @@ public class Factorization {
             q[1] = d[1].complementary();
             d[0] = new Divisor(s.tail().monomial());
             while (d[0].hasNext()) {
+                EvaluationBudget.check(EvaluationBudget.FACTORIZE);
                 p[0] = (Monomial) d[0].next();
                 q[0] = d[0].complementary();
                 if (p[1].compareTo(p[0]) <= 0) continue loop;
-                Debug.println(toString(p) + " * " + toString(q) + " = " + s);
                 if (ArrayComparator.comparator.compare(q, p) < 0) {
                     a = a.multiply(expression(s.genericValue()));
                     break loop;
                 } else {
-                    Debug.increment();
                     Polynomial r[] = remainder(s, polynomial(s, p), terminator(s));
-                    Debug.decrement();
                     if (r[0].signum() == 0) {
                         a = a.multiply(expression(r[1].genericValue()));
                         s = r[2];
@@ -172,10 +169,8 @@ class Linearization {
 
     static Generic[][] compute(Generic generic[], Variable unknown[]) {
         Linearization l = new Linearization(unknown);
-        Debug.println("linearization");
-        Debug.increment();
+        Instrumentation.count(Instrumentation.Counter.linearizations);
         l.process(generic);
-        Debug.decrement();
         return l.getValue();
     }
 
@@ -200,6 +195,7 @@ class Linearization {
             q[1] = d[1].integer(d[1].complementary());
             d[0] = IntegerDivisor.create(s.tail().coef().integerValue());
             while (d[0].hasNext()) {
+                EvaluationBudget.check(EvaluationBudget.FACTORIZE);
                 p[0] = (Generic) d[0].next();
                 q[0] = d[0].integer(d[0].complementary());
                 if (ArrayComparator.comparator.compare(q, p) < 0) break loop;
@@ -1,9 +1,9 @@
 package jscl.math;
 
+import jscl.EvaluationBudget;
 import jscl.math.function.Constant;
 import jscl.math.function.IConstant;
 import jscl.mathml.MathML;
-import jscl.text.ParserUtils;
 import org.solovyev.common.math.MathRegistry;
 
 import javax.annotation.Nonnull;
@@ -115,7 +115,7 @@ public abstract class Generic implements Arithmetic<Generic>, Comparable {
 
         for (int i = 0; i < exponent; i++) {
 
-            ParserUtils.checkInterruption();
+            EvaluationBudget.check(EvaluationBudget.EXPAND);
 
             result = result.multiply(this);
         }
@@ -204,6 +204,15 @@ public abstract class Generic implements Arithmetic<Generic>, Comparable {
         return false;
     }
 
+    /**
+     * @return canonical instance equal to this value, see {@link Expression#intern()}. Values of other types are not
+     * interned.
+     */
+    @Nonnull
+    public Generic intern() {
+        return this;
+    }
+
     public abstract String toJava();
 
     public String toMathML() {
@@ -98,6 +98,18 @@ public abstract class GenericVariable extends Variable {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + content.hashCode();
+    }
+
+    @Nonnull
+    @Override
+    public Variable intern() {
+        content = content.intern();
+        return super.intern();
+    }
+
     public String toString() {
         return content.toString();
     }
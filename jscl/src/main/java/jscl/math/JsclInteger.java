@@ -343,6 +343,11 @@ public final class JsclInteger extends Generic {
         return content.compareTo(integer.content);
     }
 
+    @Override
+    public int hashCode() {
+        return content.hashCode();
+    }
+
     public int compareTo(Generic generic) {
         if (generic instanceof JsclInteger) {
             return compareTo((JsclInteger) generic);
@@ -1,6 +1,8 @@
 package jscl.math;
 
 import com.google.common.base.Function;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import jscl.math.function.Fraction;
 import jscl.math.function.Pow;
 import jscl.math.polynomial.Monomial;
@@ -14,10 +16,17 @@ import java.util.TreeMap;
 
 public class Literal implements Comparable {
 
+    // canonical instances, see #intern()
+    @Nonnull
+    private static final Interner<Literal> interner = Interners.newWeakInterner();
+
     private Variable variables[];
     private int powers[];
     private int degree;
     private int size;
+    // 0 if not computed yet
+    private int hash;
+    private boolean interned;
 
     Literal() {
     }
@@ -312,6 +321,9 @@ public class Literal implements Comparable {
     }
 
     public int compareTo(@Nonnull Literal that) {
+        if (this == that) {
+            return 0;
+        }
         int thisI = this.size;
         int thatI = that.size;
 
@@ -353,6 +365,53 @@ public class Literal implements Comparable {
         return compareTo((Literal) o);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Literal)) {
+            return false;
+        }
+        final Literal that = (Literal) o;
+        if (interned && that.interned) {
+            // there is only one interned instance of each value
+            return false;
+        }
+        return size == that.size && hashCode() == that.hashCode() && compareTo(that) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            for (int i = 0; i < size; i++) {
+                result = 31 * (31 * result + variables[i].hashCode()) + powers[i];
+            }
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Interns variables of this literal and this literal itself. Interned literals are kept in a weak table, i.e. they
+     * are released as soon as they are not used anymore.
+     *
+     * @return canonical instance equal to this literal: equal interned literals are the same object
+     */
+    @Nonnull
+    public Literal intern() {
+        if (interned) {
+            return this;
+        }
+        for (int i = 0; i < size; i++) {
+            variables[i] = variables[i].intern();
+        }
+        final Literal result = interner.intern(this);
+        result.interned = true;
+        return result;
+    }
+
     void init(Variable var, int pow) {
         if (pow != 0) {
             init(1);
@@ -9,6 +9,8 @@ import jscl.mathml.MathML;
 import jscl.util.ArrayComparator;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -402,6 +404,16 @@ public class Matrix extends Generic {
     }
 
     public Generic inverse() {
+        final Generic[][] a = augment(Matrix.identity(rows).elements);
+        final Generic d = eliminate(a);
+        if (d != null) {
+            final Matrix m = (Matrix) newInstance();
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(a[i], rows, m.elements[i], 0, rows);
+            }
+            return m.divide(d);
+        }
+        // singular matrix (or elements which can't be divided exactly): adjugate divided by the determinant
         Matrix m = (Matrix) newInstance();
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < rows; j++) {
@@ -411,6 +423,112 @@ public class Matrix extends Generic {
         return m.transpose().divide(determinant());
     }
 
+    /**
+     * Solves linear system <code>this * x = b</code>
+     *
+     * @param b right-hand side of the system
+     * @return solution of the system
+     * @throws ArithmeticException if matrix is singular
+     */
+    @Nonnull
+    public JsclVector solve(@Nonnull JsclVector b) {
+        if (rows != cols || rows != b.rows) {
+            throw new ArithmeticException("Unable to solve linear system: dimensions of matrix and vector don't match!");
+        }
+        final Generic[][] column = new Generic[rows][1];
+        for (int i = 0; i < rows; i++) {
+            column[i][0] = b.elements[i];
+        }
+        final Generic[][] a = augment(column);
+        final Generic d = eliminate(a);
+        if (d == null) {
+            throw new ArithmeticException("Unable to solve linear system: matrix is singular!");
+        }
+        final JsclVector x = (JsclVector) b.newInstance();
+        for (int i = 0; i < rows; i++) {
+            try {
+                x.elements[i] = a[i][rows].divide(d);
+            } catch (NotDivisibleException e) {
+                x.elements[i] = new Fraction(a[i][rows], d).selfExpand();
+            }
+        }
+        return x;
+    }
+
+    @Nonnull
+    private Generic[][] augment(@Nonnull Generic[][] right) {
+        final int width = right.length > 0 ? right[0].length : 0;
+        final Generic[][] result = new Generic[rows][rows + width];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(elements[i], 0, result[i], 0, rows);
+            System.arraycopy(right[i], 0, result[i], rows, width);
+        }
+        return result;
+    }
+
+    /**
+     * Fraction-free Gauss-Jordan elimination (Bareiss) of the augmented matrix <var>a</var> = [this | right]: on exit
+     * the left part of <var>a</var> is <code>d * I</code> and the right part is <code>d * this^(-1) * right</code>.
+     * All divisions are exact, so no fractions appear in the intermediate results.
+     *
+     * @param a augmented matrix, modified in place
+     * @return determinant of the matrix (<var>d</var>) or null if the matrix is singular or if its elements can't be
+     * divided exactly
+     */
+    @Nullable
+    private static Generic eliminate(@Nonnull Generic[][] a) {
+        final int n = a.length;
+        final int width = n > 0 ? a[0].length : 0;
+        Generic previous = JsclInteger.valueOf(1);
+        boolean negate = false;
+        try {
+            for (int k = 0; k < n; k++) {
+                final int p = findPivot(a, k);
+                if (p < 0) {
+                    return null;
+                } else if (p != k) {
+                    final Generic[] row = a[p];
+                    a[p] = a[k];
+                    a[k] = row;
+                    negate = !negate;
+                }
+                for (int i = 0; i < n; i++) {
+                    if (i == k) {
+                        continue;
+                    }
+                    for (int j = 0; j < width; j++) {
+                        if (j != k) {
+                            a[i][j] = a[k][k].multiply(a[i][j]).subtract(a[i][k].multiply(a[k][j])).divide(previous);
+                        }
+                    }
+                    a[i][k] = JsclInteger.valueOf(0);
+                }
+                previous = a[k][k];
+            }
+        } catch (NotDivisibleException e) {
+            return null;
+        }
+        if (negate) {
+            // rows were swapped odd number of times => d = -det
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < width; j++) {
+                    a[i][j] = a[i][j].negate();
+                }
+            }
+            return previous.negate();
+        }
+        return previous;
+    }
+
+    private static int findPivot(@Nonnull Generic[][] a, int k) {
+        for (int i = k; i < a.length; i++) {
+            if (a[i][k].signum() != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     Generic inverseElement(int k, int l) {
         Matrix m = (Matrix) newInstance();
         for (int i = 0; i < rows; i++) {
@@ -422,6 +540,55 @@ public class Matrix extends Generic {
     }
 
     public Generic determinant() {
+        if (rows > 1) {
+            final Generic result = bareissDeterminant();
+            if (result != null) {
+                return result;
+            }
+            return cofactorDeterminant();
+        } else if (rows > 0) return elements[0][0];
+        else return JsclInteger.valueOf(0);
+    }
+
+    /**
+     * Fraction-free Gaussian elimination (Bareiss): O(n^3) operations and all divisions are exact
+     *
+     * @return determinant of the matrix or null if elements of the matrix can't be divided exactly
+     */
+    @Nullable
+    private Generic bareissDeterminant() {
+        final Generic[][] a = new Generic[rows][];
+        for (int i = 0; i < rows; i++) {
+            a[i] = Arrays.copyOf(elements[i], rows);
+        }
+        Generic previous = JsclInteger.valueOf(1);
+        boolean negate = false;
+        try {
+            for (int k = 0; k < rows - 1; k++) {
+                final int p = findPivot(a, k);
+                if (p < 0) {
+                    return JsclInteger.valueOf(0);
+                } else if (p != k) {
+                    final Generic[] row = a[p];
+                    a[p] = a[k];
+                    a[k] = row;
+                    negate = !negate;
+                }
+                for (int i = k + 1; i < rows; i++) {
+                    for (int j = k + 1; j < rows; j++) {
+                        a[i][j] = a[k][k].multiply(a[i][j]).subtract(a[i][k].multiply(a[k][j])).divide(previous);
+                    }
+                }
+                previous = a[k][k];
+            }
+        } catch (NotDivisibleException e) {
+            return null;
+        }
+        final Generic result = a[rows - 1][rows - 1];
+        return negate ? result.negate() : result;
+    }
+
+    private Generic cofactorDeterminant() {
         if (rows > 1) {
             Generic a = JsclInteger.valueOf(0);
             for (int i = 0; i < rows; i++) {
@@ -431,8 +598,8 @@ public class Matrix extends Generic {
                     for (int j = 0; j < rows - 1; j++) {
                         for (int k = 0; k < rows - 1; k++) m.elements[j][k] = elements[j < i ? j : j + 1][k + 1];
                     }
-                    if (i % 2 == 0) a = a.add(elements[i][0].multiply(m.determinant()));
-                    else a = a.subtract(elements[i][0].multiply(m.determinant()));
+                    if (i % 2 == 0) a = a.add(elements[i][0].multiply(m.cofactorDeterminant()));
+                    else a = a.subtract(elements[i][0].multiply(m.cofactorDeterminant()));
                 }
             }
             return a;
@@ -8,6 +8,7 @@ import jscl.math.numeric.*;
 import jscl.mathml.MathML;
 
 import javax.annotation.Nonnull;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.Set;
@@ -408,6 +409,38 @@ public final class NumericWrapper extends Generic implements INumeric<NumericWra
         return content.compareTo(wrapper.content);
     }
 
+    /**
+     * Numeric values are equal to numeric values and to integers, other symbolic values (f.e. expressions) are not
+     * converted and are not equal to them
+     */
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof NumericWrapper || o instanceof JsclInteger) && super.equals(o);
+    }
+
+    /**
+     * Integral values have the hash code of {@link JsclInteger} as they are equal to integers, see
+     * {@link #equals(Object)}
+     */
+    @Override
+    public int hashCode() {
+        final double value;
+        if (content instanceof Real) {
+            value = ((Real) content).doubleValue();
+        } else if (content instanceof Complex && ((Complex) content).imaginaryPart() == 0) {
+            value = ((Complex) content).realPart();
+        } else {
+            return content.hashCode();
+        }
+        if (value != Math.rint(value) || Double.isInfinite(value)) {
+            return content.hashCode();
+        }
+        if (Math.abs(value) < 0x1p63) {
+            return BigInteger.valueOf((long) value).hashCode();
+        }
+        return new BigDecimal(value).toBigInteger().hashCode();
+    }
+
     public int compareTo(Generic generic) {
         if (generic instanceof NumericWrapper) {
             return compareTo((NumericWrapper) generic);
@@ -253,6 +253,14 @@ public final class Rational extends Generic implements Field {
         else return numerator.compareTo(rational.numerator);
     }
 
+    /**
+     * Rational is equal to its expression (see {@link Expression#valueOf(Rational)}) and has the same hash code
+     */
+    @Override
+    public int hashCode() {
+        return Expression.valueOf(this).hashCode();
+    }
+
     public int compareTo(Generic generic) {
         if (generic instanceof Rational) {
             return compareTo((Rational) generic);
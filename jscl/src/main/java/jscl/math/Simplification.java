@@ -1,5 +1,7 @@
 package jscl.math;
 
+import jscl.EvaluationBudget;
+import jscl.Instrumentation;
 import jscl.math.function.*;
 import jscl.math.polynomial.Basis;
 import jscl.math.polynomial.Monomial;
@@ -30,8 +32,7 @@ public final class Simplification {
     }
 
     void computeValue(Generic generic) {
-        Debug.println("simplification");
-        Debug.increment();
+        Instrumentation.count(Instrumentation.Counter.simplifications);
 
         final Variable t = new TechnicalVariable("t");
         linear = false;
@@ -53,8 +54,6 @@ public final class Simplification {
             default:
                 linear(generic);
         }
-
-        Debug.decrement();
     }
 
     void linear(Generic generic) {
@@ -133,6 +132,7 @@ public final class Simplification {
     }
 
     void process(@Nonnull Constraint c) {
+        EvaluationBudget.check(EvaluationBudget.SIMPLIFY);
 
         constraints.add(c);
 
@@ -1,5 +1,7 @@
 package jscl.math;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import jscl.math.function.*;
 import jscl.math.operator.Factorial;
 import jscl.math.operator.Operator;
@@ -47,6 +49,9 @@ public abstract class Variable implements Comparable, MathEntity {
         }
     };
     static final Map<String, String> special = new HashMap<>();
+    // canonical instances, see #intern()
+    @Nonnull
+    private static final Interner<Variable> interner = Interners.newWeakInterner();
 
     static {
         special.put("Alpha", "\u0391");
@@ -108,6 +113,7 @@ public abstract class Variable implements Comparable, MathEntity {
     protected String name;
     private Integer id;
     private boolean system = true;
+    private boolean interned;
 
     public Variable(@Nonnull String name) {
         this.name = name;
@@ -198,8 +204,40 @@ public abstract class Variable implements Comparable, MathEntity {
         if (this == obj) {
             return true;
         }
+        if (!(obj instanceof Variable)) {
+            return false;
+        }
+        final Variable that = (Variable) obj;
+        if (interned && that.interned) {
+            // there is only one interned instance of each value
+            return false;
+        }
+        return compareTo(that) == 0;
+    }
 
-        return obj instanceof Variable && compareTo((Variable) obj) == 0;
+    /**
+     * Structural hash code: equal variables (see {@link #compareTo(Variable)}) belong to the same group of
+     * {@link #comparator} and have equal names, subclasses add their own content
+     */
+    @Override
+    public int hashCode() {
+        return 31 * VariableComparator.value(this) + name.hashCode();
+    }
+
+    /**
+     * Interned variables are kept in a weak table, i.e. they are released as soon as they are not used anymore.
+     * Interned variables must not be modified.
+     *
+     * @return canonical instance equal to this variable: equal interned variables are the same object
+     */
+    @Nonnull
+    public Variable intern() {
+        if (interned) {
+            return this;
+        }
+        final Variable result = interner.intern(this);
+        result.interned = true;
+        return result;
     }
 
     public String toString() {
@@ -15,7 +15,6 @@ public class Constant extends Variable {
     public static final int PRIME_CHARS = 3;
     private final int prime;
     private final Generic subscripts[];
-    private Object[] hashArray;
 
     public Constant(String name) {
         this(name, 0, new Generic[0]);
@@ -149,20 +148,10 @@ public class Constant extends Variable {
 
     @Override
     public int hashCode() {
-        final Object[] hashArray = getHashArray();
-        hashArray[0] = Constant.class;
-        hashArray[1] = name;
-        hashArray[2] = subscripts;
-        hashArray[3] = prime;
-        return Arrays.deepHashCode(this.hashArray);
-    }
-
-    @Nonnull
-    private Object[] getHashArray() {
-        if(hashArray == null) {
-            hashArray = new Object[4];
-        }
-        return hashArray;
+        int result = super.hashCode();
+        result = 31 * result + Arrays.hashCode(subscripts);
+        result = 31 * result + prime;
+        return result;
     }
 
     public String toString() {
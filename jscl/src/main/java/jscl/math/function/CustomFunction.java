@@ -2,6 +2,7 @@ package jscl.math.function;
 
 import com.google.common.collect.Lists;
 import jscl.CustomFunctionCalculationException;
+import jscl.EvaluationContext;
 import jscl.JsclMathEngine;
 import jscl.NumeralBase;
 import jscl.math.*;
@@ -61,20 +62,15 @@ public class CustomFunction extends Function implements IFunction {
         super(name, new Generic[parameterNames.size()]);
         this.parameterNames = parameterNames;
         final JsclMathEngine engine = JsclMathEngine.getInstance();
-        final NumeralBase nb = engine.getNumeralBase();
-        if (nb != NumeralBase.dec) {
-            // numbers in functions are only supported in decimal base
-            engine.setNumeralBase(NumeralBase.dec);
-        }
+        // numbers in functions are only supported in decimal base
+        final EvaluationContext previous = engine.setThreadContext(engine.getContext().withNumeralBase(NumeralBase.dec));
         try {
             this.content = Expression.valueOf(content);
             ensureNoImplicitFunctions();
         } catch (ParseException e) {
             throw new CustomFunctionCalculationException(this, e);
         } finally {
-            if (nb != NumeralBase.dec) {
-                engine.setNumeralBase(nb);
-            }
+            engine.setThreadContext(previous);
         }
         this.description = description;
         this.id = counter.incrementAndGet();
@@ -322,6 +322,11 @@ public class Root extends Algebraic {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (subscript == null ? 0 : subscript.hashCode());
+    }
+
     public String toString() {
         StringBuffer buffer = new StringBuffer();
         buffer.append(name);
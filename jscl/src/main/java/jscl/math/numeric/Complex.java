@@ -198,6 +198,13 @@ public final class Complex extends Numeric {
         } else throw new ArithmeticException();
     }
 
+    @Override
+    public int hashCode() {
+        // equal to the hash code of Real if the imaginary part is 0
+        final int result = Real.hashCode(real);
+        return imaginary == 0 ? result : 31 * result + Real.hashCode(imaginary);
+    }
+
     public int compareTo(Numeric that) {
         if (that instanceof Complex) {
             return compareTo((Complex) that);
@@ -0,0 +1,133 @@
+package jscl.math.numeric;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Real-valued matrix stored row by row in a flat <code>double</code> array. Used as a fast path by {@link Matrix} and
+ * {@link LuDecomposition} when all elements are {@link Real}: no objects are allocated per scalar operation.
+ * Operations are done in the same order as in the boxed version, i.e. results are identical.
+ */
+final class DoubleMatrix {
+
+    // 64 x 64 doubles = 32 KB per block
+    private static final int BLOCK = 64;
+
+    final int rows;
+    final int cols;
+    @Nonnull
+    final double[] a;
+
+    DoubleMatrix(int rows, int cols) {
+        this(rows, cols, new double[rows * cols]);
+    }
+
+    private DoubleMatrix(int rows, int cols, @Nonnull double[] a) {
+        this.rows = rows;
+        this.cols = cols;
+        this.a = a;
+    }
+
+    /**
+     * @return real matrix with the same elements or null if any of the elements is not real
+     */
+    @Nullable
+    static DoubleMatrix valueOf(@Nonnull Numeric[][] m, int rows, int cols) {
+        final double[] a = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            final Numeric[] row = m[i];
+            for (int j = 0; j < cols; j++) {
+                final Numeric element = row[j];
+                if (!(element instanceof Real)) {
+                    return null;
+                }
+                a[i * cols + j] = element.doubleValue();
+            }
+        }
+        return new DoubleMatrix(rows, cols, a);
+    }
+
+    /**
+     * @return elements of the vector or null if any of the elements is not real
+     */
+    @Nullable
+    static double[] valueOf(@Nonnull Numeric[] v) {
+        final double[] result = new double[v.length];
+        for (int i = 0; i < v.length; i++) {
+            final Numeric element = v[i];
+            if (!(element instanceof Real)) {
+                return null;
+            }
+            result[i] = element.doubleValue();
+        }
+        return result;
+    }
+
+    @Nonnull
+    static Numeric[] toNumerics(@Nonnull double[] v) {
+        final Numeric[] result = new Numeric[v.length];
+        for (int i = 0; i < v.length; i++) {
+            result[i] = Real.valueOf(v[i]);
+        }
+        return result;
+    }
+
+    @Nonnull
+    Numeric[][] toNumerics() {
+        final Numeric[][] result = new Numeric[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            final Numeric[] row = result[i];
+            for (int j = 0; j < cols; j++) {
+                row[j] = Real.valueOf(a[i * cols + j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cache-blocked (i-k-j) matrix product. For each element of the result the products are summed in increasing order
+     * of k exactly as in {@link Matrix#multiply(Matrix)}.
+     */
+    @Nonnull
+    DoubleMatrix multiply(@Nonnull DoubleMatrix that) {
+        final int n = rows;
+        final int m = cols;
+        final int p = that.cols;
+        final double[] b = that.a;
+        final double[] c = new double[n * p];
+        for (int ii = 0; ii < n; ii += BLOCK) {
+            final int iMax = Math.min(ii + BLOCK, n);
+            for (int kk = 0; kk < m; kk += BLOCK) {
+                final int kMax = Math.min(kk + BLOCK, m);
+                for (int jj = 0; jj < p; jj += BLOCK) {
+                    final int jMax = Math.min(jj + BLOCK, p);
+                    for (int i = ii; i < iMax; i++) {
+                        final int ci = i * p;
+                        for (int k = kk; k < kMax; k++) {
+                            final double aik = a[i * m + k];
+                            final int bk = k * p;
+                            for (int j = jj; j < jMax; j++) {
+                                c[ci + j] += aik * b[bk + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new DoubleMatrix(n, p, c);
+    }
+
+    @Nonnull
+    double[] multiply(@Nonnull double[] v) {
+        final double[] result = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            final int ai = i * cols;
+            double s = 0;
+            for (int k = 0; k < cols; k++) {
+                s += a[ai + k] * v[k];
+            }
+            result[i] = s;
+        }
+        return result;
+    }
+}
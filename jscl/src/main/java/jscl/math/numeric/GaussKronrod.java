@@ -0,0 +1,268 @@
+package jscl.math.numeric;
+
+import jscl.EvaluationBudget;
+import jscl.compile.CompiledExpression;
+import jscl.util.ParallelExecutor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Adaptive Gauss-Kronrod (7-15) quadrature of a function of one variable. On each round all the segments with too big
+ * error are bisected. If the integrand is expensive the new segments are evaluated in parallel, the result doesn't
+ * depend on that. Infinite bounds are handled by the substitution <code>x = t / (1 - t^2)</code> (or
+ * <code>x = a + t / (1 - t)</code> for one infinite bound). {@link EvaluationBudget} is checked once per segment.
+ */
+public final class GaussKronrod {
+
+    private static final double RELATIVE_ERROR = 1e-14;
+    private static final double ABSOLUTE_ERROR = 1e-14;
+    private static final int MAX_SEGMENTS = 2000;
+    // evaluation of a segment taking longer than this is considered expensive
+    private static final long PARALLEL_THRESHOLD_NANOS = 50000;
+
+    // Kronrod nodes, nodes with odd indices (and the last one) are also Gauss nodes
+    private static final double[] XGK = {
+            0.991455371120812639206854697526329,
+            0.949107912342758524526189684047851,
+            0.864864423359769072789712788640926,
+            0.741531185599394439863864773280788,
+            0.586087235467691130294144845693013,
+            0.405845151377397166906606412076961,
+            0.207784955007898467600689403773245,
+            0.000000000000000000000000000000000};
+    private static final double[] WGK = {
+            0.022935322010529224963732008058970,
+            0.063092092629978553290700663189204,
+            0.104790010322250183839876322541518,
+            0.140653259715525918745189590510238,
+            0.169004726639267902826583426598550,
+            0.190350578064785409913256402421014,
+            0.204432940075298892414161999234649,
+            0.209482141084727828012999174891714};
+    private static final double[] WG = {
+            0.129484966168869693270611432679082,
+            0.279705391489276667901467771423780,
+            0.381830050505118944950369775488975,
+            0.417959183673469387755102040816327};
+
+    @Nonnull
+    private final CompiledExpression f;
+    private final double a;
+    private final double b;
+
+    private GaussKronrod(@Nonnull CompiledExpression f, double a, double b) {
+        this.f = f;
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * @param f integrand, function of one variable
+     * @param a lower bound
+     * @param b upper bound
+     * @return value of the integral or null if the required accuracy can't be achieved (f.e. integral diverges)
+     */
+    @Nullable
+    public static Double integrate(@Nonnull CompiledExpression f, double a, double b) {
+        if (f.getArity() != 1) {
+            throw new IllegalArgumentException("Integrand must be a function of one variable");
+        }
+        if (Double.isNaN(a) || Double.isNaN(b)) {
+            return null;
+        }
+        if (a == b) {
+            return 0d;
+        }
+        if (a > b) {
+            final Double result = integrate(f, b, a);
+            return result == null ? null : -result;
+        }
+        return new GaussKronrod(f, a, b).integrate();
+    }
+
+    @Nullable
+    private Double integrate() {
+        // integration variable t goes from -1 to 1 for (-inf, inf), from 0 to 1 for one infinite bound
+        final double from = Double.isInfinite(a) && Double.isInfinite(b) ? -1 : (Double.isInfinite(a) || Double.isInfinite(b) ? 0 : a);
+        final double to = Double.isInfinite(a) || Double.isInfinite(b) ? 1 : b;
+
+        final long start = System.nanoTime();
+        List<Segment> segments = new ArrayList<Segment>();
+        segments.add(evaluate(from, to, new double[1]));
+        final boolean parallel = System.nanoTime() - start > PARALLEL_THRESHOLD_NANOS;
+
+        while (true) {
+            double result = 0;
+            double error = 0;
+            double absolute = 0;
+            for (Segment segment : segments) {
+                result += segment.result;
+                error += segment.error;
+                absolute += segment.absolute;
+            }
+            if (Double.isNaN(result) || Double.isInfinite(result)) {
+                return null;
+            }
+            // accuracy relative to the integral of |f| as the result itself might be cancelled out to 0
+            final double tolerance = Math.max(ABSOLUTE_ERROR, RELATIVE_ERROR * absolute);
+            if (error <= tolerance) {
+                return result;
+            }
+
+            // bisect all segments with error larger than their share of the tolerance
+            final double threshold = tolerance / segments.size();
+            final List<Segment> split = new ArrayList<Segment>();
+            for (Segment segment : segments) {
+                if (segment.error > threshold && segment.canBeSplit()) {
+                    split.add(segment);
+                }
+            }
+            if (split.isEmpty() || segments.size() + split.size() > MAX_SEGMENTS) {
+                return null;
+            }
+            final List<Segment> halves = evaluate(split, parallel);
+            if (halves == null) {
+                return null;
+            }
+            final List<Segment> newSegments = new ArrayList<Segment>(segments.size() + split.size());
+            int i = 0;
+            for (Segment segment : segments) {
+                if (i < split.size() && split.get(i) == segment) {
+                    newSegments.add(halves.get(2 * i));
+                    newSegments.add(halves.get(2 * i + 1));
+                    i++;
+                } else {
+                    newSegments.add(segment);
+                }
+            }
+            segments = newSegments;
+        }
+    }
+
+    @Nullable
+    private List<Segment> evaluate(@Nonnull List<Segment> split, boolean parallel) {
+        final List<Segment> result = new ArrayList<Segment>(2 * split.size());
+        if (!parallel || split.size() < 2) {
+            final double[] args = new double[1];
+            for (Segment segment : split) {
+                final double middle = segment.middle();
+                result.add(evaluate(segment.from, middle, args));
+                result.add(evaluate(middle, segment.to, args));
+            }
+            return result;
+        }
+
+        final List<Callable<Segment>> tasks = new ArrayList<Callable<Segment>>(2 * split.size());
+        for (Segment segment : split) {
+            final double middle = segment.middle();
+            tasks.add(newTask(segment.from, middle));
+            tasks.add(newTask(middle, segment.to));
+        }
+        try {
+            for (Future<Segment> future : ParallelExecutor.invokeAll(tasks, EvaluationBudget.INTEGRATE)) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ArithmeticException(String.valueOf(cause));
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Callable<Segment> newTask(final double from, final double to) {
+        return new Callable<Segment>() {
+            @Override
+            public Segment call() {
+                return evaluate(from, to, new double[1]);
+            }
+        };
+    }
+
+    @Nonnull
+    private Segment evaluate(double from, double to, @Nonnull double[] args) {
+        EvaluationBudget.check(EvaluationBudget.INTEGRATE);
+        final double center = (from + to) / 2;
+        final double halfLength = (to - from) / 2;
+        final double fc = value(center, args);
+        double kronrod = fc * WGK[7];
+        double kronrodAbs = Math.abs(fc) * WGK[7];
+        double gauss = fc * WG[3];
+        for (int j = 0; j < 7; j++) {
+            final double dx = halfLength * XGK[j];
+            final double f1 = value(center - dx, args);
+            final double f2 = value(center + dx, args);
+            kronrod += WGK[j] * (f1 + f2);
+            kronrodAbs += WGK[j] * (Math.abs(f1) + Math.abs(f2));
+            if (j % 2 == 1) {
+                gauss += WG[j / 2] * (f1 + f2);
+            }
+        }
+        return new Segment(from, to, kronrod * halfLength, Math.abs((kronrod - gauss) * halfLength), kronrodAbs * Math.abs(halfLength));
+    }
+
+    /**
+     * @return value of the integrand in terms of the integration variable (with the substitution applied)
+     */
+    private double value(double t, @Nonnull double[] args) {
+        // if t is rounded to the bound which corresponds to the infinity the integrand must vanish there anyway for
+        // the integral to converge
+        if (Double.isInfinite(a)) {
+            if (Double.isInfinite(b)) {
+                // x = t / (1 - t^2), dx = (1 + t^2) / (1 - t^2)^2 dt
+                final double d = 1 - t * t;
+                return d == 0 ? 0 : function(t / d, args) * (1 + t * t) / (d * d);
+            }
+            // x = b - (1 - t) / t, dx = dt / t^2
+            return t == 0 ? 0 : function(b - (1 - t) / t, args) / (t * t);
+        } else if (Double.isInfinite(b)) {
+            // x = a + t / (1 - t), dx = dt / (1 - t)^2
+            final double d = 1 - t;
+            return d == 0 ? 0 : function(a + t / d, args) / (d * d);
+        }
+        return function(t, args);
+    }
+
+    private double function(double x, @Nonnull double[] args) {
+        args[0] = x;
+        return f.evaluate(args);
+    }
+
+    private static final class Segment {
+        final double from;
+        final double to;
+        final double result;
+        final double error;
+        // integral of |f|
+        final double absolute;
+
+        Segment(double from, double to, double result, double error, double absolute) {
+            this.from = from;
+            this.to = to;
+            this.result = result;
+            this.error = error;
+            this.absolute = absolute;
+        }
+
+        double middle() {
+            return (from + to) / 2;
+        }
+
+        boolean canBeSplit() {
+            final double middle = middle();
+            return middle > from && middle < to;
+        }
+    }
+}
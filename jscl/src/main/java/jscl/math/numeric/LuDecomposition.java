@@ -0,0 +1,269 @@
+package jscl.math.numeric;
+
+import javax.annotation.Nonnull;
+
+/**
+ * LU decomposition with partial pivoting of a square matrix: <code>P * A = L * U</code>. Both L (with implicit unit
+ * diagonal) and U are stored in one array. Real matrices are decomposed in <code>double</code>s (see
+ * {@link DoubleMatrix}), other matrices element by element.
+ */
+abstract class LuDecomposition {
+
+    @Nonnull
+    final int[] permutation;
+    final int n;
+    boolean singular;
+    boolean negate;
+
+    LuDecomposition(int n) {
+        this.n = n;
+        this.permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+    }
+
+    @Nonnull
+    static LuDecomposition newInstance(@Nonnull Numeric[][] a) {
+        final DoubleMatrix m = DoubleMatrix.valueOf(a, a.length, a.length);
+        return m != null ? new Doubles(m) : new Numerics(a);
+    }
+
+    void swap(int i, int j) {
+        final int index = permutation[i];
+        permutation[i] = permutation[j];
+        permutation[j] = index;
+        negate = !negate;
+    }
+
+    @Nonnull
+    abstract Numeric determinant();
+
+    /**
+     * Note: singular matrix produces non-finite values in the solution
+     *
+     * @param b right-hand side
+     * @return solution of <code>A * x = b</code>
+     */
+    @Nonnull
+    abstract Numeric[] solve(@Nonnull Numeric[] b);
+
+    @Nonnull
+    Numeric[][] inverse() {
+        final Numeric[][] result = new Numeric[n][n];
+        final Numeric[] column = new Numeric[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                column[i] = i == j ? Real.ONE : Real.ZERO;
+            }
+            final Numeric[] x = solve(column);
+            for (int i = 0; i < n; i++) {
+                result[i][j] = x[i];
+            }
+        }
+        return result;
+    }
+
+    private static final class Numerics extends LuDecomposition {
+
+        @Nonnull
+        private final Numeric[][] lu;
+
+        Numerics(@Nonnull Numeric[][] a) {
+            super(a.length);
+            lu = new Numeric[n][];
+            for (int i = 0; i < n; i++) {
+                lu[i] = a[i].clone();
+            }
+
+            for (int k = 0; k < n; k++) {
+                // the largest element (by absolute value) in the column is used as a pivot
+                int p = k;
+                Numeric max = lu[k][k].abs();
+                for (int i = k + 1; i < n; i++) {
+                    final Numeric abs = lu[i][k].abs();
+                    if (abs.compareTo(max) > 0) {
+                        max = abs;
+                        p = i;
+                    }
+                }
+                if (max.signum() == 0) {
+                    singular = true;
+                    continue;
+                }
+                if (p != k) {
+                    final Numeric[] row = lu[p];
+                    lu[p] = lu[k];
+                    lu[k] = row;
+                    swap(p, k);
+                }
+                final Numeric pivot = lu[k][k];
+                for (int i = k + 1; i < n; i++) {
+                    final Numeric l = lu[i][k].divide(pivot);
+                    lu[i][k] = l;
+                    if (l.signum() != 0) {
+                        for (int j = k + 1; j < n; j++) {
+                            lu[i][j] = lu[i][j].subtract(l.multiply(lu[k][j]));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Nonnull
+        @Override
+        Numeric determinant() {
+            if (singular) {
+                return Real.ZERO;
+            }
+            Numeric result = negate ? Real.ONE.negate() : Real.ONE;
+            for (int i = 0; i < n; i++) {
+                result = result.multiply(lu[i][i]);
+            }
+            return result;
+        }
+
+        @Nonnull
+        @Override
+        Numeric[] solve(@Nonnull Numeric[] b) {
+            final Numeric[] x = new Numeric[n];
+            // forward substitution: L * y = P * b
+            for (int i = 0; i < n; i++) {
+                Numeric s = b[permutation[i]];
+                for (int j = 0; j < i; j++) {
+                    s = s.subtract(lu[i][j].multiply(x[j]));
+                }
+                x[i] = s;
+            }
+            // back substitution: U * x = y
+            for (int i = n - 1; i >= 0; i--) {
+                Numeric s = x[i];
+                for (int j = i + 1; j < n; j++) {
+                    s = s.subtract(lu[i][j].multiply(x[j]));
+                }
+                x[i] = s.divide(lu[i][i]);
+            }
+            return x;
+        }
+    }
+
+    private static final class Doubles extends LuDecomposition {
+
+        @Nonnull
+        private final double[] lu;
+
+        Doubles(@Nonnull DoubleMatrix m) {
+            super(m.rows);
+            lu = m.a.clone();
+
+            for (int k = 0; k < n; k++) {
+                int p = k;
+                double max = Math.abs(lu[k * n + k]);
+                for (int i = k + 1; i < n; i++) {
+                    final double abs = Math.abs(lu[i * n + k]);
+                    if (abs > max) {
+                        max = abs;
+                        p = i;
+                    }
+                }
+                if (max == 0) {
+                    singular = true;
+                    continue;
+                }
+                if (p != k) {
+                    for (int j = 0; j < n; j++) {
+                        final double tmp = lu[p * n + j];
+                        lu[p * n + j] = lu[k * n + j];
+                        lu[k * n + j] = tmp;
+                    }
+                    swap(p, k);
+                }
+                final double pivot = lu[k * n + k];
+                for (int i = k + 1; i < n; i++) {
+                    final double l = lu[i * n + k] / pivot;
+                    lu[i * n + k] = l;
+                    if (l != 0) {
+                        for (int j = k + 1; j < n; j++) {
+                            lu[i * n + j] -= l * lu[k * n + j];
+                        }
+                    }
+                }
+            }
+        }
+
+        @Nonnull
+        @Override
+        Numeric determinant() {
+            if (singular) {
+                return Real.ZERO;
+            }
+            double result = negate ? -1 : 1;
+            for (int i = 0; i < n; i++) {
+                result *= lu[i * n + i];
+            }
+            return Real.valueOf(result);
+        }
+
+        @Nonnull
+        @Override
+        Numeric[] solve(@Nonnull Numeric[] b) {
+            final double[] x = DoubleMatrix.valueOf(b);
+            if (x != null) {
+                return DoubleMatrix.toNumerics(solve(x));
+            }
+            // complex right-hand side
+            final Numeric[] result = new Numeric[n];
+            for (int i = 0; i < n; i++) {
+                Numeric s = b[permutation[i]];
+                for (int j = 0; j < i; j++) {
+                    s = s.subtract(Real.valueOf(lu[i * n + j]).multiply(result[j]));
+                }
+                result[i] = s;
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                Numeric s = result[i];
+                for (int j = i + 1; j < n; j++) {
+                    s = s.subtract(Real.valueOf(lu[i * n + j]).multiply(result[j]));
+                }
+                result[i] = s.divide(Real.valueOf(lu[i * n + i]));
+            }
+            return result;
+        }
+
+        @Nonnull
+        private double[] solve(@Nonnull double[] b) {
+            final double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                double s = b[permutation[i]];
+                for (int j = 0; j < i; j++) {
+                    s -= lu[i * n + j] * x[j];
+                }
+                x[i] = s;
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                double s = x[i];
+                for (int j = i + 1; j < n; j++) {
+                    s -= lu[i * n + j] * x[j];
+                }
+                x[i] = s / lu[i * n + i];
+            }
+            return x;
+        }
+
+        @Nonnull
+        @Override
+        Numeric[][] inverse() {
+            final DoubleMatrix result = new DoubleMatrix(n, n);
+            final double[] column = new double[n];
+            for (int j = 0; j < n; j++) {
+                column[j] = 1;
+                final double[] x = solve(column);
+                column[j] = 0;
+                for (int i = 0; i < n; i++) {
+                    result.a[i * n + j] = x[i];
+                }
+            }
+            return result.toNumerics();
+        }
+    }
+}
@@ -81,6 +81,13 @@ public class Matrix extends Numeric {
 
     public Matrix multiply(Matrix matrix) {
         if (cols != matrix.rows) throw new ArithmeticException();
+        final DoubleMatrix a = DoubleMatrix.valueOf(this.m, rows, cols);
+        if (a != null) {
+            final DoubleMatrix b = DoubleMatrix.valueOf(matrix.m, matrix.rows, matrix.cols);
+            if (b != null) {
+                return newInstance(a.multiply(b).toNumerics());
+            }
+        }
         Matrix m = newInstance(new Numeric[rows][matrix.cols]);
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < matrix.cols; j++) {
@@ -98,9 +105,16 @@ public class Matrix extends Numeric {
         if (that instanceof Matrix) {
             return multiply((Matrix) that);
         } else if (that instanceof Vector) {
-            Vector v = ((Vector) that).newInstance(new Numeric[rows]);
             Vector v2 = (Vector) that;
             if (cols != v2.n) throw new ArithmeticException();
+            final DoubleMatrix a = DoubleMatrix.valueOf(m, rows, cols);
+            if (a != null) {
+                final double[] b = DoubleMatrix.valueOf(v2.element);
+                if (b != null) {
+                    return v2.newInstance(DoubleMatrix.toNumerics(a.multiply(b)));
+                }
+            }
+            Vector v = v2.newInstance(new Numeric[rows]);
             for (int i = 0; i < rows; i++) {
                 v.element[i] = Real.ZERO;
                 for (int k = 0; k < cols; k++) {
@@ -205,48 +219,26 @@ public class Matrix extends Numeric {
 
     @Nonnull
     public Numeric inverse() {
-        Matrix m = newInstance();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < rows; j++) {
-                m.m[i][j] = inverseElement(i, j);
-            }
-        }
-        return m.transpose().divide(determinant());
+        return newInstance(LuDecomposition.newInstance(m).inverse());
     }
 
-    Numeric inverseElement(int k, int l) {
-        final Matrix result = newInstance();
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < rows; j++) {
-                if (i == k) {
-                    result.m[i][j] = Real.valueOf(j == l ? 1 : 0);
-                } else {
-                    result.m[i][j] = this.m[i][j];
-                }
-            }
+    /**
+     * Solves linear system <code>this * x = b</code>
+     *
+     * @param b right-hand side of the system
+     * @return solution of the system
+     */
+    @Nonnull
+    public Vector solve(@Nonnull Vector b) {
+        if (rows != cols || rows != b.n) {
+            throw new ArithmeticException();
         }
-
-        return result.determinant();
+        return b.newInstance(LuDecomposition.newInstance(m).solve(b.element));
     }
 
     public Numeric determinant() {
         if (rows > 1) {
-            Numeric a = Real.ZERO;
-            for (int i = 0; i < rows; i++) {
-                if (m[i][0].signum() != 0) {
-                    Matrix m = newInstance(new Numeric[rows - 1][rows - 1]);
-                    for (int j = 0; j < rows - 1; j++) {
-                        for (int k = 0; k < rows - 1; k++) m.m[j][k] = this.m[j < i ? j : j + 1][k + 1];
-                    }
-                    if (i % 2 == 0) {
-                        a = a.add(this.m[i][0].multiply(m.determinant()));
-                    } else {
-                        a = a.subtract(this.m[i][0].multiply(m.determinant()));
-                    }
-                }
-            }
-            return a;
+            return LuDecomposition.newInstance(m).determinant();
         } else if (rows > 0) return m[0][0];
         else return Real.ZERO;
     }
@@ -18,8 +18,14 @@ public abstract class Numeric implements Arithmetic<Numeric>, INumeric<Numeric>,
          return add(numeric.negate());
      }*/
 
+    /**
+     * @param subscript index of the root, see {@link PolynomialRoots}
+     * @param parameter coefficients of the polynomial in increasing order of degrees
+     * @return root of the polynomial
+     */
+    @Nonnull
     public static Numeric root(int subscript, Numeric parameter[]) {
-        throw new ArithmeticException();
+        return PolynomialRoots.root(subscript, parameter);
     }
 
     protected static double defaultToRad(double value) {
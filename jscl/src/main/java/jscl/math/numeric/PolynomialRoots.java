@@ -0,0 +1,436 @@
+package jscl.math.numeric;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * All complex roots of a polynomial found simultaneously by the Aberth-Ehrlich method. Roots are sorted by their real
+ * parts and then by imaginary parts (both in decreasing order), roots of polynomials with real coefficients which are
+ * real up to the rounding errors are returned as {@link Real}. Roots of the last few polynomials are cached, i.e.
+ * subsequent requests of other roots of the same polynomial don't repeat the computation.
+ */
+public final class PolynomialRoots {
+
+    private static final double EPS = Math.ulp(1d);
+    private static final int MAX_ITERATIONS = 500;
+    private static final int CACHE_SIZE = 16;
+    // approximations of a multiple root closer than this (relative to the root) might be merged
+    private static final double CLUSTER_RADIUS = 1e-2;
+    private static final double MULTIPLE_ROOT_TOLERANCE = 100;
+    private static final int MAX_POLISH_ITERATIONS = 8;
+
+    // guarded by itself
+    private static final Map<Key, Numeric[]> cache = new LinkedHashMap<Key, Numeric[]>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Numeric[]> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private PolynomialRoots() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param subscript    index of the root
+     * @param coefficients coefficients of the polynomial, <code>coefficients[i]</code> is a coefficient of
+     *                     <code>x^i</code>
+     * @return root with the given index
+     * @throws ArithmeticException if coefficients are not numbers, polynomial is constant or there is no such root
+     */
+    @Nonnull
+    public static Numeric root(int subscript, @Nonnull Numeric[] coefficients) throws ArithmeticException {
+        final Numeric[] roots = roots(coefficients);
+        if (subscript < 0 || subscript >= roots.length) {
+            throw new ArithmeticException();
+        }
+        return roots[subscript];
+    }
+
+    @Nonnull
+    static Numeric[] roots(@Nonnull Numeric[] coefficients) throws ArithmeticException {
+        final Key key = new Key(coefficients);
+        synchronized (cache) {
+            final Numeric[] roots = cache.get(key);
+            if (roots != null) {
+                return roots;
+            }
+        }
+        final Numeric[] roots = key.solve();
+        synchronized (cache) {
+            cache.put(key, roots);
+        }
+        return roots;
+    }
+
+    private static final class Key {
+        @Nonnull
+        final double[] re;
+        @Nonnull
+        final double[] im;
+        final boolean real;
+
+        Key(@Nonnull Numeric[] coefficients) {
+            int n = coefficients.length;
+            re = new double[n];
+            im = new double[n];
+            boolean real = true;
+            for (int i = 0; i < n; i++) {
+                final Numeric c = coefficients[i];
+                if (c instanceof Real) {
+                    re[i] = c.doubleValue();
+                } else if (c instanceof Complex) {
+                    re[i] = ((Complex) c).realPart();
+                    im[i] = ((Complex) c).imaginaryPart();
+                    real &= im[i] == 0;
+                } else {
+                    throw new ArithmeticException();
+                }
+            }
+            this.real = real;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return Arrays.equals(re, that.re) && Arrays.equals(im, that.im);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(re) + Arrays.hashCode(im);
+        }
+
+        @Nonnull
+        Numeric[] solve() {
+            int n = re.length - 1;
+            while (n >= 0 && re[n] == 0 && im[n] == 0) {
+                n--;
+            }
+            if (n <= 0) {
+                throw new ArithmeticException();
+            }
+            // zero roots
+            int zeros = 0;
+            while (re[zeros] == 0 && im[zeros] == 0) {
+                zeros++;
+            }
+            final double[] ar = Arrays.copyOfRange(re, zeros, n + 1);
+            final double[] ai = Arrays.copyOfRange(im, zeros, n + 1);
+            final double[][] z = aberth(ar, ai);
+            mergeMultipleRoots(ar, ai, z[0], z[1]);
+            if (real) {
+                pairConjugates(z[0], z[1]);
+            }
+
+            final Numeric[] result = new Numeric[n];
+            for (int i = 0; i < zeros; i++) {
+                result[i] = Real.ZERO;
+            }
+            for (int i = 0; i < z[0].length; i++) {
+                final double y = z[1][i];
+                // real part lost in the rounding errors (f.e. roots of x^2 + 1)
+                final double x = Math.abs(z[0][i]) <= 4 * n * n * EPS * Math.abs(y) ? 0 : z[0][i];
+                result[zeros + i] = real && isReal(ar, x, y) ? Real.valueOf(x) : Complex.valueOf(x, y);
+            }
+            Arrays.sort(result, new Comparator<Numeric>() {
+                @Override
+                public int compare(Numeric a, Numeric b) {
+                    final int c = Double.compare(realPart(b), realPart(a));
+                    return c != 0 ? c : Double.compare(imaginaryPart(b), imaginaryPart(a));
+                }
+            });
+            return result;
+        }
+    }
+
+    /**
+     * Aberth-Ehrlich iteration, roots are updated one by one using the already updated values of the others
+     *
+     * @return real and imaginary parts of the roots of a polynomial with non-zero constant and leading coefficients
+     */
+    @Nonnull
+    private static double[][] aberth(@Nonnull double[] ar, @Nonnull double[] ai) {
+        final int n = ar.length - 1;
+        final double[] zr = new double[n];
+        final double[] zi = new double[n];
+        final boolean[] converged = new boolean[n];
+
+        // initial approximations on a circle with radius |a0 / an|^(1/n), rotated to avoid symmetry with the real axis
+        final double radius = Math.pow(Math.hypot(ar[0], ai[0]) / Math.hypot(ar[n], ai[n]), 1d / n);
+        for (int i = 0; i < n; i++) {
+            final double angle = 2 * Math.PI * i / n + 0.4;
+            zr[i] = radius * Math.cos(angle);
+            zi[i] = radius * Math.sin(angle);
+        }
+
+        final double[] value = new double[4];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            boolean done = true;
+            for (int i = 0; i < n; i++) {
+                if (converged[i]) {
+                    continue;
+                }
+                final double x = zr[i];
+                final double y = zi[i];
+                // value[0..1] = p(z), value[2..3] = p'(z)
+                final double bound = evaluate(ar, ai, x, y, value);
+                if (Math.hypot(value[0], value[1]) <= bound) {
+                    converged[i] = true;
+                    continue;
+                }
+                done = false;
+
+                // ratio = p(z) / p'(z)
+                final double d = value[2] * value[2] + value[3] * value[3];
+                final double rr;
+                final double ri;
+                if (d == 0) {
+                    // z is a critical point: step aside
+                    rr = EPS * Math.max(1, Math.hypot(x, y));
+                    ri = 0;
+                } else {
+                    rr = (value[0] * value[2] + value[1] * value[3]) / d;
+                    ri = (value[1] * value[2] - value[0] * value[3]) / d;
+                }
+                // sum of 1 / (z - zj)
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < n; j++) {
+                    if (j != i) {
+                        final double dr = x - zr[j];
+                        final double di = y - zi[j];
+                        final double m = dr * dr + di * di;
+                        if (m != 0) {
+                            sr += dr / m;
+                            si -= di / m;
+                        }
+                    }
+                }
+                // w = ratio / (1 - ratio * sum)
+                final double br = 1 - (rr * sr - ri * si);
+                final double bi = -(rr * si + ri * sr);
+                final double b = br * br + bi * bi;
+                final double wr;
+                final double wi;
+                if (b == 0) {
+                    wr = rr;
+                    wi = ri;
+                } else {
+                    wr = (rr * br + ri * bi) / b;
+                    wi = (ri * br - rr * bi) / b;
+                }
+                zr[i] = x - wr;
+                zi[i] = y - wi;
+                if (Math.hypot(wr, wi) <= EPS * Math.hypot(zr[i], zi[i])) {
+                    converged[i] = true;
+                }
+            }
+            if (done) {
+                break;
+            }
+        }
+        return new double[][]{zr, zi};
+    }
+
+    /**
+     * Approximations of a root of multiplicity m are only accurate to about <code>eps^(1/m)</code> and are scattered
+     * around it. The root is a simple root of the (m - 1)-th derivative: starting from the mean of the cluster it is
+     * refined by Newton's method and replaces the cluster if the polynomial and its first m - 1 derivatives vanish
+     * there up to the rounding errors.
+     */
+    private static void mergeMultipleRoots(@Nonnull double[] ar, @Nonnull double[] ai, @Nonnull double[] zr, @Nonnull double[] zi) {
+        final int n = zr.length;
+        final boolean[] merged = new boolean[n];
+        final int[] cluster = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (merged[i]) {
+                continue;
+            }
+            int m = 0;
+            double cr = 0;
+            double ci = 0;
+            for (int j = i; j < n; j++) {
+                if (!merged[j] && Math.hypot(zr[j] - zr[i], zi[j] - zi[i]) <= CLUSTER_RADIUS * Math.max(1, Math.hypot(zr[i], zi[i]))) {
+                    cluster[m++] = j;
+                    cr += zr[j];
+                    ci += zi[j];
+                }
+            }
+            if (m > 1) {
+                final double[] c = {cr / m, ci / m};
+                if (polish(ar, ai, c, m)) {
+                    for (int k = 0; k < m; k++) {
+                        zr[cluster[k]] = c[0];
+                        zi[cluster[k]] = c[1];
+                        merged[cluster[k]] = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Non-real roots of a polynomial with real coefficients come in conjugate pairs: approximations are made exactly
+     * conjugate so that both members of a pair are ordered in the same way
+     */
+    private static void pairConjugates(@Nonnull double[] zr, @Nonnull double[] zi) {
+        final int n = zr.length;
+        final boolean[] paired = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            if (paired[i] || zi[i] <= 0) {
+                continue;
+            }
+            int conjugate = -1;
+            double distance = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                if (!paired[j] && zi[j] < 0) {
+                    final double d = Math.hypot(zr[j] - zr[i], zi[j] + zi[i]);
+                    if (d < distance) {
+                        distance = d;
+                        conjugate = j;
+                    }
+                }
+            }
+            if (conjugate >= 0 && distance <= CLUSTER_RADIUS * Math.hypot(zr[i], zi[i])) {
+                final double x = (zr[i] + zr[conjugate]) / 2;
+                final double y = (zi[i] - zi[conjugate]) / 2;
+                zr[i] = x;
+                zi[i] = y;
+                zr[conjugate] = x;
+                zi[conjugate] = -y;
+                paired[i] = true;
+                paired[conjugate] = true;
+            }
+        }
+    }
+
+    /**
+     * Newton's iteration for the (m - 1)-th Taylor coefficient of the polynomial
+     *
+     * @param c approximation of a root of multiplicity m, replaced by the refined value
+     * @return true if Taylor coefficients of the polynomial at c up to (m - 1)-th vanish up to the rounding errors
+     */
+    private static boolean polish(@Nonnull double[] ar, @Nonnull double[] ai, @Nonnull double[] c, int m) {
+        final int n = ar.length - 1;
+        final double[] tr = new double[n + 1];
+        final double[] ti = new double[n + 1];
+        final double[] bound = new double[n + 1];
+        for (int iteration = 0; iteration < MAX_POLISH_ITERATIONS; iteration++) {
+            taylor(ar, ai, c[0], c[1], m + 1, tr, ti, bound);
+            // d/dc t[m - 1](c) = m * t[m](c)
+            final double dr = m * tr[m];
+            final double di = m * ti[m];
+            final double d = dr * dr + di * di;
+            if (d == 0) {
+                break;
+            }
+            final double wr = (tr[m - 1] * dr + ti[m - 1] * di) / d;
+            final double wi = (ti[m - 1] * dr - tr[m - 1] * di) / d;
+            c[0] -= wr;
+            c[1] -= wi;
+            if (Math.hypot(wr, wi) <= EPS * Math.hypot(c[0], c[1])) {
+                break;
+            }
+        }
+
+        taylor(ar, ai, c[0], c[1], m, tr, ti, bound);
+        for (int j = 0; j < m; j++) {
+            if (Math.hypot(tr[j], ti[j]) > MULTIPLE_ROOT_TOLERANCE * n * EPS * bound[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Repeated synthetic division by <code>z - c</code>: the remainders are the first <var>count</var> Taylor
+     * coefficients of the polynomial at c, the same computation for |a| and |c| gives bounds of their rounding errors
+     */
+    private static void taylor(@Nonnull double[] ar, @Nonnull double[] ai, double cr, double ci, int count,
+                               @Nonnull double[] tr, @Nonnull double[] ti, @Nonnull double[] bound) {
+        final int n = ar.length - 1;
+        for (int k = 0; k <= n; k++) {
+            tr[k] = ar[k];
+            ti[k] = ai[k];
+            bound[k] = Math.hypot(ar[k], ai[k]);
+        }
+        final double c = Math.hypot(cr, ci);
+        for (int j = 0; j < count && j < n; j++) {
+            for (int k = n - 1; k >= j; k--) {
+                final double r = tr[k] + tr[k + 1] * cr - ti[k + 1] * ci;
+                ti[k] = ti[k] + tr[k + 1] * ci + ti[k + 1] * cr;
+                tr[k] = r;
+                bound[k] = bound[k] + bound[k + 1] * c;
+            }
+        }
+    }
+
+    /**
+     * Horner's scheme for the polynomial and its derivative
+     *
+     * @return bound of the rounding error of p(z)
+     */
+    private static double evaluate(@Nonnull double[] ar, @Nonnull double[] ai, double x, double y, @Nonnull double[] result) {
+        final int n = ar.length - 1;
+        double pr = ar[n];
+        double pi = ai[n];
+        double dr = 0;
+        double di = 0;
+        final double abs = Math.hypot(x, y);
+        double error = Math.hypot(pr, pi);
+        for (int k = n - 1; k >= 0; k--) {
+            // p' = p' * z + p
+            final double tr = dr * x - di * y + pr;
+            di = dr * y + di * x + pi;
+            dr = tr;
+            // p = p * z + a
+            final double ur = pr * x - pi * y + ar[k];
+            pi = pr * y + pi * x + ai[k];
+            pr = ur;
+            error = error * abs + Math.hypot(pr, pi);
+        }
+        result[0] = pr;
+        result[1] = pi;
+        result[2] = dr;
+        result[3] = di;
+        return 4 * n * EPS * error;
+    }
+
+    /**
+     * @return true if root <code>x + i * y</code> of polynomial with real coefficients is real up to the rounding errors
+     */
+    private static boolean isReal(@Nonnull double[] a, double x, double y) {
+        if (y == 0) {
+            return true;
+        }
+        // inaccuracy of a multiple root is about sqrt(eps)
+        if (Math.abs(y) > 1e-6 * Math.max(1, Math.abs(x))) {
+            return false;
+        }
+        double p = 0;
+        double error = 0;
+        for (int k = a.length - 1; k >= 0; k--) {
+            p = p * x + a[k];
+            error = error * Math.abs(x) + Math.abs(a[k]);
+        }
+        return Math.abs(p) <= 16 * a.length * EPS * error;
+    }
+
+    private static double realPart(@Nonnull Numeric numeric) {
+        return numeric instanceof Complex ? ((Complex) numeric).realPart() : numeric.doubleValue();
+    }
+
+    private static double imaginaryPart(@Nonnull Numeric numeric) {
+        return numeric instanceof Complex ? ((Complex) numeric).imaginaryPart() : 0;
+    }
+}
@@ -258,6 +258,22 @@ public final class Real extends Numeric {
         return Double.compare(this.content, that.content);
     }
 
+    @Override
+    public int hashCode() {
+        return hashCode(content);
+    }
+
+    /**
+     * @return hash code of <var>value</var> which is the same for 0 and -0 (complex numbers don't distinguish them)
+     */
+    static int hashCode(double value) {
+        if (value == 0) {
+            return 0;
+        }
+        final long bits = Double.doubleToLongBits(value);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
     public int compareTo(Numeric numeric) {
         if (numeric instanceof Real) {
             return compareTo((Real) numeric);
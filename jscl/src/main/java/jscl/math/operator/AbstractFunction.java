@@ -9,6 +9,7 @@ import jscl.util.ArrayComparator;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -211,6 +212,24 @@ public abstract class AbstractFunction extends Variable {
         }
     }
 
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Arrays.hashCode(parameters);
+    }
+
+    @Nonnull
+    @Override
+    public Variable intern() {
+        if (parameters != null) {
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] != null) {
+                    parameters[i] = parameters[i].intern();
+                }
+            }
+        }
+        return super.intern();
+    }
+
     public Generic substitute(@Nonnull Variable variable, @Nonnull Generic generic) {
         final AbstractFunction function = (AbstractFunction) newInstance();
 
@@ -32,24 +32,7 @@ public class Factorial extends PostfixFunction {
     public Generic selfNumeric() {
         final Generic parameter = parameters[0];
         if (parameter.isInteger()) {
-            int n = parameter.integerValue().intValue();
-            if (n < 0) {
-                //return expressionValue();
-                throw new ArithmeticException("Cannot take factorial from negative integer!");
-            }
-
-            Generic result = JsclInteger.valueOf(1);
-            for (int i = 0; i < n; i++) {
-                ParserUtils.checkInterruption();
-                result = result.multiply(JsclInteger.valueOf(i + 1));
-            }
-
-            if (result instanceof JsclInteger) {
-                return new NumericWrapper(((JsclInteger) result));
-            } else {
-                throw NotIntegerException.get();
-            }
-
+            return Factorials.numeric(parameter.integerValue().intValue(), 1);
         } else {
             throw NotIntegerException.get();
         }
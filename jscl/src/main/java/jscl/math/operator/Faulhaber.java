@@ -0,0 +1,87 @@
+package jscl.math.operator;
+
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sums of powers of consecutive integers in closed form (Faulhaber's formula):
+ * <code>1^k + 2^k + ... + n^k = (Σ C(k + 1, j) * B(j) * n^(k + 1 - j), j = 0..k) / (k + 1)</code> where
+ * <code>B(j)</code> are Bernoulli numbers with <code>B(1) = 1/2</code>. The right side is a polynomial in
+ * <var>n</var>, so <code>a^k + ... + b^k = S(b) - S(a - 1)</code> holds for any integers <var>a</var> &lt;=
+ * <var>b</var>.
+ */
+final class Faulhaber {
+
+    // Bernoulli numbers are computed in O(k^2) rational operations, higher degrees are summed term by term
+    static final int MAX_DEGREE = 100;
+
+    // Akiyama-Tanigawa algorithm state: row of the table and Bernoulli numbers computed so far, both as
+    // {numerator, denominator} pairs, guarded by bernoulli
+    private static final List<BigInteger[]> row = new ArrayList<BigInteger[]>();
+    private static final List<BigInteger[]> bernoulli = new ArrayList<BigInteger[]>();
+
+    private Faulhaber() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @return <code>1^k + 2^k + ... + n^k</code> (value of the same polynomial for <var>n</var> &lt;= 0)
+     */
+    @Nonnull
+    static BigInteger powerSum(int k, @Nonnull BigInteger n) {
+        final BigInteger[][] b = bernoulli(k);
+        final BigInteger[] powers = new BigInteger[k + 2];
+        powers[0] = BigInteger.ONE;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1].multiply(n);
+        }
+
+        BigInteger numerator = BigInteger.ZERO;
+        BigInteger denominator = BigInteger.ONE;
+        // C(k + 1, j)
+        BigInteger binomial = BigInteger.ONE;
+        for (int j = 0; j <= k; j++) {
+            if (b[j][0].signum() != 0) {
+                numerator = numerator.multiply(b[j][1]).add(binomial.multiply(b[j][0]).multiply(powers[k + 1 - j]).multiply(denominator));
+                denominator = denominator.multiply(b[j][1]);
+                final BigInteger gcd = numerator.gcd(denominator);
+                if (gcd.signum() != 0 && !gcd.equals(BigInteger.ONE)) {
+                    numerator = numerator.divide(gcd);
+                    denominator = denominator.divide(gcd);
+                }
+            }
+            binomial = binomial.multiply(BigInteger.valueOf(k + 1 - j)).divide(BigInteger.valueOf(j + 1));
+        }
+        // sum of integers is an integer
+        return numerator.divide(denominator.multiply(BigInteger.valueOf(k + 1)));
+    }
+
+    /**
+     * @return Bernoulli numbers from <code>B(0)</code> to <code>B(k)</code>
+     */
+    @Nonnull
+    private static BigInteger[][] bernoulli(int k) {
+        synchronized (bernoulli) {
+            for (int m = bernoulli.size(); m <= k; m++) {
+                row.add(new BigInteger[]{BigInteger.ONE, BigInteger.valueOf(m + 1)});
+                for (int j = m; j >= 1; j--) {
+                    final BigInteger[] a = row.get(j - 1);
+                    final BigInteger[] b = row.get(j);
+                    // j * (a - b)
+                    BigInteger numerator = a[0].multiply(b[1]).subtract(b[0].multiply(a[1])).multiply(BigInteger.valueOf(j));
+                    BigInteger denominator = a[1].multiply(b[1]);
+                    final BigInteger gcd = numerator.gcd(denominator);
+                    if (gcd.signum() != 0) {
+                        numerator = numerator.divide(gcd);
+                        denominator = denominator.divide(gcd);
+                    }
+                    row.set(j - 1, new BigInteger[]{numerator, denominator});
+                }
+                bernoulli.add(row.get(0));
+            }
+            return bernoulli.subList(0, k + 1).toArray(new BigInteger[k + 1][]);
+        }
+    }
+}
@@ -2,15 +2,21 @@ package jscl.math.operator;
 
 import jscl.AngleUnit;
 import jscl.JsclMathEngine;
+import jscl.compile.ExpressionCompiler;
+import jscl.compile.NotCompilableException;
 import jscl.math.Generic;
 import jscl.math.NotIntegrableException;
+import jscl.math.NumericWrapper;
 import jscl.math.Variable;
+import jscl.math.numeric.GaussKronrod;
+import jscl.math.numeric.Real;
 import jscl.mathml.MathML;
 import jscl.text.msg.JsclMessage;
 import jscl.text.msg.Messages;
 import org.solovyev.common.msg.MessageType;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public class Integral extends Operator {
 
@@ -43,6 +49,45 @@ public class Integral extends Operator {
         return expressionValue();
     }
 
+    @Override
+    public Generic numeric() {
+        final Variable variable = parameters[1].variableValue();
+        try {
+            final Generic a = parameters[0].antiDerivative(variable);
+            return a.substitute(variable, parameters[3]).subtract(a.substitute(variable, parameters[2])).numeric();
+        } catch (NotIntegrableException e) {
+            // no antiderivative in closed form => numeric quadrature
+        } catch (ArithmeticException e) {
+            // antiderivative can't be evaluated at the bounds (f.e. at infinity) => numeric quadrature
+        }
+        final Double a = boundValue(parameters[2]);
+        final Double b = boundValue(parameters[3]);
+        if (a != null && b != null) {
+            try {
+                final Double result = GaussKronrod.integrate(ExpressionCompiler.compile(parameters[0], variable), a, b);
+                if (result != null) {
+                    return new NumericWrapper(Real.valueOf(result));
+                }
+            } catch (NotCompilableException e) {
+                // integrand depends on other variables or can't be evaluated in doubles
+            }
+        }
+        return super.numeric();
+    }
+
+    @Nullable
+    private static Double boundValue(@Nonnull Generic bound) {
+        try {
+            final Generic value = bound.numeric();
+            if (value instanceof NumericWrapper && ((NumericWrapper) value).content() instanceof Real) {
+                return value.doubleValue();
+            }
+        } catch (ArithmeticException e) {
+            // not a number
+        }
+        return null;
+    }
+
     @Nonnull
     @Override
     protected String formatUndefinedParameter(int i) {
@@ -1,17 +1,26 @@
 package jscl.math.operator;
 
+import jscl.EvaluationBudget;
+import jscl.compile.CompiledExpression;
 import jscl.math.Generic;
 import jscl.math.JsclInteger;
 import jscl.math.NotIntegerException;
+import jscl.math.NumericWrapper;
 import jscl.math.Variable;
+import jscl.math.numeric.Real;
 import jscl.mathml.MathML;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 public class Product extends Operator {
 
     public static final String NAME = "∏";
 
+    // term compiled by selfExpand(), reused by numeric() of the same instance
+    @Nullable
+    private Series.CompiledTerm compiledTerm;
+
     public Product(Generic expression, Generic variable, Generic n1, Generic n2) {
         super(NAME, new Generic[]{expression, variable, n1, n2});
     }
@@ -20,6 +29,12 @@ public class Product extends Operator {
         super(NAME, parameters);
     }
 
+    @Nullable
+    private CompiledExpression compileTerm(@Nonnull Variable variable) {
+        compiledTerm = Series.compile(compiledTerm, parameters[0], variable);
+        return compiledTerm.expression;
+    }
+
     @Override
     public int getMinParameters() {
         return 4;
@@ -30,16 +45,46 @@ public class Product extends Operator {
         try {
             int n1 = parameters[2].integerValue().intValue();
             int n2 = parameters[3].integerValue().intValue();
-            Generic a = JsclInteger.valueOf(1);
-            for (int i = n1; i <= n2; i++) {
-                a = a.multiply(parameters[0].substitute(variable, JsclInteger.valueOf(i)));
+            if ((long) n2 - n1 + 1 > Series.SYMBOLIC_LIMIT && compileTerm(variable) != null) {
+                // too many factors, see numeric()
+                return expressionValue();
             }
-            return a;
+            return multiplyTerms(variable, n1, n2);
         } catch (NotIntegerException e) {
         }
         return expressionValue();
     }
 
+    @Nonnull
+    private Generic multiplyTerms(@Nonnull Variable variable, int n1, int n2) {
+        Generic a = JsclInteger.valueOf(1);
+        for (int i = n1; i <= n2; i++) {
+            EvaluationBudget.check(EvaluationBudget.PRODUCT);
+            a = a.multiply(parameters[0].substitute(variable, JsclInteger.valueOf(i)));
+        }
+        return a;
+    }
+
+    @Override
+    public Generic numeric() {
+        final Variable variable = parameters[1].variableValue();
+        try {
+            final int n1 = parameters[2].integerValue().intValue();
+            final int n2 = parameters[3].integerValue().intValue();
+            final CompiledExpression term = compileTerm(variable);
+            if (term != null) {
+                final double result = Series.product(term, n1, n2);
+                if (!Double.isNaN(result)) {
+                    return new NumericWrapper(Real.valueOf(result));
+                }
+                // some of the factors are not real
+            }
+            return multiplyTerms(variable, n1, n2).numeric();
+        } catch (NotIntegerException e) {
+            return super.numeric();
+        }
+    }
+
     @Nonnull
     @Override
     protected String formatUndefinedParameter(int i) {
@@ -0,0 +1,167 @@
+package jscl.math.operator;
+
+import jscl.AngleUnit;
+import jscl.EvaluationBudget;
+import jscl.JsclMathEngine;
+import jscl.compile.CompiledExpression;
+import jscl.compile.ExpressionCompiler;
+import jscl.compile.NotCompilableException;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import jscl.text.ParseInterruptedException;
+import jscl.util.ParallelExecutor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Numeric evaluation of {@link Sum} and {@link Product} in doubles. The range is split into chunks of fixed size which
+ * are evaluated in parallel (if there is more than one), partial results are combined in order, i.e. the result
+ * doesn't depend on the number of cores. Sums are compensated (Kahan-Babuska). {@link EvaluationBudget} is checked
+ * once per chunk.
+ */
+final class Series {
+
+    // ranges longer than this are not expanded symbolically if the term can be compiled
+    static final long SYMBOLIC_LIMIT = 1000;
+    private static final int CHUNK = 1 << 16;
+
+    private Series() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compiles the term once per operator: compilation expands the term and is done both by
+     * {@link Operator#selfExpand()} (to check whether the series should be evaluated numerically) and by
+     * {@link Operator#numeric()}
+     *
+     * @param previous result of the previous compilation of the same term, null if there was none
+     * @return term compiled as a function of the index for the current angle units
+     */
+    @Nonnull
+    static CompiledTerm compile(@Nullable CompiledTerm previous, @Nonnull Generic term, @Nonnull Variable variable) {
+        final AngleUnit angleUnits = JsclMathEngine.getInstance().getAngleUnits();
+        if (previous != null && previous.angleUnits == angleUnits) {
+            return previous;
+        }
+        try {
+            return new CompiledTerm(ExpressionCompiler.compile(term, angleUnits, variable), angleUnits);
+        } catch (NotCompilableException e) {
+            return new CompiledTerm(null, angleUnits);
+        }
+    }
+
+    static double sum(@Nonnull CompiledExpression term, long from, long to) {
+        final double[] result = evaluate(term, from, to, true);
+        // compensation is NaN after an overflow
+        return Double.isInfinite(result[0]) ? result[0] : result[0] + result[1];
+    }
+
+    static double product(@Nonnull CompiledExpression term, long from, long to) {
+        return evaluate(term, from, to, false)[0];
+    }
+
+    /**
+     * @return {sum, compensation} or {product, 0}
+     */
+    @Nonnull
+    private static double[] evaluate(@Nonnull CompiledExpression term, long from, long to, boolean sum) {
+        if (to - from < CHUNK) {
+            return evaluateChunk(term, from, to, sum);
+        }
+
+        final List<Callable<double[]>> tasks = new ArrayList<Callable<double[]>>();
+        for (long start = from; start <= to; start += CHUNK) {
+            tasks.add(newTask(term, start, Math.min(start + CHUNK - 1, to), sum));
+        }
+        final double[] result = sum ? new double[]{0, 0} : new double[]{1, 0};
+        try {
+            for (Future<double[]> future : ParallelExecutor.invokeAll(tasks, stage(sum))) {
+                final double[] chunk = future.get();
+                if (sum) {
+                    add(result, chunk[0]);
+                    result[1] += chunk[1];
+                } else {
+                    result[0] *= chunk[0];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParseInterruptedException("Interrupted!");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ArithmeticException(String.valueOf(cause));
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Callable<double[]> newTask(@Nonnull final CompiledExpression term, final long from, final long to, final boolean sum) {
+        return new Callable<double[]>() {
+            @Override
+            public double[] call() {
+                return evaluateChunk(term, from, to, sum);
+            }
+        };
+    }
+
+    @Nonnull
+    private static double[] evaluateChunk(@Nonnull CompiledExpression term, long from, long to, boolean sum) {
+        EvaluationBudget.check(stage(sum));
+        final double[] args = new double[1];
+        final double[] result = sum ? new double[]{0, 0} : new double[]{1, 0};
+        for (long i = from; i <= to; i++) {
+            args[0] = i;
+            final double value = term.evaluate(args);
+            if (sum) {
+                add(result, value);
+            } else {
+                result[0] *= value;
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static String stage(boolean sum) {
+        return sum ? EvaluationBudget.SUM : EvaluationBudget.PRODUCT;
+    }
+
+    /**
+     * Term of a series compiled for the given angle units
+     */
+    @Immutable
+    static final class CompiledTerm {
+        // null if the term depends on other variables
+        @Nullable
+        final CompiledExpression expression;
+        @Nonnull
+        final AngleUnit angleUnits;
+
+        private CompiledTerm(@Nullable CompiledExpression expression, @Nonnull AngleUnit angleUnits) {
+            this.expression = expression;
+            this.angleUnits = angleUnits;
+        }
+    }
+
+    // Kahan-Babuska (Neumaier) step: result[0] is the sum, result[1] accumulates the lost low-order bits
+    private static void add(@Nonnull double[] result, double value) {
+        final double s = result[0];
+        final double t = s + value;
+        if (Math.abs(s) >= Math.abs(value)) {
+            result[1] += (s - t) + value;
+        } else {
+            result[1] += (value - t) + s;
+        }
+        result[0] = t;
+    }
+}
@@ -1,17 +1,29 @@
 package jscl.math.operator;
 
+import jscl.EvaluationBudget;
+import jscl.compile.CompiledExpression;
 import jscl.math.Generic;
 import jscl.math.JsclInteger;
 import jscl.math.NotIntegerException;
+import jscl.math.NumericWrapper;
 import jscl.math.Variable;
+import jscl.math.numeric.Real;
+import jscl.math.polynomial.Polynomial;
+import jscl.math.polynomial.UnivariatePolynomial;
 import jscl.mathml.MathML;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigInteger;
 
 public class Sum extends Operator {
 
     public static final String NAME = "Σ";
 
+    // term compiled by selfExpand(), reused by numeric() of the same instance
+    @Nullable
+    private Series.CompiledTerm compiledTerm;
+
     public Sum(Generic expression, Generic variable, Generic from, Generic to) {
         super(NAME, new Generic[]{expression, variable, from, to});
     }
@@ -20,6 +32,12 @@ public class Sum extends Operator {
         super(NAME, parameters);
     }
 
+    @Nullable
+    private CompiledExpression compileTerm(@Nonnull Variable variable) {
+        compiledTerm = Series.compile(compiledTerm, parameters[0], variable);
+        return compiledTerm.expression;
+    }
+
     @Override
     public int getMinParameters() {
         return 4;
@@ -48,11 +66,18 @@ public class Sum extends Operator {
             int from = parameters[2].integerValue().intValue();
             int to = parameters[3].integerValue().intValue();
 
-            Generic result = JsclInteger.ZERO;
-            for (int i = from; i <= to; i++) {
-                result = result.add(parameters[0].substitute(variable, JsclInteger.valueOf(i)));
+            final long count = (long) to - from + 1;
+            if (count > 1 && isPolynomial(parameters[0], variable)) {
+                final UnivariatePolynomial p = (UnivariatePolynomial) Polynomial.factory(variable).valueOf(parameters[0]);
+                if (p.degree() <= Faulhaber.MAX_DEGREE && count > p.degree() + 1) {
+                    return sumPolynomial(p, from, to);
+                }
+            }
+            if (count > Series.SYMBOLIC_LIMIT && compileTerm(variable) != null) {
+                // too many terms, see numeric()
+                return expressionValue();
             }
-            return result;
+            return sumTerms(variable, from, to);
 
         } catch (NotIntegerException e) {
             // ok
@@ -60,6 +85,64 @@ public class Sum extends Operator {
         return expressionValue();
     }
 
+    private static boolean isPolynomial(@Nonnull Generic term, @Nonnull Variable variable) {
+        if (!term.isPolynomial(variable)) {
+            return false;
+        }
+        // operators are always considered constant even if their parameters depend on the variable (f.e. percent)
+        for (Variable v : term.variables()) {
+            if (v instanceof Operator) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nonnull
+    private Generic sumTerms(@Nonnull Variable variable, int from, int to) {
+        Generic result = JsclInteger.ZERO;
+        for (int i = from; i <= to; i++) {
+            EvaluationBudget.check(EvaluationBudget.SUM);
+            result = result.add(parameters[0].substitute(variable, JsclInteger.valueOf(i)));
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Generic sumPolynomial(@Nonnull UnivariatePolynomial p, int from, int to) {
+        final BigInteger upper = BigInteger.valueOf(to);
+        final BigInteger lower = BigInteger.valueOf(from - 1L);
+        Generic result = JsclInteger.ZERO;
+        for (int k = 0; k <= p.degree(); k++) {
+            final Generic coefficient = p.get(k);
+            if (coefficient.signum() != 0) {
+                final BigInteger sum = Faulhaber.powerSum(k, upper).subtract(Faulhaber.powerSum(k, lower));
+                result = result.add(coefficient.multiply(new JsclInteger(sum)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Generic numeric() {
+        final Variable variable = parameters[1].variableValue();
+        try {
+            final int from = parameters[2].integerValue().intValue();
+            final int to = parameters[3].integerValue().intValue();
+            final CompiledExpression term = compileTerm(variable);
+            if (term != null) {
+                final double result = Series.sum(term, from, to);
+                if (!Double.isNaN(result)) {
+                    return new NumericWrapper(Real.valueOf(result));
+                }
+                // some of the terms are not real
+            }
+            return sumTerms(variable, from, to).numeric();
+        } catch (NotIntegerException e) {
+            return super.numeric();
+        }
+    }
+
     public void toMathML(MathML element, Object data) {
         int exponent = data instanceof Integer ? (Integer) data : 1;
         if (exponent == 1) bodyToMathML(element);
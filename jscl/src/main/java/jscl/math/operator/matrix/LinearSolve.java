@@ -0,0 +1,68 @@
+package jscl.math.operator.matrix;
+
+import jscl.math.Generic;
+import jscl.math.JsclVector;
+import jscl.math.Matrix;
+import jscl.math.NumericWrapper;
+import jscl.math.Variable;
+import jscl.math.operator.Operator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Solution <var>x</var> of linear system <code>A * x = b</code>: fraction-free elimination for symbolic matrices and
+ * LU decomposition for numeric ones
+ */
+public class LinearSolve extends Operator {
+
+    public static final String NAME = "linsolve";
+
+    public LinearSolve(Generic matrix, Generic vector) {
+        super(NAME, new Generic[]{matrix, vector});
+    }
+
+    private LinearSolve(Generic parameters[]) {
+        super(NAME, parameters);
+    }
+
+    @Override
+    public int getMinParameters() {
+        return 2;
+    }
+
+    public Generic selfExpand() {
+        if (parameters[0] instanceof Matrix && parameters[1] instanceof JsclVector) {
+            final Matrix matrix = (Matrix) parameters[0];
+            return matrix.solve((JsclVector) parameters[1]);
+        }
+        return expressionValue();
+    }
+
+    @Override
+    public Generic numeric() {
+        return newNumericFunction().selfNumeric();
+    }
+
+    @Override
+    public Generic selfNumeric() {
+        if (parameters[0] instanceof NumericWrapper && parameters[1] instanceof NumericWrapper) {
+            final jscl.math.numeric.Numeric matrix = ((NumericWrapper) parameters[0]).content();
+            final jscl.math.numeric.Numeric vector = ((NumericWrapper) parameters[1]).content();
+            if (matrix instanceof jscl.math.numeric.Matrix && vector instanceof jscl.math.numeric.Vector) {
+                return new NumericWrapper(((jscl.math.numeric.Matrix) matrix).solve((jscl.math.numeric.Vector) vector));
+            }
+        }
+        throw new ArithmeticException();
+    }
+
+    @Nonnull
+    @Override
+    public Operator newInstance(@Nonnull Generic[] parameters) {
+        return new LinearSolve(parameters);
+    }
+
+    @Nonnull
+    public Variable newInstance() {
+        return new LinearSolve(null, null);
+    }
+}
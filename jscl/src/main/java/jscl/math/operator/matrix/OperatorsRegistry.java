@@ -35,6 +35,7 @@ public class OperatorsRegistry extends AbstractMathRegistry<Operator> {
         //instance.add(new Transpose(null));
         //instance.add(new Trace(null));
         //instance.add(new Determinant(null));
+        //instance.add(new LinearSolve(null, null));
         //instance.add(new Coefficient(null, null));
         //instance.add(new Solve(null, null, null));
         //instance.add(new Substitute(null, null, null));
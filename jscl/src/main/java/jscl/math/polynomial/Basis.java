@@ -28,6 +28,7 @@ public class Basis {
     public static final int BUCHBERGER = 0x000;
     public static final int F4 = 0x080;
     public static final int BLOCK = 0x100;
+    public static final int PARALLEL = 0x180;
     public static final int INSTRUMENTED = 0x200;
     public static final int GM_SETTING = 0x400;
     public static final int SUGAR = 0x800;
@@ -0,0 +1,356 @@
+package jscl.math.polynomial;
+
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Product of dense polynomials with integer coefficients (coefficients are stored in arrays by degree). Depending on
+ * the size of the operands it is done by schoolbook multiplication (in <code>long</code>s if the result fits),
+ * Karatsuba multiplication or number-theoretic transform modulo several primes followed by the Chinese remainder
+ * reconstruction.
+ */
+final class IntegerConvolution {
+
+    static final int KARATSUBA_THRESHOLD = 32;
+    static final int NTT_THRESHOLD = 128;
+
+    // primes 2^30 < p = k * 2^20 + 1 < 2^31: transform of length up to 2^20 exists and products of residues fit in
+    // long, each prime gives at least 30 bits of the result
+    private static final int MAX_LOG_LENGTH = 20;
+    @Nonnull
+    private static final long[] primes;
+    @Nonnull
+    private static final long[] roots;
+
+    static {
+        final List<long[]> list = new ArrayList<long[]>();
+        for (long k = (1L << (31 - MAX_LOG_LENGTH)) - 1; k >= 1L << (30 - MAX_LOG_LENGTH); k--) {
+            final long p = (k << MAX_LOG_LENGTH) + 1;
+            if (BigInteger.valueOf(p).isProbablePrime(50)) {
+                list.add(new long[]{p, primitiveRoot(p, k)});
+            }
+        }
+        primes = new long[list.size()];
+        roots = new long[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            primes[i] = list.get(i)[0];
+            roots[i] = list.get(i)[1];
+        }
+    }
+
+    private IntegerConvolution() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param a coefficients of the first polynomial, <code>a[i]</code> is a coefficient of <code>x^i</code>
+     * @param b coefficients of the second polynomial
+     * @return coefficients of the product (of length <code>a.length + b.length - 1</code>)
+     */
+    @Nonnull
+    static BigInteger[] multiply(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        final int n = a.length;
+        final int m = b.length;
+        final int bits = bitLength(a) + bitLength(b) + 32 - Integer.numberOfLeadingZeros(Math.min(n, m));
+        if (bits < 63) {
+            return multiplyLongs(a, b);
+        }
+        if (Math.min(n, m) >= NTT_THRESHOLD && n + m - 1 <= 1 << MAX_LOG_LENGTH) {
+            // one extra bit for the sign
+            final int count = (bits + 1) / 30 + 1;
+            // reconstruction costs O(count^2) per coefficient: for long coefficients Karatsuba is faster
+            if (count <= primes.length && 32 * count <= Math.min(n, m)) {
+                return multiplyNtt(a, b, count);
+            }
+        }
+        return multiplyKaratsuba(a, b);
+    }
+
+    private static int bitLength(@Nonnull BigInteger[] a) {
+        int result = 0;
+        for (BigInteger c : a) {
+            result = Math.max(result, c.bitLength());
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] multiplyLongs(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        final long[] x = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            x[i] = a[i].longValue();
+        }
+        final long[] y = new long[b.length];
+        for (int i = 0; i < b.length; i++) {
+            y[i] = b[i].longValue();
+        }
+        final long[] z = new long[a.length + b.length - 1];
+        for (int i = 0; i < x.length; i++) {
+            final long xi = x[i];
+            if (xi != 0) {
+                for (int j = 0; j < y.length; j++) {
+                    z[i + j] += xi * y[j];
+                }
+            }
+        }
+        final BigInteger[] result = new BigInteger[z.length];
+        for (int i = 0; i < z.length; i++) {
+            result[i] = BigInteger.valueOf(z[i]);
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] multiplySchoolbook(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        final BigInteger[] result = zeros(a.length + b.length - 1);
+        for (int i = 0; i < a.length; i++) {
+            final BigInteger ai = a[i];
+            if (ai.signum() != 0) {
+                for (int j = 0; j < b.length; j++) {
+                    result[i + j] = result[i + j].add(ai.multiply(b[j]));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    static BigInteger[] multiplyKaratsuba(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        final int n = a.length;
+        final int m = b.length;
+        if (Math.min(n, m) < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(a, b);
+        }
+        if (2 * n <= m || 2 * m <= n) {
+            // unbalanced: the longer operand is split into pieces of the length of the shorter one
+            final BigInteger[] shorter = n < m ? a : b;
+            final BigInteger[] longer = n < m ? b : a;
+            final BigInteger[] result = zeros(n + m - 1);
+            for (int i = 0; i < longer.length; i += shorter.length) {
+                addTo(result, multiplyKaratsuba(shorter, slice(longer, i, Math.min(i + shorter.length, longer.length))), i);
+            }
+            return result;
+        }
+
+        // a = a0 + x^h * a1, b = b0 + x^h * b1
+        final int h = Math.max(n, m) / 2;
+        final BigInteger[] a0 = slice(a, 0, h);
+        final BigInteger[] a1 = slice(a, h, n);
+        final BigInteger[] b0 = slice(b, 0, h);
+        final BigInteger[] b1 = slice(b, h, m);
+        final BigInteger[] z0 = multiplyKaratsuba(a0, b0);
+        final BigInteger[] z2 = multiplyKaratsuba(a1, b1);
+        // z1 = (a0 + a1) * (b0 + b1) - z0 - z2
+        final BigInteger[] z1 = multiplyKaratsuba(sum(a0, a1), sum(b0, b1));
+        subtractFrom(z1, z0);
+        subtractFrom(z1, z2);
+
+        final BigInteger[] result = zeros(n + m - 1);
+        addTo(result, z0, 0);
+        addTo(result, z1, h);
+        addTo(result, z2, 2 * h);
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] zeros(int length) {
+        final BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = BigInteger.ZERO;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] slice(@Nonnull BigInteger[] a, int from, int to) {
+        final BigInteger[] result = new BigInteger[to - from];
+        System.arraycopy(a, from, result, 0, result.length);
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] sum(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        final BigInteger[] result = zeros(Math.max(a.length, b.length));
+        addTo(result, a, 0);
+        addTo(result, b, 0);
+        return result;
+    }
+
+    private static void addTo(@Nonnull BigInteger[] result, @Nonnull BigInteger[] a, int offset) {
+        // trailing terms of the partial products might be outside of the result if they are zeros
+        final int length = Math.min(a.length, result.length - offset);
+        for (int i = 0; i < length; i++) {
+            result[i + offset] = result[i + offset].add(a[i]);
+        }
+    }
+
+    private static void subtractFrom(@Nonnull BigInteger[] result, @Nonnull BigInteger[] a) {
+        for (int i = 0; i < a.length; i++) {
+            result[i] = result[i].subtract(a[i]);
+        }
+    }
+
+    @Nonnull
+    private static BigInteger[] multiplyNtt(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b, int count) {
+        final int length = a.length + b.length - 1;
+        int size = 1;
+        while (size < length) {
+            size <<= 1;
+        }
+
+        // residues of the result modulo each prime
+        final long[][] residues = new long[count][];
+        for (int k = 0; k < count; k++) {
+            final long p = primes[k];
+            final BigInteger bigP = BigInteger.valueOf(p);
+            final long[] x = residues(a, bigP, size);
+            final long[] y = residues(b, bigP, size);
+            transform(x, p, roots[k], false);
+            transform(y, p, roots[k], false);
+            for (int i = 0; i < size; i++) {
+                x[i] = x[i] * y[i] % p;
+            }
+            transform(x, p, roots[k], true);
+            residues[k] = x;
+        }
+
+        // Garner's algorithm: mixed radix digits d[k] of the result, x = d[0] + p[0] * (d[1] + p[1] * (d[2] + ...))
+        final long[][] inverses = new long[count][count];
+        BigInteger modulus = BigInteger.ONE;
+        for (int k = 0; k < count; k++) {
+            for (int j = 0; j < k; j++) {
+                inverses[j][k] = pow(primes[j] % primes[k], primes[k] - 2, primes[k]);
+            }
+            modulus = modulus.multiply(BigInteger.valueOf(primes[k]));
+        }
+        final BigInteger half = modulus.shiftRight(1);
+
+        final BigInteger[] result = new BigInteger[length];
+        final long[] digits = new long[count];
+        for (int i = 0; i < length; i++) {
+            for (int k = 0; k < count; k++) {
+                final long p = primes[k];
+                long d = residues[k][i];
+                for (int j = 0; j < k; j++) {
+                    d = (d - digits[j] % p + p) % p * inverses[j][k] % p;
+                }
+                digits[k] = d;
+            }
+            BigInteger c = BigInteger.valueOf(digits[count - 1]);
+            for (int k = count - 2; k >= 0; k--) {
+                c = c.multiply(BigInteger.valueOf(primes[k])).add(BigInteger.valueOf(digits[k]));
+            }
+            result[i] = c.compareTo(half) > 0 ? c.subtract(modulus) : c;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static long[] residues(@Nonnull BigInteger[] a, @Nonnull BigInteger p, int size) {
+        final long[] result = new long[size];
+        final long q = p.longValue();
+        for (int i = 0; i < a.length; i++) {
+            final BigInteger c = a[i];
+            result[i] = c.bitLength() < 63 ? ((c.longValue() % q) + q) % q : c.mod(p).longValue();
+        }
+        return result;
+    }
+
+    /**
+     * In-place iterative radix-2 transform, <code>a.length</code> must be a power of 2
+     */
+    private static void transform(@Nonnull long[] a, long p, long root, boolean inverse) {
+        final int n = a.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                final long tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+        }
+        for (int length = 2; length <= n; length <<= 1) {
+            // primitive root of unity of order length
+            long w = pow(root, (p - 1) / length, p);
+            if (inverse) {
+                w = pow(w, p - 2, p);
+            }
+            final int half = length >> 1;
+            final long[] ws = new long[half];
+            ws[0] = 1;
+            for (int k = 1; k < half; k++) {
+                ws[k] = ws[k - 1] * w % p;
+            }
+            for (int i = 0; i < n; i += length) {
+                for (int k = 0; k < half; k++) {
+                    final long u = a[i + k];
+                    final long v = a[i + k + half] * ws[k] % p;
+                    final long s = u + v;
+                    a[i + k] = s >= p ? s - p : s;
+                    final long d = u - v;
+                    a[i + k + half] = d < 0 ? d + p : d;
+                }
+            }
+        }
+        if (inverse) {
+            final long inv = pow(n, p - 2, p);
+            for (int i = 0; i < n; i++) {
+                a[i] = a[i] * inv % p;
+            }
+        }
+    }
+
+    private static long pow(long a, long e, long p) {
+        long result = 1;
+        a %= p;
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                result = result * a % p;
+            }
+            a = a * a % p;
+            e >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * @return generator of the multiplicative group modulo prime <code>p = k * 2^20 + 1</code>
+     */
+    private static long primitiveRoot(long p, long k) {
+        final List<Long> factors = new ArrayList<Long>();
+        factors.add(2L);
+        long r = k;
+        for (long f = 3; f * f <= r; f += 2) {
+            if (r % f == 0) {
+                factors.add(f);
+                while (r % f == 0) {
+                    r /= f;
+                }
+            }
+        }
+        while (r % 2 == 0) {
+            r /= 2;
+        }
+        if (r > 1) {
+            factors.add(r);
+        }
+        for (long g = 2; ; g++) {
+            boolean generator = true;
+            for (Long f : factors) {
+                if (pow(g, (p - 1) / f, p) == 1) {
+                    generator = false;
+                    break;
+                }
+            }
+            if (generator) {
+                return g;
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package jscl.math.polynomial;
+
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Greatest common divisor of univariate polynomials with integer coefficients by Brown's modular algorithm: gcd is
+ * computed modulo word-size primes, images are combined by the Chinese remainder theorem and the reconstructed
+ * polynomial is checked by trial division. Unlike the pseudo-remainder sequence coefficients never grow beyond the size
+ * of the result.
+ */
+final class ModularGcd {
+
+    // for polynomials of lower degree the pseudo-remainder sequence is faster
+    static final int THRESHOLD = 4;
+
+    // primes are generated on demand, guarded by itself
+    @Nonnull
+    private static final List<Long> primes = new ArrayList<Long>();
+
+    private ModularGcd() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param a primitive polynomial of positive degree, <code>a[i]</code> is a coefficient of <code>x^i</code>
+     * @param b primitive polynomial of positive degree
+     * @return primitive gcd with positive sign
+     */
+    @Nonnull
+    static BigInteger[] gcd(@Nonnull BigInteger[] a, @Nonnull BigInteger[] b) {
+        // gcd divides both polynomials => its leading coefficient divides g
+        final BigInteger g = a[a.length - 1].gcd(b[b.length - 1]);
+        final BigInteger lc = a[a.length - 1].multiply(b[b.length - 1]);
+
+        // reconstructed g * gcd / lc(gcd) modulo the product of primes used so far
+        BigInteger[] h = null;
+        BigInteger modulus = BigInteger.ONE;
+        int degree = Integer.MAX_VALUE;
+        for (int k = 0; ; k++) {
+            final long prime = prime(k);
+            final BigInteger bigPrime = BigInteger.valueOf(prime);
+            if (lc.mod(bigPrime).signum() == 0) {
+                continue;
+            }
+
+            final long[] image = gcd(residues(a, prime), residues(b, prime), prime);
+            final int d = image.length - 1;
+            if (d == 0) {
+                return new BigInteger[]{BigInteger.ONE};
+            }
+            if (d > degree) {
+                // unlucky prime
+                continue;
+            }
+            final long gp = g.mod(bigPrime).longValue();
+            for (int i = 0; i <= d; i++) {
+                image[i] = image[i] * gp % prime;
+            }
+            if (d < degree) {
+                // all previous primes were unlucky
+                degree = d;
+                h = null;
+            }
+
+            if (h == null) {
+                h = new BigInteger[d + 1];
+                for (int i = 0; i <= d; i++) {
+                    h[i] = symmetric(BigInteger.valueOf(image[i]), bigPrime);
+                }
+                modulus = bigPrime;
+            } else {
+                final BigInteger newModulus = modulus.multiply(bigPrime);
+                // m^-1 mod p
+                final long inverse = pow(modulus.mod(bigPrime).longValue(), prime - 2, prime);
+                boolean changed = false;
+                for (int i = 0; i <= d; i++) {
+                    // x = h + m * ((image - h) / m mod p)
+                    final long t = (image[i] - h[i].mod(bigPrime).longValue() + prime) % prime * inverse % prime;
+                    if (t != 0) {
+                        h[i] = symmetric(h[i].add(modulus.multiply(BigInteger.valueOf(t))), newModulus);
+                        changed = true;
+                    }
+                }
+                modulus = newModulus;
+                if (!changed) {
+                    final BigInteger[] result = primitive(h);
+                    if (divides(result, a) && divides(result, b)) {
+                        return result;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return k-th largest prime below 2^31
+     */
+    private static long prime(int k) {
+        synchronized (primes) {
+            while (primes.size() <= k) {
+                long p = primes.isEmpty() ? 1L << 31 : primes.get(primes.size() - 1);
+                do {
+                    p--;
+                } while (!BigInteger.valueOf(p).isProbablePrime(30));
+                primes.add(p);
+            }
+            return primes.get(k);
+        }
+    }
+
+    @Nonnull
+    private static BigInteger symmetric(@Nonnull BigInteger x, @Nonnull BigInteger modulus) {
+        final BigInteger result = x.mod(modulus);
+        return result.compareTo(modulus.shiftRight(1)) > 0 ? result.subtract(modulus) : result;
+    }
+
+    @Nonnull
+    private static long[] residues(@Nonnull BigInteger[] a, long p) {
+        final BigInteger bigP = BigInteger.valueOf(p);
+        final long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i].mod(bigP).longValue();
+        }
+        return trim(result, result.length);
+    }
+
+    @Nonnull
+    private static long[] trim(@Nonnull long[] a, int length) {
+        int n = length;
+        while (n > 1 && a[n - 1] == 0) {
+            n--;
+        }
+        return n == a.length ? a : Arrays.copyOf(a, n);
+    }
+
+    /**
+     * @return monic gcd of polynomials modulo <var>p</var> (zero polynomial is represented by {0})
+     */
+    @Nonnull
+    private static long[] gcd(@Nonnull long[] a, @Nonnull long[] b, long p) {
+        long[] x = a;
+        long[] y = b;
+        while (!(y.length == 1 && y[0] == 0)) {
+            final long[] r = remainder(x, y, p);
+            x = y;
+            y = r;
+        }
+        final long inverse = pow(x[x.length - 1], p - 2, p);
+        final long[] result = new long[x.length];
+        for (int i = 0; i < x.length; i++) {
+            result[i] = x[i] * inverse % p;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static long[] remainder(@Nonnull long[] a, @Nonnull long[] b, long p) {
+        final long[] r = a.clone();
+        final int m = b.length - 1;
+        final long inverse = pow(b[m], p - 2, p);
+        for (int i = r.length - 1; i >= m; i--) {
+            final long q = r[i] * inverse % p;
+            if (q != 0) {
+                for (int j = 0; j <= m; j++) {
+                    r[i - m + j] = (r[i - m + j] - q * b[j] % p + p) % p;
+                }
+            }
+        }
+        return trim(r, Math.max(m, 1));
+    }
+
+    private static long pow(long a, long e, long p) {
+        long result = 1;
+        a %= p;
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                result = result * a % p;
+            }
+            a = a * a % p;
+            e >>= 1;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static BigInteger[] primitive(@Nonnull BigInteger[] h) {
+        BigInteger content = BigInteger.ZERO;
+        for (BigInteger c : h) {
+            content = content.gcd(c);
+        }
+        // sign of the polynomial is the sign of its lowest term (see Polynomial#signum())
+        int i = 0;
+        while (h[i].signum() == 0) {
+            i++;
+        }
+        if (h[i].signum() < 0) {
+            content = content.negate();
+        }
+        final BigInteger[] result = new BigInteger[h.length];
+        for (int j = 0; j < h.length; j++) {
+            result[j] = h[j].divide(content);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if <var>d</var> divides <var>a</var> over integers
+     */
+    private static boolean divides(@Nonnull BigInteger[] d, @Nonnull BigInteger[] a) {
+        final int m = d.length - 1;
+        if (a.length - 1 < m) {
+            return false;
+        }
+        final BigInteger[] r = a.clone();
+        for (int i = r.length - 1; i >= m; i--) {
+            final BigInteger[] qr = r[i].divideAndRemainder(d[m]);
+            if (qr[1].signum() != 0) {
+                return false;
+            }
+            if (qr[0].signum() != 0) {
+                for (int j = 0; j <= m; j++) {
+                    r[i - m + j] = r[i - m + j].subtract(qr[0].multiply(d[j]));
+                }
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            if (r[i].signum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
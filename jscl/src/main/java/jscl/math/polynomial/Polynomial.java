@@ -1,5 +1,6 @@
 package jscl.math.polynomial;
 
+import jscl.EvaluationBudget;
 import jscl.math.*;
 import jscl.math.function.Constant;
 import jscl.mathml.MathML;
@@ -336,8 +337,10 @@ public abstract class Polynomial implements Arithmetic<Polynomial>, Comparable {
                 Polynomial q = (Polynomial) iq.next();
                 Monomial m2 = q.head().monomial();
                 if (m1.multiple(m2)) {
+                    EvaluationBudget.check(EvaluationBudget.REDUCE);
                     Monomial m = m1.divide(m2);
                     p = p.reduce(t.coef(), m, q);
+                    EvaluationBudget.checkTerms(EvaluationBudget.REDUCE, p.size());
                     it = tail ? p.iterator(m1) : p.iterator(true);
                     continue loop;
                 }
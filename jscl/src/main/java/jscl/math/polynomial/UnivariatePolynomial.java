@@ -5,6 +5,8 @@ import jscl.math.function.Inverse;
 import jscl.util.ArrayUtils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -70,6 +72,19 @@ public class UnivariatePolynomial extends Polynomial {
     public Polynomial multiply(@Nonnull Polynomial that) {
         UnivariatePolynomial p = newinstance();
         UnivariatePolynomial q = (UnivariatePolynomial) that;
+        if (degree > 0 && q.degree > 0) {
+            final BigInteger[] a = integerCoefficients();
+            final BigInteger[] b = a == null ? null : q.integerCoefficients();
+            if (b != null) {
+                final BigInteger[] c = IntegerConvolution.multiply(a, b);
+                for (int i = c.length - 1; i >= 0; i--) {
+                    if (c[i].signum() != 0) {
+                        p.put(i, new JsclInteger(c[i]));
+                    }
+                }
+                return p;
+            }
+        }
         for (int i = degree; i >= 0; i--) {
             for (int j = q.degree; j >= 0; j--) {
                 p.put(i + j, get(i).multiply(q.get(j)));
@@ -78,6 +93,25 @@ public class UnivariatePolynomial extends Polynomial {
         return p;
     }
 
+    /**
+     * @return coefficients of the polynomial if all of them are integers, null otherwise
+     */
+    @Nullable
+    private BigInteger[] integerCoefficients() {
+        final BigInteger[] result = new BigInteger[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            final Generic c = content[i];
+            if (c == null) {
+                result[i] = BigInteger.ZERO;
+            } else if (c instanceof JsclInteger) {
+                result[i] = ((JsclInteger) c).content();
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+
     public Polynomial multiply(Generic generic) {
         UnivariatePolynomial p = newinstance();
         for (int i = degree; i >= 0; i--) {
@@ -173,6 +207,20 @@ public class UnivariatePolynomial extends Polynomial {
         Generic gcd2 = a2[0].genericValue();
         p = (UnivariatePolynomial) a1[1];
         q = (UnivariatePolynomial) a2[1];
+        if (q.degree >= ModularGcd.THRESHOLD) {
+            final BigInteger[] a = p.integerCoefficients();
+            final BigInteger[] b = a == null ? null : q.integerCoefficients();
+            if (b != null) {
+                final BigInteger[] c = ModularGcd.gcd(a, b);
+                final UnivariatePolynomial result = newinstance();
+                for (int i = c.length - 1; i >= 0; i--) {
+                    if (c[i].signum() != 0) {
+                        result.put(i, new JsclInteger(c[i]));
+                    }
+                }
+                return result.multiply(gcd1.gcd(gcd2));
+            }
+        }
         while (q.degree > 0) {
             UnivariatePolynomial r = (UnivariatePolynomial) p.remainderUpToCoefficient(q).divide(beta);
             if (d > 1) phi = q.get(q.degree).negate().pow(d).divide(phi.pow(d - 1));
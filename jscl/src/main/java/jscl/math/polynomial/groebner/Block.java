@@ -1,6 +1,6 @@
 package jscl.math.polynomial.groebner;
 
-import jscl.math.Debug;
+import jscl.EvaluationBudget;
 import jscl.math.polynomial.Basis;
 import jscl.math.polynomial.DegreeOrdering;
 import jscl.math.polynomial.Ordering;
@@ -19,7 +19,6 @@ class Block extends Standard {
     }
 
     void compute() {
-        Debug.println("evaluate");
         int degree = 0;
         while (!pairs.isEmpty()) {
             List list = new ArrayList();
@@ -46,6 +45,7 @@ class Block extends Standard {
         Iterator it = pairs.iterator();
         while (it.hasNext()) {
             Pair pa = (Pair) it.next();
+            EvaluationBudget.check(EvaluationBudget.GROEBNER);
             if (criterion(pa)) continue;
             Polynomial p = reduce(pa, polys);
             if (p.signum() != 0) list.add(p);
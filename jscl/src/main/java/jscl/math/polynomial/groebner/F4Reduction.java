@@ -1,6 +1,7 @@
 package jscl.math.polynomial.groebner;
 
-import jscl.math.Debug;
+import jscl.EvaluationBudget;
+import jscl.Instrumentation;
 import jscl.math.polynomial.Basis;
 import jscl.math.polynomial.Monomial;
 import jscl.math.polynomial.Polynomial;
@@ -42,7 +43,7 @@ class F4Reduction {
     }
 
     void add(Pair pair) {
-        Debug.println(pair);
+        Instrumentation.count(Instrumentation.Counter.groebner_pairs);
         Projection pr[] = new Projection[]{new Projection(pair, 0), new Projection(pair, 1)};
         for (int i = 0; i < pr.length; i++)
             if (!proj.containsKey(pr[i])) {
@@ -57,6 +58,7 @@ class F4Reduction {
         head.put(scm, null);
         Iterator it = p.iterator(scm);
         while (it.hasNext()) {
+            EvaluationBudget.check(EvaluationBudget.GROEBNER);
             Term t = (Term) it.next();
             Monomial m1 = t.monomial();
             if (considered.containsKey(m1)) continue;
@@ -0,0 +1,96 @@
+package jscl.math.polynomial.groebner;
+
+import jscl.EvaluationBudget;
+import jscl.math.polynomial.Ordering;
+import jscl.math.polynomial.Polynomial;
+import jscl.text.ParseInterruptedException;
+import jscl.util.ParallelExecutor;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link Block} algorithm which reduces the pairs of a block concurrently on {@link ParallelExecutor}. All the pairs of
+ * a block are reduced by the same polynomials (the results are added to the basis once the whole block is done), so
+ * the reductions are independent. The results are added in the order of the pairs, i.e. the basis is the same as the one
+ * computed by {@link Block}.
+ * <p/>
+ * Worker threads run the {@link EvaluationBudget} of the calling thread. If the calling thread is interrupted the
+ * pending reductions are cancelled.
+ */
+class Parallel extends Block {
+
+    // blocks with fewer pairs are reduced in the calling thread
+    private static final int MIN_PAIRS = 2;
+
+    Parallel(Ordering ordering, int flags) {
+        super(ordering, flags);
+    }
+
+    void process(List pairs) {
+        final List<Pair> list = new ArrayList<Pair>();
+        Iterator it = pairs.iterator();
+        while (it.hasNext()) {
+            Pair pa = (Pair) it.next();
+            EvaluationBudget.check(EvaluationBudget.GROEBNER);
+            if (criterion(pa)) continue;
+            list.add(pa);
+            npairs++;
+        }
+        final Polynomial[] reduced = new Polynomial[list.size()];
+        if (reduced.length < MIN_PAIRS) {
+            for (int i = 0; i < reduced.length; i++) {
+                reduced[i] = reduce(list.get(i), polys);
+            }
+        } else {
+            reduceConcurrently(list, reduced);
+        }
+        final List<Polynomial> result = new ArrayList<Polynomial>(reduced.length);
+        for (Polynomial p : reduced) {
+            if (p.signum() != 0) result.add(p);
+        }
+        add(result);
+    }
+
+    private void reduceConcurrently(@Nonnull List<Pair> pairs, @Nonnull Polynomial[] result) {
+        final List<Callable<Polynomial>> tasks = new ArrayList<Callable<Polynomial>>(pairs.size());
+        for (Pair pair : pairs) {
+            tasks.add(newTask(pair, polys));
+        }
+        try {
+            // futures are in the order of the tasks
+            final List<Future<Polynomial>> futures = ParallelExecutor.invokeAll(tasks, EvaluationBudget.GROEBNER);
+            for (int i = 0; i < result.length; i++) {
+                result[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            // pending reductions are cancelled by invokeAll
+            Thread.currentThread().interrupt();
+            throw new ParseInterruptedException("Interrupted!");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    @Nonnull
+    private static Callable<Polynomial> newTask(@Nonnull final Pair pair, @Nonnull final List ideal) {
+        return new Callable<Polynomial>() {
+            @Override
+            public Polynomial call() {
+                return Standard.reduce(pair, ideal);
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package jscl.math.polynomial.groebner;
 
+import jscl.EvaluationBudget;
 import jscl.math.Generic;
 import jscl.math.polynomial.Monomial;
 import jscl.math.polynomial.Polynomial;
@@ -34,6 +35,7 @@ class ReducedRowEchelonForm {
         int b = direction ? 0 : pivot + 1;
         int n = direction ? pivot : content.size();
         for (int i = b; i < n; i++) {
+            EvaluationBudget.check(EvaluationBudget.GROEBNER);
             Polynomial q = polynomial(i);
             Generic a = q.coefficient(m);
             if (a.signum() != 0) content.set(i, q.reduce(a, p));
@@ -1,6 +1,7 @@
 package jscl.math.polynomial.groebner;
 
-import jscl.math.Debug;
+import jscl.EvaluationBudget;
+import jscl.Instrumentation;
 import jscl.math.Generic;
 import jscl.math.polynomial.Basis;
 import jscl.math.polynomial.Monomial;
@@ -46,13 +47,15 @@ public class Standard {
                 return new F4(ordering, flags);
             case Basis.BLOCK:
                 return new Block(ordering, flags);
+            case Basis.PARALLEL:
+                return new Parallel(ordering, flags);
             default:
                 return new Standard(flags);
         }
     }
 
     static Polynomial reduce(Pair pair, Collection ideal) {
-        Debug.println(pair);
+        Instrumentation.count(Instrumentation.Counter.groebner_pairs);
         return s_polynomial(pair.polynomial[0], pair.polynomial[1]).reduce(ideal, false).normalize().freeze();
     }
 
@@ -66,13 +69,13 @@ public class Standard {
     }
 
     void computeValue(Basis basis) {
-        Debug.println(basis);
+        final long start = Instrumentation.start();
         populate(basis);
         npolys = 0;
         compute();
         remove();
         reduce();
-        Debug.println("signature = (" + npairs + ", " + npolys + ", " + polys.size() + ")");
+        Instrumentation.stop(Instrumentation.Timer.groebner, start);
     }
 
     void populate(Basis basis) {
@@ -91,8 +94,8 @@ public class Standard {
     }
 
     void compute() {
-        Debug.println("evaluate");
         while (!pairs.isEmpty()) {
+            EvaluationBudget.check(EvaluationBudget.GROEBNER);
             Pair pa = (Pair) pairs.keySet().iterator().next();
             process(pa);
             remove(pa);
@@ -112,8 +115,9 @@ public class Standard {
     }
 
     void add(Polynomial polynomial) {
+        EvaluationBudget.checkTerms(EvaluationBudget.GROEBNER, polynomial.size());
         polynomial.setIndex(polys.size());
-        Debug.println("(" + polynomial.head().monomial() + ", " + polynomial.index() + ")");
+        Instrumentation.count(Instrumentation.Counter.groebner_polynomials, polynomial.size());
         if ((flags & Basis.GM_SETTING) > 0) makePairsGM(polynomial);
         else makePairs(polynomial);
         polys.add(polynomial);
@@ -198,13 +202,12 @@ public class Standard {
     }
 
     void reduce() {
-        Debug.println("reduce");
         Map map = new TreeMap();
         int size = polys.size();
         for (int i = 0; i < size; i++) {
             Polynomial p = (Polynomial) polys.get(i);
             polys.set(i, p = p.reduce(polys, true).normalize().freeze());
-            Debug.println("(" + p.head().monomial() + ")");
+            Instrumentation.count(Instrumentation.Counter.groebner_reductions, p.size());
             map.put(p, null);
         }
         polys.clear();
@@ -12,20 +12,21 @@ public class BracketedExpression implements Parser<ExpressionVariable> {
     private BracketedExpression() {
     }
 
-    public ExpressionVariable parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public ExpressionVariable parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        ParserUtils.tryToParse(p, pos0, '(');
+        if (!ParserUtils.tryToParse(p, pos0, '(')) {
+            return null;
+        }
 
-        Generic result;
-        try {
-            result = ExpressionParser.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final Generic result = ParserUtils.parseWithRollback(ExpressionParser.parser, pos0, previousSumElement, p);
+        if (result == null) {
+            return null;
         }
 
-        ParserUtils.tryToParse(p, pos0, ')');
+        if (!ParserUtils.tryToParse(p, pos0, ')')) {
+            return null;
+        }
 
         return new ExpressionVariable(result);
     }
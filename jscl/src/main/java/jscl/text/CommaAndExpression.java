@@ -12,12 +12,14 @@ public class CommaAndExpression implements Parser<Generic> {
     private CommaAndExpression() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
 
-        ParserUtils.tryToParse(p, pos0, ',');
+        if (!ParserUtils.tryToParse(p, pos0, ',')) {
+            return null;
+        }
 
         return ParserUtils.parseWithRollback(ExpressionParser.parser, pos0, previousSumElement, p);
     }
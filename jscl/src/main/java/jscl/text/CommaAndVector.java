@@ -13,13 +13,14 @@ public class CommaAndVector implements Parser<JsclVector> {
     private CommaAndVector() {
     }
 
-    @Nonnull
-    public JsclVector parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public JsclVector parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
 
-        ParserUtils.tryToParse(p, pos0, ',');
+        if (!ParserUtils.tryToParse(p, pos0, ',')) {
+            return null;
+        }
 
         return ParserUtils.parseWithRollback(VectorParser.parser, pos0, previousSumElement, p);
     }
@@ -12,31 +12,24 @@ public class CompoundIdentifier implements Parser<String> {
     private CompoundIdentifier() {
     }
 
-    @Nonnull
-    public String parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        final StringBuilder result;
-
         ParserUtils.skipWhitespaces(p);
-        try {
-            final String identifier = Identifier.parser.parse(p, previousSumElement);
-            result = new StringBuilder();
-            result.append(identifier);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final String identifier = ParserUtils.parseWithRollback(Identifier.parser, pos0, previousSumElement, p);
+        if (identifier == null) {
+            return null;
         }
+        final StringBuilder result = new StringBuilder();
+        result.append(identifier);
 
         while (true) {
-            try {
-                final String dotAndId = DotAndIdentifier.parser.parse(p, previousSumElement);
-                // NOTE: '.' must be appended after parsing
-                result.append(".").append(dotAndId);
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            final String dotAndId = DotAndIdentifier.parser.parse(p, previousSumElement);
+            if (dotAndId == null) {
                 break;
             }
+            // NOTE: '.' must be appended after parsing
+            result.append(".").append(dotAndId);
         }
 
         return result.toString();
@@ -50,19 +43,13 @@ class DotAndIdentifier implements Parser<String> {
     private DotAndIdentifier() {
     }
 
-    public String parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        ParserUtils.tryToParse(p, pos0, '.');
-
-        String result;
-        try {
-            result = Identifier.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        if (!ParserUtils.tryToParse(p, pos0, '.')) {
+            return null;
         }
 
-        return result;
+        return ParserUtils.parseWithRollback(Identifier.parser, pos0, previousSumElement, p);
     }
 }
@@ -16,25 +16,25 @@ public class ConstantParser implements Parser<Constant> {
     private ConstantParser() {
     }
 
-    public Constant parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Constant parse(@Nonnull Parameters p, Generic previousSumElement) {
 
         final String name = CompoundIdentifier.parser.parse(p, previousSumElement);
+        if (name == null) {
+            return null;
+        }
 
         List<Generic> l = new ArrayList<Generic>();
         while (true) {
-            try {
-                l.add(Subscript.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            final Generic subscript = Subscript.parser.parse(p, previousSumElement);
+            if (subscript == null) {
                 break;
             }
+            l.add(subscript);
         }
 
-        Integer prime = 0;
-        try {
-            prime = Prime.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.exceptionsPool.release(e);
+        Integer prime = Prime.parser.parse(p, previousSumElement);
+        if (prime == null) {
+            prime = 0;
         }
 
         return new Constant(name, prime, ArrayUtils.toArray(l, new Generic[l.size()]));
@@ -54,7 +54,7 @@ class Prime implements Parser<Integer> {
     private Prime() {
     }
 
-    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) {
         return internalParser.parse(p, previousSumElement);
     }
 }
@@ -65,21 +65,22 @@ class Superscript implements Parser<Integer> {
     private Superscript() {
     }
 
-    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
 
-        ParserUtils.tryToParse(p, pos0, '{');
+        if (!ParserUtils.tryToParse(p, pos0, '{')) {
+            return null;
+        }
 
-        int result;
-        try {
-            result = IntegerParser.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final Integer result = ParserUtils.parseWithRollback(IntegerParser.parser, pos0, previousSumElement, p);
+        if (result == null) {
+            return null;
         }
 
-        ParserUtils.tryToParse(p, pos0, '}');
+        if (!ParserUtils.tryToParse(p, pos0, '}')) {
+            return null;
+        }
 
         return result;
     }
@@ -17,7 +17,7 @@ class DivideFactor implements Parser<Generic> {
     private DivideFactor() {
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
         final int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
@@ -25,7 +25,7 @@ class DivideFactor implements Parser<Generic> {
         if (pos1 < p.expression.length() && p.expression.charAt(pos1) == '/') {
             p.position.increment();
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_10, '*', '/');
+            return ParserUtils.fail(p, pos0, Messages.msg_10, '*', '/');
         }
 
         return ParserUtils.parseWithRollback(Factor.parser, pos0, previousSumElement, p);
@@ -2,11 +2,9 @@ package jscl.text;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 
 import jscl.NumeralBase;
 import jscl.math.Generic;
@@ -22,13 +20,14 @@ public class DoubleParser implements Parser<NumericWrapper> {
             Singularity.parser,
             FloatingPointLiteral.parser);
 
+    private static final Parser<Double> internalParser = new MultiTryParser<Double>(new ArrayList<Parser<? extends Double>>(parsers));
+
     private DoubleParser() {
     }
 
-    @Nonnull
-    public NumericWrapper parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        final Parser<Double> multiTryParser = new MultiTryParser<Double>(new ArrayList<Parser<? extends Double>>(parsers));
-        return new NumericWrapper(Real.valueOf(multiTryParser.parse(p, previousSumElement)));
+    public NumericWrapper parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final Double value = internalParser.parse(p, previousSumElement);
+        return value == null ? null : new NumericWrapper(Real.valueOf(value));
     }
 }
 
@@ -39,22 +38,20 @@ class Singularity implements Parser<Double> {
     private Singularity() {
     }
 
-    @Nonnull
-    public Double parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Double parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        double result = 0d;
-
-        String s = Identifier.parser.parse(p, previousSumElement);
+        final String s = Identifier.parser.parse(p, previousSumElement);
+        if (s == null) {
+            return null;
+        }
         if (s.equals("NaN")) {
-            result = Double.NaN;
+            return Double.NaN;
         } else if (s.equals("Infinity") || s.equals("∞")) {
-            result = Double.POSITIVE_INFINITY;
+            return Double.POSITIVE_INFINITY;
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_10, "NaN", "∞");
+            return ParserUtils.fail(p, pos0, Messages.msg_10, "NaN", "∞");
         }
-
-        return result;
     }
 }
 
@@ -65,7 +62,7 @@ class FloatingPointLiteral implements Parser<Double> {
     private FloatingPointLiteral() {
     }
 
-    public Double parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Double parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final NumeralBase nb = NumeralBaseParser.parser.parse(p, previousSumElement);
@@ -78,82 +75,68 @@ class FloatingPointLiteral implements Parser<Double> {
         final Digits digitsParser = new Digits(nb);
 
         final StringBuilder result = new StringBuilder();
-        try {
-            result.append(digitsParser.parse(p, previousSumElement));
+        String s = digitsParser.parse(p, previousSumElement);
+        if (s != null) {
+            result.append(s);
             digits = true;
-        } catch (ParseException e) {
-            p.exceptionsPool.release(e);
         }
 
-        try {
-            DecimalPoint.parser.parse(p, previousSumElement);
-            result.append(".");
+        s = DecimalPoint.parser.parse(p, previousSumElement);
+        if (s != null) {
+            result.append(s);
             point = true;
-        } catch (ParseException e) {
-            if (!digits) {
-                p.position.setValue(pos0);
-                throw e;
-            } else {
-                p.exceptionsPool.release(e);
-            }
+        } else if (!digits) {
+            p.position.setValue(pos0);
+            return null;
         }
 
         if (point && nb != NumeralBase.dec) {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_15);
+            return ParserUtils.fail(p, pos0, Messages.msg_15);
         }
 
-        try {
-            result.append(digitsParser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            if (!digits) {
-                p.position.setValue(pos0);
-                throw e;
-            } else {
-                p.exceptionsPool.release(e);
-            }
+        s = digitsParser.parse(p, previousSumElement);
+        if (s != null) {
+            result.append(s);
+        } else if (!digits) {
+            p.position.setValue(pos0);
+            return null;
         }
 
-        try {
-            result.append(ExponentPart.parser.parse(p, previousSumElement));
+        s = ExponentPart.parser.parse(p, previousSumElement);
+        if (s != null) {
+            result.append(s);
             exponent = true;
-        } catch (ParseException e) {
-            if (!point) {
-                p.position.setValue(pos0);
-                throw e;
-            } else {
-                p.exceptionsPool.release(e);
-            }
+        } else if (!point) {
+            p.position.setValue(pos0);
+            return null;
         }
 
         if (exponent && nb != NumeralBase.dec) {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_15);
+            return ParserUtils.fail(p, pos0, Messages.msg_15);
         }
 
         final String doubleString = result.toString();
         try {
             return nb.toDouble(doubleString);
         } catch (NumberFormatException e) {
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_8, Collections.singletonList(doubleString));
+            return p.fail(p.position.intValue(), Messages.msg_8, doubleString);
         }
     }
 }
 
-class DecimalPoint implements Parser<Void> {
+class DecimalPoint implements Parser<String> {
 
-    public static final Parser<Void> parser = new DecimalPoint();
+    public static final Parser<String> parser = new DecimalPoint();
 
     private DecimalPoint() {
     }
 
-    @Nullable
-    public Void parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
 
-        ParserUtils.tryToParse(p, pos0, '.');
-
-        return null;
+        return ParserUtils.tryToParse(p, pos0, '.') ? "." : null;
     }
 }
 
@@ -164,8 +147,7 @@ class ExponentPart implements Parser<String> {
     private ExponentPart() {
     }
 
-    @Nonnull
-    public String parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
@@ -176,15 +158,14 @@ class ExponentPart implements Parser<String> {
             result.append(p.expression.charAt(p.position.intValue()));
             p.position.increment();
         } else {
-            throw ParserUtils.makeParseException(p, pos0, Messages.msg_10, 'e', 'E');
+            return ParserUtils.fail(p, pos0, Messages.msg_10, 'e', 'E');
         }
 
-        try {
-            result.append(SignedInteger.parser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final String signedInteger = ParserUtils.parseWithRollback(SignedInteger.parser, pos0, previousSumElement, p);
+        if (signedInteger == null) {
+            return null;
         }
+        result.append(signedInteger);
 
         return result.toString();
     }
@@ -197,8 +178,7 @@ class SignedInteger implements Parser<String> {
     private SignedInteger() {
     }
 
-    @Nonnull
-    public String parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         final int pos0 = p.position.intValue();
 
 
@@ -212,12 +192,11 @@ class SignedInteger implements Parser<String> {
             result.append(c);
         }
 
-        try {
-            result.append(IntegerParser.parser.parse(p, previousSumElement).intValue());
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final Integer integer = ParserUtils.parseWithRollback(IntegerParser.parser, pos0, previousSumElement, p);
+        if (integer == null) {
+            return null;
         }
+        result.append(integer.intValue());
 
         return result.toString();
     }
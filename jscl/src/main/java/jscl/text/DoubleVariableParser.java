@@ -2,6 +2,7 @@ package jscl.text;
 
 import jscl.math.DoubleVariable;
 import jscl.math.Generic;
+import jscl.math.NumericWrapper;
 import jscl.math.Variable;
 
 import javax.annotation.Nonnull;
@@ -13,8 +14,8 @@ public class DoubleVariableParser implements Parser<Variable> {
     private DoubleVariableParser() {
     }
 
-    @Nonnull
-    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return new DoubleVariable(DoubleParser.parser.parse(p, previousSumElement));
+    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final NumericWrapper value = DoubleParser.parser.parse(p, previousSumElement);
+        return value == null ? null : new DoubleVariable(value);
     }
 }
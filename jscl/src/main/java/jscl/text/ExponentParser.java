@@ -17,12 +17,15 @@ class ExponentParser implements Parser<Generic> {
     private ExponentParser() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final boolean minus = MinusParser.parser.parse(p, previousSumElement);
 
         final Generic result = ParserUtils.parseWithRollback(UnsignedExponent.parser, pos0, previousSumElement, p);
+        if (result == null) {
+            return null;
+        }
         return minus ? result.negate() : result;
     }
 }
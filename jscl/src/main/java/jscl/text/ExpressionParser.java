@@ -12,22 +12,24 @@ public class ExpressionParser implements Parser<Generic> {
     private ExpressionParser() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         final boolean minus = MinusParser.parser.parse(p, previousSumElement);
 
         Generic result = TermParser.parser.parse(p, previousSumElement);
+        if (result == null) {
+            return null;
+        }
 
         if (minus) {
             result = result.negate();
         }
 
         while (true) {
-            try {
-                result = result.add(PlusOrMinusTerm.parser.parse(p, result));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            final Generic term = PlusOrMinusTerm.parser.parse(p, result);
+            if (term == null) {
                 break;
             }
+            result = result.add(term);
         }
 
         return result;
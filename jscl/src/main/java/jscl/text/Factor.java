@@ -17,10 +17,13 @@ class Factor implements Parser<Generic> {
     private Factor() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         final boolean minus = MinusParser.parser.parse(p, previousSumElement);
 
         final Generic result = (Generic) UnsignedFactor.parser.parse(p, previousSumElement);
+        if (result == null) {
+            return null;
+        }
 
         return minus ? result.negate() : result;
     }
@@ -17,11 +17,13 @@ public class FunctionParser implements Parser<Function> {
             RootParser.parser,
             ImplicitFunctionParser.parser);
 
+    private static final Parser<Function> internalParser = new MultiTryParser<Function>(new ArrayList<Parser<? extends Function>>(parsers));
+
     private FunctionParser() {
     }
 
-    public Function parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return new MultiTryParser<Function>(new ArrayList<Parser<? extends Function>>(parsers)).parse(p, previousSumElement);
+    public Function parse(@Nonnull Parameters p, Generic previousSumElement) {
+        return internalParser.parse(p, previousSumElement);
     }
 }
 
@@ -27,8 +27,7 @@ public class Identifier implements Parser<String> {
     }
 
     // returns getVariable/constant getName
-    @Nonnull
-    public String parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
 
@@ -40,7 +39,7 @@ public class Identifier implements Parser<String> {
             result.append(p.expression.charAt(p.position.intValue()));
             p.position.increment();
         } else {
-            throw ParserUtils.makeParseException(p, pos0, Messages.msg_5);
+            return ParserUtils.fail(p, pos0, Messages.msg_5);
         }
 
         while (p.position.intValue() < p.expression.length() && isValidNotFirstCharacter(p.expression, p.position)) {
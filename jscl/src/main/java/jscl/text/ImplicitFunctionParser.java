@@ -10,7 +10,6 @@ import jscl.util.ArrayUtils;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class ImplicitFunctionParser implements Parser<Function> {
@@ -19,38 +18,35 @@ public class ImplicitFunctionParser implements Parser<Function> {
     private ImplicitFunctionParser() {
     }
 
-    public Function parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Function parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
         Generic a[];
 
         final String name = ParserUtils.parseWithRollback(CompoundIdentifier.parser, pos0, previousSumElement, p);
-        if (FunctionsRegistry.getInstance().getNames().contains(name) || OperatorsRegistry.getInstance().getNames().contains(name)) {
+        if (name == null) {
+            return null;
+        }
+        if (FunctionsRegistry.getInstance().contains(name) || OperatorsRegistry.getInstance().contains(name)) {
             p.position.setValue(pos0);
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_6, Collections.singletonList(name));
+            return p.fail(pos0, Messages.msg_6, name);
         }
 
         final List<Generic> subscripts = new ArrayList<Generic>();
         while (true) {
-            try {
-                subscripts.add(Subscript.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            final Generic subscript = Subscript.parser.parse(p, previousSumElement);
+            if (subscript == null) {
                 break;
             }
+            subscripts.add(subscript);
         }
 
-        int b[];
-        try {
-            b = Derivation.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.exceptionsPool.release(e);
+        int b[] = Derivation.parser.parse(p, previousSumElement);
+        if (b == null) {
             b = new int[0];
         }
-        try {
-            a = ParameterListParser.parser1.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        a = ParserUtils.parseWithRollback(ParameterListParser.parser1, pos0, previousSumElement, p);
+        if (a == null) {
+            return null;
         }
 
         int derivations[] = new int[a.length];
@@ -69,11 +65,10 @@ class Derivation implements Parser<int[]> {
     private Derivation() {
     }
 
-    public int[] parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        try {
-            return new int[]{PrimeCharacters.parser.parse(p, previousSumElement)};
-        } catch (ParseException e) {
-            p.exceptionsPool.release(e);
+    public int[] parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final Integer primeCharacters = PrimeCharacters.parser.parse(p, previousSumElement);
+        if (primeCharacters != null) {
+            return new int[]{primeCharacters};
         }
         return SuperscriptList.parser.parse(p, previousSumElement);
     }
@@ -86,29 +81,31 @@ class SuperscriptList implements Parser<int[]> {
     private SuperscriptList() {
     }
 
-    public int[] parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public int[] parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        ParserUtils.tryToParse(p, pos0, '{');
+        if (!ParserUtils.tryToParse(p, pos0, '{')) {
+            return null;
+        }
 
         final List<Integer> result = new ArrayList<Integer>();
-        try {
-            result.add(IntegerParser.parser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        Integer integer = ParserUtils.parseWithRollback(IntegerParser.parser, pos0, previousSumElement, p);
+        if (integer == null) {
+            return null;
         }
+        result.add(integer);
 
         while (true) {
-            try {
-                result.add(CommaAndInteger.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            integer = CommaAndInteger.parser.parse(p, previousSumElement);
+            if (integer == null) {
                 break;
             }
+            result.add(integer);
         }
 
-        ParserUtils.tryToParse(p, pos0, '}');
+        if (!ParserUtils.tryToParse(p, pos0, '}')) {
+            return null;
+        }
 
         ParserUtils.skipWhitespaces(p);
 
@@ -123,7 +120,7 @@ class CommaAndInteger implements Parser<Integer> {
     private CommaAndInteger() {
     }
 
-    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Integer parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
@@ -1,7 +1,5 @@
 package jscl.text;
 
-import java.util.Collections;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -16,7 +14,7 @@ public class IntegerParser implements Parser<Integer> {
     private IntegerParser() {
     }
 
-    public Integer parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Integer parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final NumeralBase nb = NumeralBaseParser.parser.parse(p, previousSumElement);
@@ -30,7 +28,7 @@ public class IntegerParser implements Parser<Integer> {
             result.append(c);
         } else {
             p.position.setValue(pos0);
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_7);
+            return p.fail(pos0, Messages.msg_7);
         }
 
         while (p.position.intValue() < p.expression.length() && nb.getAcceptableCharacters().contains(p.expression.charAt(p.position.intValue()))) {
@@ -43,7 +41,7 @@ public class IntegerParser implements Parser<Integer> {
         try {
             return nb.toInteger(number);
         } catch (NumberFormatException e) {
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_8, Collections.singletonList(number));
+            return p.fail(p.position.intValue(), Messages.msg_8, number);
         }
     }
 }
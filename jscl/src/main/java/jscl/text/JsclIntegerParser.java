@@ -1,7 +1,5 @@
 package jscl.text;
 
-import java.util.Collections;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -17,23 +15,20 @@ public class JsclIntegerParser implements Parser<JsclInteger> {
     private JsclIntegerParser() {
     }
 
-    public JsclInteger parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public JsclInteger parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final NumeralBase nb = NumeralBaseParser.parser.parse(p, previousSumElement);
 
-        final String number;
-        try {
-            number = new Digits(nb).parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final String number = ParserUtils.parseWithRollback(new Digits(nb), pos0, previousSumElement, p);
+        if (number == null) {
+            return null;
         }
 
         try {
             return nb.toJsclInteger(number);
         } catch (NumberFormatException e) {
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_8, Collections.singletonList(number));
+            return p.fail(p.position.intValue(), Messages.msg_8, number);
         }
     }
 }
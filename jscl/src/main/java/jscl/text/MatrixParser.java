@@ -16,30 +16,32 @@ public class MatrixParser implements Parser<Matrix> {
     private MatrixParser() {
     }
 
-    public Matrix parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Matrix parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final List<Generic> vectors = new ArrayList<Generic>();
 
-        ParserUtils.tryToParse(p, pos0, '[');
+        if (!ParserUtils.tryToParse(p, pos0, '[')) {
+            return null;
+        }
 
-        try {
-            vectors.add(VectorParser.parser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        JsclVector vector = ParserUtils.parseWithRollback(VectorParser.parser, pos0, previousSumElement, p);
+        if (vector == null) {
+            return null;
         }
+        vectors.add(vector);
 
         while (true) {
-            try {
-                vectors.add(CommaAndVector.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            vector = CommaAndVector.parser.parse(p, previousSumElement);
+            if (vector == null) {
                 break;
             }
+            vectors.add(vector);
         }
 
-        ParserUtils.tryToParse(p, pos0, ']');
+        if (!ParserUtils.tryToParse(p, pos0, ']')) {
+            return null;
+        }
 
         return Matrix.frame((JsclVector[]) ArrayUtils.toArray(vectors, new JsclVector[vectors.size()])).transpose();
     }
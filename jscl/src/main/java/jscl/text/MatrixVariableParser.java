@@ -1,6 +1,7 @@
 package jscl.text;
 
 import jscl.math.Generic;
+import jscl.math.Matrix;
 import jscl.math.MatrixVariable;
 import jscl.math.Variable;
 
@@ -12,7 +13,8 @@ class MatrixVariableParser implements Parser<Variable> {
     private MatrixVariableParser() {
     }
 
-    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return new MatrixVariable(MatrixParser.parser.parse(p, previousSumElement));
+    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final Matrix matrix = MatrixParser.parser.parse(p, previousSumElement);
+        return matrix == null ? null : new MatrixVariable(matrix);
     }
 }
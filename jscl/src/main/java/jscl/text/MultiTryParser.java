@@ -3,7 +3,6 @@ package jscl.text;
 import jscl.math.Generic;
 
 import javax.annotation.Nonnull;
-import java.util.Iterator;
 import java.util.List;
 
 public class MultiTryParser<T> implements Parser<T> {
@@ -15,27 +14,13 @@ public class MultiTryParser<T> implements Parser<T> {
         this.parsers = parsers;
     }
 
-    public T parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        T result = null;
-
-        for (final Iterator<Parser<? extends T>> it = parsers.iterator(); it.hasNext(); ) {
-            try {
-                final Parser<? extends T> parser = it.next();
-                result = parser.parse(p, previousSumElement);
-            } catch (ParseException e) {
-
-                p.addException(e);
-
-                if (!it.hasNext()) {
-                    throw e;
-                }
-            }
-
+    public T parse(@Nonnull Parameters p, Generic previousSumElement) {
+        for (int i = 0; i < parsers.size(); i++) {
+            final T result = parsers.get(i).parse(p, previousSumElement);
             if (result != null) {
-                break;
+                return result;
             }
         }
-
-        return result;
+        return null;
     }
 }
@@ -18,7 +18,7 @@ class MultiplyFactor implements Parser<Generic> {
         return c == '*' || c == '×' || c == '∙';
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
         final int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
@@ -26,7 +26,7 @@ class MultiplyFactor implements Parser<Generic> {
         if (pos1 < p.expression.length() && isMultiplication(p.expression.charAt(pos1))) {
             p.position.increment();
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_10, '*', '/');
+            return ParserUtils.fail(p, pos0, Messages.msg_10, '*', '/');
         }
 
         return ParserUtils.parseWithRollback(Factor.parser, pos0, previousSumElement, p);
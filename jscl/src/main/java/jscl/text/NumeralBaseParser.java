@@ -21,13 +21,9 @@ public class NumeralBaseParser implements Parser<NumeralBase> {
         ParserUtils.skipWhitespaces(p);
 
         for (NumeralBase numeralBase : NumeralBase.values()) {
-            try {
-                final String jsclPrefix = numeralBase.getJsclPrefix();
-                ParserUtils.tryToParse(p, pos0, jsclPrefix);
+            if (ParserUtils.tryToParse(p, pos0, numeralBase.getJsclPrefix())) {
                 result = numeralBase;
                 break;
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
             }
         }
 
@@ -16,33 +16,34 @@ public class OperatorParser implements Parser<Operator> {
     }
 
     static boolean valid(@Nullable String name) {
-        return name != null && OperatorsRegistry.getInstance().getNames().contains(name);
+        return name != null && OperatorsRegistry.getInstance().contains(name);
     }
 
-    @Nonnull
-    public Operator parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Operator parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final String operatorName = Identifier.parser.parse(p, previousSumElement);
+        if (operatorName == null) {
+            return null;
+        }
         if (!valid(operatorName)) {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_3, operatorName);
+            return ParserUtils.fail(p, pos0, Messages.msg_3, operatorName);
         }
 
         final Operator operator = OperatorsRegistry.getInstance().get(operatorName);
+        if (operator == null) {
+            return ParserUtils.fail(p, pos0, Messages.msg_3, operatorName);
+        }
 
-        Operator result = null;
-        if (operator != null) {
-            final Generic parameters[] = ParserUtils.parseWithRollback(new ParameterListParser(operator.getMinParameters()), pos0, previousSumElement, p);
-
-            result = OperatorsRegistry.getInstance().get(operatorName, parameters);
-            if (result == null) {
-                ParserUtils.throwParseException(p, pos0, Messages.msg_2, operatorName);
-            }
-        } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_3, operatorName);
+        final Generic parameters[] = ParserUtils.parseWithRollback(new ParameterListParser(operator.getMinParameters()), pos0, previousSumElement, p);
+        if (parameters == null) {
+            return null;
         }
 
-        assert result != null;
+        final Operator result = OperatorsRegistry.getInstance().get(operatorName, parameters);
+        if (result == null) {
+            return ParserUtils.fail(p, pos0, Messages.msg_2, operatorName);
+        }
         return result;
     }
 
@@ -20,35 +20,34 @@ public class ParameterListParser implements Parser<Generic[]> {
         this.minNumberOfParameters = minNumberOfParameters;
     }
 
-    @Nonnull
-    public Generic[] parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic[] parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final List<Generic> result = new ArrayList<Generic>();
 
-        ParserUtils.tryToParse(p, pos0, '(');
+        if (!ParserUtils.tryToParse(p, pos0, '(')) {
+            return null;
+        }
 
-        try {
-            result.add(ExpressionParser.parser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            if (minNumberOfParameters > 0) {
-                p.position.setValue(pos0);
-                throw e;
-            } else {
-                p.exceptionsPool.release(e);
-            }
+        Generic parameter = ExpressionParser.parser.parse(p, previousSumElement);
+        if (parameter != null) {
+            result.add(parameter);
+        } else if (minNumberOfParameters > 0) {
+            p.position.setValue(pos0);
+            return null;
         }
 
         while (true) {
-            try {
-                result.add(CommaAndExpression.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            parameter = CommaAndExpression.parser.parse(p, previousSumElement);
+            if (parameter == null) {
                 break;
             }
+            result.add(parameter);
         }
 
-        ParserUtils.tryToParse(p, pos0, ')');
+        if (!ParserUtils.tryToParse(p, pos0, ')')) {
+            return null;
+        }
 
 
         return ArrayUtils.toArray(result, new Generic[result.size()]);
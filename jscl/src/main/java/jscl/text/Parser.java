@@ -1,7 +1,6 @@
 package jscl.text;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -9,6 +8,7 @@ import javax.annotation.Nullable;
 import jscl.JsclMathEngine;
 import jscl.MathContext;
 import jscl.math.Generic;
+import jscl.text.msg.Messages;
 
 /**
  * Main parser interface.
@@ -20,12 +20,15 @@ import jscl.math.Generic;
 public interface Parser<T> {
 
     /**
+     * Parsers don't throw exceptions on failures as backtracking is common: instead the reason of the failure is
+     * recorded in <var>p</var> (see {@link Parameters#fail(int, String)}) and null is returned.
+     *
      * @param p                  parse parameters
      * @param previousSumElement sum element to the left of last + sign
-     * @return parsed object of type T
-     * @throws ParseException occurs if object could not be parsed from the string
+     * @return parsed object of type T or null if object could not be parsed from the string
      */
-    T parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException;
+    @Nullable
+    T parse(@Nonnull Parameters p, @Nullable Generic previousSumElement);
 
     class Parameters {
 
@@ -43,14 +46,16 @@ public interface Parser<T> {
         @Nonnull
         public final MutableInt position = new MutableInt(0);
 
-        @Nonnull
-        public final List<ParseException> exceptions = new ArrayList<ParseException>();
-
         @Nonnull
         public final MathContext context;
 
+        // last failure, exception is created only if it has to be reported
+        private int failurePosition;
+        @Nullable
+        private String failureMessageCode;
         @Nonnull
-        public final ExceptionsPool exceptionsPool = new ExceptionsPool();
+        private final Object[] failureParameters = new Object[2];
+        private int failureParametersCount;
 
         /**
          * @param expression  expression to be parsed
@@ -71,13 +76,50 @@ public interface Parser<T> {
 
         public void reset() {
             position.setValue(0);
-            exceptions.clear();
+            setFailure(0, null, 0);
+        }
+
+        private void setFailure(int position, @Nullable String messageCode, int parametersCount) {
+            failurePosition = position;
+            failureMessageCode = messageCode;
+            failureParametersCount = parametersCount;
+        }
+
+        /**
+         * Records the failure of the parsing at <var>position</var>
+         *
+         * @return null
+         */
+        @Nullable
+        public <T> T fail(int position, @Nonnull String messageCode) {
+            setFailure(position, messageCode, 0);
+            return null;
         }
 
-        public void addException(@Nonnull ParseException e) {
-            if (!exceptions.contains(e)) {
-                exceptions.add(e);
+        @Nullable
+        public <T> T fail(int position, @Nonnull String messageCode, @Nonnull Object parameter) {
+            failureParameters[0] = parameter;
+            setFailure(position, messageCode, 1);
+            return null;
+        }
+
+        @Nullable
+        public <T> T fail(int position, @Nonnull String messageCode, @Nonnull Object parameter1, @Nonnull Object parameter2) {
+            failureParameters[0] = parameter1;
+            failureParameters[1] = parameter2;
+            setFailure(position, messageCode, 2);
+            return null;
+        }
+
+        /**
+         * @return exception describing the last failure
+         */
+        @Nonnull
+        public ParseException newParseException() {
+            if (failureMessageCode == null) {
+                return new ParseException(position.intValue(), expression, Messages.msg_1, position.intValue() + 1);
             }
+            return new ParseException(failurePosition, expression, failureMessageCode, Arrays.copyOf(failureParameters, failureParametersCount));
         }
     }
 }
@@ -6,7 +6,6 @@ import jscl.text.msg.Messages;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.reflect.Array;
-import java.util.Collections;
 
 /**
  * User: serso
@@ -30,93 +29,76 @@ public class ParserUtils {
         }
     }
 
-    public static void tryToParse(@Nonnull Parser.Parameters p,
-                                  int pos0,
-                                  char ch) throws ParseException {
+    /**
+     * Parses <var>ch</var> (after skipping whitespaces)
+     *
+     * @return true if character has been parsed, false otherwise (the failure is recorded and the position is reset to
+     * <var>pos0</var>)
+     */
+    public static boolean tryToParse(@Nonnull Parser.Parameters p,
+                                     int pos0,
+                                     char ch) {
         skipWhitespaces(p);
 
-        if (p.position.intValue() < p.expression.length()) {
-            char actual = p.expression.charAt(p.position.intValue());
-            if (actual == ch) {
-                p.position.increment();
-            } else {
-                throwParseException(p, pos0, Messages.msg_12, ch);
-            }
-        } else {
-            throwParseException(p, pos0, Messages.msg_12, ch);
+        if (p.position.intValue() < p.expression.length() && p.expression.charAt(p.position.intValue()) == ch) {
+            p.position.increment();
+            return true;
         }
+        fail(p, pos0, Messages.msg_12, ch);
+        return false;
     }
 
-    public static void tryToParse(@Nonnull Parser.Parameters p,
-                                  int pos0,
-                                  @Nonnull String s) throws ParseException {
+    public static boolean tryToParse(@Nonnull Parser.Parameters p,
+                                     int pos0,
+                                     @Nonnull String s) {
         skipWhitespaces(p);
 
-        if (p.position.intValue() < p.expression.length()) {
-            if (p.expression.startsWith(s, p.position.intValue())) {
-                p.position.add(s.length());
-            } else {
-                throwParseException(p, pos0, Messages.msg_11, s);
-            }
-        } else {
-            throwParseException(p, pos0, Messages.msg_11, s);
+        if (p.position.intValue() < p.expression.length() && p.expression.startsWith(s, p.position.intValue())) {
+            p.position.add(s.length());
+            return true;
         }
+        fail(p, pos0, Messages.msg_11, s);
+        return false;
     }
 
-    public static void throwParseException(@Nonnull Parser.Parameters p,
-                                           int pos0,
-                                           @Nonnull String messageId) throws ParseException {
-        throw makeParseException(p, pos0, messageId);
-    }
-
-    @Nonnull
-    public static ParseException makeParseException(@Nonnull Parser.Parameters p, int pos0, @Nonnull String messageId) {
+    /**
+     * Records the failure at the current position and resets the position to <var>pos0</var>
+     *
+     * @return null
+     */
+    @Nullable
+    public static <T> T fail(@Nonnull Parser.Parameters p, int pos0, @Nonnull String messageId) {
         final MutableInt position = p.position;
-        final ParseException parseException = p.exceptionsPool.obtain(position.intValue(), p.expression, messageId, Collections.emptyList());
+        p.fail(position.intValue(), messageId);
         position.setValue(pos0);
-        return parseException;
+        return null;
     }
 
-    public static void throwParseException(@Nonnull Parser.Parameters p,
-                                           int pos0,
-                                           @Nonnull String messageId,
-                                           @Nonnull Object parameter) throws ParseException {
+    @Nullable
+    public static <T> T fail(@Nonnull Parser.Parameters p, int pos0, @Nonnull String messageId, @Nonnull Object parameter) {
         final MutableInt position = p.position;
-        final ParseException parseException = p.exceptionsPool.obtain(position.intValue(), p.expression, messageId, Collections.singletonList(parameter));
+        p.fail(position.intValue(), messageId, parameter);
         position.setValue(pos0);
-        throw parseException;
-    }
-
-    public static void throwParseException(@Nonnull Parser.Parameters p,
-                                           int pos0,
-                                           @Nonnull String messageId,
-                                           Object... parameters) throws ParseException {
-        throw makeParseException(p, pos0, messageId, parameters);
+        return null;
     }
 
-    @Nonnull
-    public static ParseException makeParseException(@Nonnull Parser.Parameters p, int pos0, @Nonnull String messageId, Object... parameters) {
+    @Nullable
+    public static <T> T fail(@Nonnull Parser.Parameters p, int pos0, @Nonnull String messageId, @Nonnull Object parameter1, @Nonnull Object parameter2) {
         final MutableInt position = p.position;
-        final ParseException parseException = p.exceptionsPool.obtain(position.intValue(), p.expression, messageId, parameters);
+        p.fail(position.intValue(), messageId, parameter1, parameter2);
         position.setValue(pos0);
-        return parseException;
+        return null;
     }
 
-
-    @Nonnull
+    @Nullable
     static <T> T parseWithRollback(@Nonnull Parser<T> parser,
                                    int initialPosition,
                                    @Nullable final Generic previousSumParser,
-                                   @Nonnull final Parser.Parameters p) throws ParseException {
-        T result;
-
-        try {
-            result = parser.parse(p, previousSumParser);
-        } catch (ParseException e) {
+                                   @Nonnull final Parser.Parameters p) {
+        final T result = parser.parse(p, previousSumParser);
+        if (result == null) {
             p.position.setValue(initialPosition);
-            throw e;
         }
-
         return result;
     }
 
@@ -17,7 +17,7 @@ class PlusOrMinusTerm implements Parser<Generic> {
     private PlusOrMinusTerm() {
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
         final int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
@@ -28,10 +28,13 @@ class PlusOrMinusTerm implements Parser<Generic> {
             minus = MinusParser.isMinus(p.expression.charAt(pos1));
             p.position.increment();
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_10, '+', '-');
+            return ParserUtils.fail(p, pos0, Messages.msg_10, '+', '-');
         }
 
         final Generic result = ParserUtils.parseWithRollback(TermParser.parser, pos0, previousSumElement, p);
+        if (result == null) {
+            return null;
+        }
 
         return minus ? result.negate() : result;
     }
@@ -15,7 +15,7 @@ public class PostfixFunctionParser implements Parser<String> {
     }
 
     @Nullable
-    public String parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         final int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
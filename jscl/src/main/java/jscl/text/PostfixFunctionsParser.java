@@ -8,9 +8,6 @@ import jscl.text.msg.Messages;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.List;
-
-import static java.util.Collections.singletonList;
 
 public class PostfixFunctionsParser implements Parser<Generic> {
 
@@ -24,37 +21,45 @@ public class PostfixFunctionsParser implements Parser<Generic> {
         this.content = content;
     }
 
-    private static Generic parsePostfix(@Nonnull List<String> names,
-                                        final Generic content,
+    @Nullable
+    private static Generic parsePostfix(final Generic content,
                                         @Nullable final Generic previousSumElement,
-                                        @Nonnull final Parameters p) throws ParseException {
-        checkTripleFactorial(previousSumElement, p);
-
-        for (int i = 0; i < names.size(); i++) {
-            final PostfixFunctionParser parser = new PostfixFunctionParser(names.get(i));
-            final String functionName = parser.parse(p, previousSumElement);
-            if (functionName == null) {
-                continue;
-            }
-            final Generic[] parameters = previousSumElement == null ? new Generic[]{content} : new Generic[]{content, previousSumElement};
-            final Operator function = registry.get(functionName, parameters);
-
-            if (function != null) {
-                return parsePostfix(names, function.expressionValue(), previousSumElement, p);
-            }
-
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_4, singletonList(functionName));
+                                        @Nonnull final Parameters p) {
+        if (tripleFactorialParser.parse(p, previousSumElement) != null) {
+            return p.fail(p.position.intValue(), Messages.msg_18);
+        }
+
+        final String functionName = parseName(p);
+        if (functionName == null) {
+            return content;
         }
-        return content;
+
+        final Generic[] parameters = previousSumElement == null ? new Generic[]{content} : new Generic[]{content, previousSumElement};
+        final Operator function = registry.get(functionName, parameters);
+
+        if (function != null) {
+            return parsePostfix(function.expressionValue(), previousSumElement, p);
+        }
+
+        return p.fail(p.position.intValue(), Messages.msg_4, functionName);
     }
 
-    private static void checkTripleFactorial(@Nullable Generic previousSumElement, @Nonnull Parameters p) throws ParseException {
-        if (tripleFactorialParser.parse(p, previousSumElement) != null) {
-            throw p.exceptionsPool.obtain(p.position.intValue(), p.expression, Messages.msg_18);
+    @Nullable
+    private static String parseName(@Nonnull Parameters p) {
+        final int pos0 = p.position.intValue();
+
+        ParserUtils.skipWhitespaces(p);
+
+        final String name = registry.findName(p.expression, p.position.intValue());
+        if (name != null) {
+            p.position.add(name.length());
+        } else {
+            p.position.setValue(pos0);
         }
+        return name;
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return parsePostfix(registry.getNames(), content, previousSumElement, p);
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
+        return parsePostfix(content, previousSumElement, p);
     }
 }
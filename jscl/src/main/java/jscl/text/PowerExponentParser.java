@@ -17,24 +17,14 @@ class PowerExponentParser implements Parser<Generic> {
     private PowerExponentParser() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        try {
-            PowerParser.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
+        if (PowerParser.parser.parse(p, previousSumElement) == null) {
             p.position.setValue(pos0);
-            throw e;
+            return null;
         }
 
-        Generic result;
-        try {
-            result = ExponentParser.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
-        }
-
-        return result;
+        return ParserUtils.parseWithRollback(ExponentParser.parser, pos0, previousSumElement, p);
     }
 }
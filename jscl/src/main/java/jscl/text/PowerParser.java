@@ -4,7 +4,6 @@ import jscl.math.Generic;
 import jscl.text.msg.Messages;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 
 import static jscl.text.MultiplyFactor.isMultiplication;
 
@@ -13,31 +12,28 @@ import static jscl.text.MultiplyFactor.isMultiplication;
  * Date: 10/27/11
  * Time: 2:45 PM
  */
-class PowerParser implements Parser<Void> {
+class PowerParser implements Parser<String> {
 
-    public static final Parser<Void> parser = new PowerParser();
+    public static final Parser<String> parser = new PowerParser();
 
     private PowerParser() {
     }
 
-    @Nullable
-    public Void parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public String parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
 
         if (p.position.intValue() < p.expression.length() && p.expression.charAt(p.position.intValue()) == '^') {
             p.position.increment();
+            return "^";
+        } else if (isDoubleStar(p.expression, p.position.intValue())) {
+            p.position.increment();
+            p.position.increment();
+            return "**";
         } else {
-            if (isDoubleStar(p.expression, p.position.intValue())) {
-                p.position.increment();
-                p.position.increment();
-            } else {
-                ParserUtils.throwParseException(p, pos0, Messages.msg_10, '^', "**");
-            }
+            return ParserUtils.fail(p, pos0, Messages.msg_10, '^', "**");
         }
-
-        return null;
     }
 
     private boolean isDoubleStar(@Nonnull String string, int position) {
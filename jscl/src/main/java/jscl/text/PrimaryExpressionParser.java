@@ -31,7 +31,7 @@ public class PrimaryExpressionParser implements Parser<Generic> {
     private PrimaryExpressionParser() {
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
         return internalParser.parse(p, previousSumElement);
     }
 }
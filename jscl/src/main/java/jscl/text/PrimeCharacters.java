@@ -12,7 +12,7 @@ public class PrimeCharacters implements Parser<Integer> {
     private PrimeCharacters() {
     }
 
-    public Integer parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Integer parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
 
         int pos0 = p.position.intValue();
 
@@ -24,7 +24,7 @@ public class PrimeCharacters implements Parser<Integer> {
             p.position.increment();
             result = 1;
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_12, '\'');
+            return ParserUtils.fail(p, pos0, Messages.msg_12, '\'');
         }
 
         while (p.position.intValue() < p.expression.length() && p.expression.charAt(p.position.intValue()) == '\'') {
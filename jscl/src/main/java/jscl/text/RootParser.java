@@ -13,16 +13,25 @@ public class RootParser implements Parser<Function> {
     private RootParser() {
     }
 
-    public Function parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Function parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final String name = Identifier.parser.parse(p, previousSumElement);
+        if (name == null) {
+            return null;
+        }
         if (name.compareTo("root") != 0) {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_11, "root");
+            return ParserUtils.fail(p, pos0, Messages.msg_11, "root");
         }
 
         final Generic subscript = ParserUtils.parseWithRollback(Subscript.parser, pos0, previousSumElement, p);
+        if (subscript == null) {
+            return null;
+        }
         final Generic parameters[] = ParserUtils.parseWithRollback(ParameterListParser.parser1, pos0, previousSumElement, p);
+        if (parameters == null) {
+            return null;
+        }
 
         return new Root(parameters, subscript);
     }
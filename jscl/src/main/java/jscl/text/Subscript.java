@@ -12,20 +12,21 @@ public class Subscript implements Parser<Generic> {
     private Subscript() {
     }
 
-    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, @Nullable Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
-        ParserUtils.tryToParse(p, pos0, '[');
+        if (!ParserUtils.tryToParse(p, pos0, '[')) {
+            return null;
+        }
 
-        Generic a;
-        try {
-            a = ExpressionParser.parser.parse(p, previousSumElement);
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        final Generic a = ParserUtils.parseWithRollback(ExpressionParser.parser, pos0, previousSumElement, p);
+        if (a == null) {
+            return null;
         }
 
-        ParserUtils.tryToParse(p, pos0, ']');
+        if (!ParserUtils.tryToParse(p, pos0, ']')) {
+            return null;
+        }
 
         return a;
     }
@@ -20,29 +20,30 @@ class TermParser implements Parser<Generic> {
     private TermParser() {
     }
 
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
         Generic result = JsclInteger.valueOf(1);
 
         Generic s = (Generic) UnsignedFactor.parser.parse(p, previousSumElement);
+        if (s == null) {
+            return null;
+        }
 
         while (true) {
-            try {
-                Generic b = MultiplyFactor.parser.parse(p, null);
+            Generic b = MultiplyFactor.parser.parse(p, null);
+            if (b != null) {
                 result = result.multiply(s);
                 s = b;
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
-                try {
-                    Generic b = DivideFactor.parser.parse(p, null);
-                    if (s.compareTo(JsclInteger.valueOf(1)) == 0)
-                        s = new Inverse(GenericVariable.content(b, true)).expressionValue();
-                    else
-                        s = new Fraction(GenericVariable.content(s, true), GenericVariable.content(b, true)).expressionValue();
-                } catch (ParseException e2) {
-                    p.exceptionsPool.release(e2);
-                    break;
-                }
+                continue;
+            }
+            b = DivideFactor.parser.parse(p, null);
+            if (b != null) {
+                if (s.compareTo(JsclInteger.valueOf(1)) == 0)
+                    s = new Inverse(GenericVariable.content(b, true)).expressionValue();
+                else
+                    s = new Fraction(GenericVariable.content(s, true), GenericVariable.content(b, true)).expressionValue();
+                continue;
             }
+            break;
         }
 
         result = result.multiply(s);
@@ -16,8 +16,11 @@ class UnsignedExponent implements Parser<Generic> {
     private UnsignedExponent() {
     }
 
-    public Generic parse(@Nonnull Parameters p, final Generic previousSumElement) throws ParseException {
+    public Generic parse(@Nonnull Parameters p, final Generic previousSumElement) {
         final Generic content = PrimaryExpressionParser.parser.parse(p, previousSumElement);
+        if (content == null) {
+            return null;
+        }
         return new PostfixFunctionsParser(content).parse(p, previousSumElement);
     }
 }
@@ -22,20 +22,22 @@ class UnsignedFactor implements Parser {
     private UnsignedFactor() {
     }
 
-    public Object parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Object parse(@Nonnull Parameters p, Generic previousSumElement) {
         final List<Generic> list = new ArrayList<Generic>();
 
         Generic generic = UnsignedExponent.parser.parse(p, previousSumElement);
+        if (generic == null) {
+            return null;
+        }
 
         list.add(generic);
 
         while (true) {
-            try {
-                list.add(PowerExponentParser.parser.parse(p, null));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            final Generic exponent = PowerExponentParser.parser.parse(p, null);
+            if (exponent == null) {
                 break;
             }
+            list.add(exponent);
         }
 
         final ListIterator<Generic> it = list.listIterator(list.size());
@@ -24,30 +24,35 @@ class UsualFunctionParser implements Parser<Function> {
     }
 
     static boolean valid(@Nullable String name) {
-        return name != null && FunctionsRegistry.getInstance().getNames().contains(name);
+        return name != null && FunctionsRegistry.getInstance().contains(name);
     }
 
-    public Function parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Function parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         final String name = Identifier.parser.parse(p, previousSumElement);
+        if (name == null) {
+            return null;
+        }
 
         if (!valid(name)) {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_13);
+            return ParserUtils.fail(p, pos0, Messages.msg_13);
         }
 
         final Function result = functionsRegistry.get(name);
+        if (result == null) {
+            return ParserUtils.fail(p, pos0, Messages.msg_13);
+        }
 
-        if (result != null) {
-            final Generic parameters[] = ParserUtils.parseWithRollback(new ParameterListParser(result.getMinParameters()), pos0, previousSumElement, p);
+        final Generic parameters[] = ParserUtils.parseWithRollback(new ParameterListParser(result.getMinParameters()), pos0, previousSumElement, p);
+        if (parameters == null) {
+            return null;
+        }
 
-            if (result.getMinParameters() <= parameters.length && result.getMaxParameters() >= parameters.length) {
-                result.setParameters(parameters);
-            } else {
-                ParserUtils.throwParseException(p, pos0, Messages.msg_14, parameters.length);
-            }
+        if (result.getMinParameters() <= parameters.length && result.getMaxParameters() >= parameters.length) {
+            result.setParameters(parameters);
         } else {
-            ParserUtils.throwParseException(p, pos0, Messages.msg_13);
+            return ParserUtils.fail(p, pos0, Messages.msg_14, parameters.length);
         }
 
         return result;
@@ -17,7 +17,8 @@ class VariableConverter<T extends Variable> extends AbstractConverter<T, Generic
     }
 
     @Override
-    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return this.parser.parse(p, previousSumElement).expressionValue();
+    public Generic parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final T variable = this.parser.parse(p, previousSumElement);
+        return variable == null ? null : variable.expressionValue();
     }
 }
@@ -22,7 +22,7 @@ public class VariableParser implements Parser<Variable> {
     private VariableParser() {
     }
 
-    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) {
         return internalParser.parse(p, previousSumElement);
     }
 }
@@ -15,33 +15,35 @@ public class VectorParser implements Parser<JsclVector> {
     private VectorParser() {
     }
 
-    public JsclVector parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
+    public JsclVector parse(@Nonnull Parameters p, Generic previousSumElement) {
         int pos0 = p.position.intValue();
 
         ParserUtils.skipWhitespaces(p);
 
-        ParserUtils.tryToParse(p, pos0, '[');
+        if (!ParserUtils.tryToParse(p, pos0, '[')) {
+            return null;
+        }
 
         final List<Generic> result = new ArrayList<Generic>();
-        try {
-            result.add(ExpressionParser.parser.parse(p, previousSumElement));
-        } catch (ParseException e) {
-            p.position.setValue(pos0);
-            throw e;
+        Generic element = ParserUtils.parseWithRollback(ExpressionParser.parser, pos0, previousSumElement, p);
+        if (element == null) {
+            return null;
         }
+        result.add(element);
 
         while (true) {
-            try {
-                result.add(CommaAndExpression.parser.parse(p, previousSumElement));
-            } catch (ParseException e) {
-                p.exceptionsPool.release(e);
+            element = CommaAndExpression.parser.parse(p, previousSumElement);
+            if (element == null) {
                 break;
             }
+            result.add(element);
         }
 
         ParserUtils.skipWhitespaces(p);
 
-        ParserUtils.tryToParse(p, pos0, ']');
+        if (!ParserUtils.tryToParse(p, pos0, ']')) {
+            return null;
+        }
 
         return new JsclVector(ArrayUtils.toArray(result, new Generic[result.size()]));
     }
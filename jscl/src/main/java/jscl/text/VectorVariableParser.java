@@ -1,6 +1,7 @@
 package jscl.text;
 
 import jscl.math.Generic;
+import jscl.math.JsclVector;
 import jscl.math.Variable;
 import jscl.math.VectorVariable;
 
@@ -12,7 +13,8 @@ public class VectorVariableParser implements Parser<Variable> {
     private VectorVariableParser() {
     }
 
-    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) throws ParseException {
-        return new VectorVariable(VectorParser.parser.parse(p, previousSumElement));
+    public Variable parse(@Nonnull Parameters p, Generic previousSumElement) {
+        final JsclVector vector = VectorParser.parser.parse(p, previousSumElement);
+        return vector == null ? null : new VectorVariable(vector);
     }
 }
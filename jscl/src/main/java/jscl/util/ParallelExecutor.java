@@ -0,0 +1,122 @@
+package jscl.util;
+
+import jscl.EvaluationBudget;
+import jscl.EvaluationBudgetExceededException;
+import jscl.EvaluationContext;
+import jscl.JsclMathEngine;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool for CPU-bound computations split across cores (f.e. numeric quadrature or long sums). ForkJoinPool is
+ * not available on older Android versions, a fixed pool of daemon threads is used instead. Idle threads are stopped.
+ */
+public final class ParallelExecutor {
+
+    private ParallelExecutor() {
+        throw new AssertionError();
+    }
+
+    @Nonnull
+    public static ExecutorService getInstance() {
+        return Holder.instance;
+    }
+
+    /**
+     * Runs the tasks on the shared pool with the {@link EvaluationBudget} and the {@link EvaluationContext} of the
+     * calling thread. The caller waits no longer than the time left in the budget, tasks which are not done by then
+     * are cancelled.
+     *
+     * @param tasks tasks to be run
+     * @param stage stage of the evaluation reported if the time is over
+     * @return futures of the tasks in the same order, all done
+     * @throws EvaluationBudgetExceededException if the time of the budget is over before all the tasks are done
+     * @throws InterruptedException              if the calling thread is interrupted, the tasks are cancelled
+     */
+    @Nonnull
+    public static <T> List<Future<T>> invokeAll(@Nonnull List<Callable<T>> tasks, @Nonnull String stage) throws InterruptedException {
+        final EvaluationBudget.Meter meter = EvaluationBudget.current();
+        final EvaluationContext context = JsclMathEngine.getInstance().getThreadContext();
+        if (meter == null && context == null) {
+            return getInstance().invokeAll(tasks);
+        }
+        final List<Callable<T>> wrapped = new ArrayList<Callable<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(new EvaluationTask<T>(task, meter, context));
+        }
+        final long timeout = meter == null ? Long.MAX_VALUE : meter.getRemainingNanos();
+        if (timeout == Long.MAX_VALUE) {
+            return getInstance().invokeAll(wrapped);
+        }
+        final List<Future<T>> futures = getInstance().invokeAll(wrapped, timeout, TimeUnit.NANOSECONDS);
+        for (Future<T> future : futures) {
+            if (future.isCancelled()) {
+                throw new EvaluationBudgetExceededException(stage, EvaluationBudget.Limit.time);
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Runs a task with the budget and the settings of the thread which has submitted it
+     */
+    private static final class EvaluationTask<T> implements Callable<T> {
+        @Nonnull
+        private final Callable<T> task;
+        @Nullable
+        private final EvaluationBudget.Meter meter;
+        @Nullable
+        private final EvaluationContext context;
+
+        EvaluationTask(@Nonnull Callable<T> task, @Nullable EvaluationBudget.Meter meter, @Nullable EvaluationContext context) {
+            this.task = task;
+            this.meter = meter;
+            this.context = context;
+        }
+
+        @Override
+        public T call() throws Exception {
+            final JsclMathEngine engine = JsclMathEngine.getInstance();
+            final EvaluationBudget.Meter previousMeter = EvaluationBudget.attach(meter);
+            final EvaluationContext previousContext = engine.setThreadContext(context);
+            try {
+                return task.call();
+            } finally {
+                engine.setThreadContext(previousContext);
+                EvaluationBudget.attach(previousMeter);
+            }
+        }
+    }
+
+    private static final class Holder {
+        @Nonnull
+        static final ExecutorService instance = newExecutor();
+
+        @Nonnull
+        private static ExecutorService newExecutor() {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            final AtomicInteger counter = new AtomicInteger();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(@Nonnull Runnable r) {
+                    final Thread thread = new Thread(r, "jscl-parallel-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package org.solovyev.common;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import midpcalc.Real;
 
@@ -13,6 +16,11 @@ import static midpcalc.Real.NumberFormat.FSE_FIX;
 import static midpcalc.Real.NumberFormat.FSE_NONE;
 import static midpcalc.Real.NumberFormat.FSE_SCI;
 
+/**
+ * Formats numbers in simple, scientific or engineering format. The common case, a double or a long in the simple
+ * format of radix 10, is formatted directly from the decimal digits of the value into a buffer reused between calls.
+ * Other numbers go through {@link Real}. Both paths produce the same output, instances are not thread-safe.
+ */
 public class NumberFormatter {
 
     public static final char NO_GROUPING = 0;
@@ -20,6 +28,8 @@ public class NumberFormatter {
     public static final int DEFAULT_MAGNITUDE = 5;
     public static final int MIN_PRECISION = 1;
     public static final int MAX_PRECISION = 15;
+    // numbers with fewer bits are converted to all digits by BigInteger#toString(int)
+    private static final int DIVIDE_AND_CONQUER_THRESHOLD = 2048;
 
     private final Real.NumberFormat numberFormat = new Real.NumberFormat();
     private final Real real = new Real();
@@ -27,6 +37,12 @@ public class NumberFormatter {
     private int simpleFormatMagnitude = DEFAULT_MAGNITUDE;
     private int precision = MAX_PRECISION;
     private char groupingSeparator;
+    // significant digits of the number being formatted directly, see formatSimple(double)
+    @Nonnull
+    private final byte[] digits = new byte[32];
+    // output of the direct formatting: sign, up to 19 integer digits with separators, point and 15 fractional digits
+    @Nonnull
+    private final char[] chars = new char[64];
 
     public void useScientificFormat(int simpleFormatMagnitude) {
         this.format = FSE_SCI;
@@ -72,6 +88,12 @@ public class NumberFormatter {
         final boolean simpleFormat = useSimpleFormat(radix, absValue);
 
         int precision = getPrecision();
+        if (simpleFormat && radix == 10 && !Double.isNaN(value) && !Double.isInfinite(value)) {
+            final String result = formatSimple(value, Math.max(1, precision));
+            if (result != null) {
+                return result;
+            }
+        }
         if (simpleFormat) {
             precision += 1;
             final int newScale = Math.max(1, (int) (precision * Math.max(1, radix / 10f)) - 1);
@@ -105,8 +127,11 @@ public class NumberFormatter {
     @Nonnull
     public CharSequence format(@Nonnull BigInteger value, int radix) {
         checkRadix(radix);
+        final boolean simpleFormat = useSimpleFormat(radix, value);
+        if (simpleFormat && radix == 10 && value.signum() != 0 && value.bitLength() < Long.SIZE - 1) {
+            return formatSimple(value.longValue());
+        }
         final BigInteger absValue = value.abs();
-        final boolean simpleFormat = useSimpleFormat(radix, absValue);
 
         if (simpleFormat) {
             numberFormat.fse = FSE_FIX;
@@ -128,6 +153,79 @@ public class NumberFormatter {
         return prepare(value);
     }
 
+    /**
+     * Formats all the digits of <var>value</var> (in contrast to {@link #format(BigInteger, int)} which prints only
+     * the leading digits of big numbers). Digits are grouped if a grouping separator is set, other settings are
+     * ignored.
+     */
+    @Nonnull
+    public CharSequence formatAllDigits(@Nonnull BigInteger value, int radix) {
+        checkRadix(radix);
+        final String digits = toDigits(value.abs(), radix);
+        final int length = digits.length();
+        final int groupSize = groupingSeparator == NO_GROUPING ? 0 : radix == 10 ? 3 : radix == 16 ? 2 : 4;
+        final StringBuilder result = new StringBuilder(length + (groupSize == 0 ? 0 : length / groupSize) + 1);
+        if (value.signum() < 0) {
+            result.append('-');
+        }
+        for (int i = 0; i < length; i++) {
+            if (groupSize > 0 && i > 0 && (length - i) % groupSize == 0) {
+                result.append(groupingSeparator);
+            }
+            result.append(Character.toUpperCase(digits.charAt(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Converts non-negative <var>value</var> to the digits of <var>radix</var> by divide and conquer: the value is
+     * split by radix^(2^k) into two halves of about the same size which are converted recursively. Thus the conversion
+     * costs about as much as a few divisions of the value while BigInteger#toString(int) might be quadratic in the
+     * number of digits.
+     */
+    @Nonnull
+    static String toDigits(@Nonnull BigInteger value, int radix) {
+        if (value.bitLength() <= DIVIDE_AND_CONQUER_THRESHOLD) {
+            return value.toString(radix);
+        }
+        // powers.get(k) = radix^(2^k)
+        final List<BigInteger> powers = new ArrayList<BigInteger>();
+        BigInteger power = BigInteger.valueOf(radix);
+        while (power.bitLength() <= value.bitLength()) {
+            powers.add(power);
+            power = power.multiply(power);
+        }
+        final StringBuilder result = new StringBuilder();
+        // value < radix^(2^(powers.size()))
+        toDigits(value, radix, powers, powers.size() - 1, false, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the digits of <var>value</var> (which is less than radix^(2^(level + 1))) to <var>result</var>, padded
+     * with leading zeros to 2^(level + 1) digits if <var>pad</var> is set
+     */
+    private static void toDigits(@Nonnull BigInteger value, int radix, @Nonnull List<BigInteger> powers, int level,
+                                 boolean pad, @Nonnull StringBuilder result) {
+        if (level < 0 || value.bitLength() <= DIVIDE_AND_CONQUER_THRESHOLD) {
+            final String digits = value.toString(radix);
+            if (pad) {
+                for (int i = digits.length(); i < 1 << (level + 1); i++) {
+                    result.append('0');
+                }
+            }
+            result.append(digits);
+            return;
+        }
+        final BigInteger[] qr = value.divideAndRemainder(powers.get(level));
+        if (pad || qr[0].signum() != 0) {
+            toDigits(qr[0], radix, powers, level - 1, pad, result);
+            toDigits(qr[1], radix, powers, level - 1, true, result);
+        } else {
+            toDigits(qr[1], radix, powers, level - 1, false, result);
+        }
+    }
+
     private void checkRadix(int radix) {
         if (radix != 2 && radix != 8 && radix != 10 && radix != 16) {
             throw new IllegalArgumentException("Unsupported radix: " + radix);
@@ -149,19 +247,138 @@ public class NumberFormatter {
         return false;
     }
 
-    private boolean useSimpleFormat(int radix, @Nonnull BigInteger absValue) {
+    private boolean useSimpleFormat(int radix, @Nonnull BigInteger value) {
         if (radix != 10) {
             return true;
         }
         if (format == FSE_NONE) {
             return true;
         }
-        if (absValue.compareTo(BigInteger.valueOf((long) pow(10, simpleFormatMagnitude))) < 0) {
+        if (value.abs().compareTo(BigInteger.valueOf((long) pow(10, simpleFormatMagnitude))) < 0) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Formats <var>value</var> rounded to <var>scale</var> fractional digits (half up, as {@link BigDecimal} does)
+     * in the simple format of radix 10. The digits are taken from {@link Double#toString(double)}, i.e. from the
+     * shortest decimal representation of the value, and are not converted back to double.
+     *
+     * @return formatted value or null if the rounded value is printed in exponential notation or has more than 15
+     * significant digits. Such values are formatted by {@link Real} as its digits are not exact there
+     */
+    @Nullable
+    private String formatSimple(double value, int scale) {
+        final String s = Double.toString(value);
+        final int length = s.length();
+        final boolean negative = s.charAt(0) == '-';
+        // value = 0.d[0]d[1]...d[n-1] * 10^point
+        int n = 0;
+        int point = 0;
+        boolean fraction = false;
+        int i = negative ? 1 : 0;
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c == '.') {
+                fraction = true;
+            } else if (c == 'E') {
+                point += parseExponent(s, i + 1);
+                break;
+            } else if (n > 0 || c != '0') {
+                digits[n++] = (byte) (c - '0');
+                if (!fraction) {
+                    point++;
+                }
+            } else if (fraction) {
+                // leading zero after the point
+                point--;
+            }
+        }
+
+        final int cut = point + scale;
+        if (cut < n) {
+            final boolean roundUp = cut >= 0 && digits[cut] >= 5;
+            n = Math.max(0, cut);
+            if (roundUp) {
+                while (n > 0 && digits[n - 1] == 9) {
+                    n--;
+                }
+                if (n == 0) {
+                    digits[n++] = 1;
+                    point++;
+                } else {
+                    digits[n - 1]++;
+                }
+            }
+        }
+        while (n > 0 && digits[n - 1] == 0) {
+            n--;
+        }
+        if (n == 0) {
+            return "0";
+        }
+        if (n > MAX_PRECISION || point > 16) {
+            return null;
+        }
+
+        int pos = 0;
+        if (negative) {
+            chars[pos++] = '-';
+        }
+        if (point <= 0) {
+            chars[pos++] = '0';
+        } else {
+            for (int j = 0; j < point; j++) {
+                chars[pos++] = (char) ('0' + (j < n ? digits[j] : 0));
+                pos = appendGroupingSeparator(pos, point - j - 1);
+            }
+        }
+        if (n > point) {
+            chars[pos++] = '.';
+            for (int j = point; j < n; j++) {
+                chars[pos++] = (char) ('0' + (j < 0 ? 0 : digits[j]));
+            }
+        }
+        return new String(chars, 0, pos);
+    }
+
+    private static int parseExponent(@Nonnull String s, int start) {
+        final boolean negative = s.charAt(start) == '-';
+        int result = 0;
+        for (int i = negative ? start + 1 : start; i < s.length(); i++) {
+            result = 10 * result + s.charAt(i) - '0';
+        }
+        return negative ? -result : result;
+    }
+
+    @Nonnull
+    private String formatSimple(long value) {
+        // digits are written from the end of the buffer
+        int pos = chars.length;
+        long abs = Math.abs(value);
+        int integerDigits = 0;
+        do {
+            if (integerDigits > 0 && integerDigits % 3 == 0 && groupingSeparator != NO_GROUPING) {
+                chars[--pos] = groupingSeparator;
+            }
+            chars[--pos] = (char) ('0' + abs % 10);
+            abs /= 10;
+            integerDigits++;
+        } while (abs != 0);
+        if (value < 0) {
+            chars[--pos] = '-';
+        }
+        return new String(chars, pos, chars.length - pos);
+    }
+
+    private int appendGroupingSeparator(int pos, int integerDigitsLeft) {
+        if (integerDigitsLeft > 0 && integerDigitsLeft % 3 == 0 && groupingSeparator != NO_GROUPING) {
+            chars[pos++] = groupingSeparator;
+        }
+        return pos;
+    }
+
     @Nonnull
     private CharSequence prepare(double value) {
         return stripZeros(realFormat(value)).replace('e', 'E');
@@ -180,10 +397,39 @@ public class NumberFormatter {
 
     @Nonnull
     private String realFormat(@Nonnull  BigInteger value) {
-        real.assign(value.toString());
+        if (value.bitLength() < Long.SIZE) {
+            real.assign(value.longValue());
+        } else {
+            assign(real, value);
+        }
         return real.toString(numberFormat);
     }
 
+    /**
+     * Assigns <var>value</var> to <var>real</var> without converting it to a string (which is quadratic in the number
+     * of digits): the mantissa are the highest 63 bits of the value rounded half up and the exponent is derived from
+     * the bit length of the value
+     */
+    static void assign(@Nonnull Real real, @Nonnull BigInteger value) {
+        final int shift = value.bitLength() - (Long.SIZE - 1);
+        final BigInteger abs = value.abs();
+        long mantissa = abs.shiftRight(shift).longValue();
+        if (abs.testBit(shift - 1)) {
+            mantissa++;
+        }
+        long exponent = 0x4000003EL + shift;
+        if (mantissa < 0) {
+            // rounding has carried into the sign bit
+            mantissa = 0x4000000000000000L;
+            exponent++;
+        }
+        if (exponent > Integer.MAX_VALUE) {
+            real.makeInfinity(value.signum() < 0 ? 1 : 0);
+        } else {
+            real.assign(value.signum() < 0 ? 1 : 0, (int) exponent, mantissa);
+        }
+    }
+
     @Nonnull
     private String stripZeros(@Nonnull String s) {
         int dot = -1;
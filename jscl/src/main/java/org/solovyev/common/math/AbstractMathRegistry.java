@@ -23,18 +23,27 @@
 package org.solovyev.common.math;
 
 import org.solovyev.common.collections.SortedList;
+import org.solovyev.common.text.PrefixTrie;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * User: serso
  * Date: 9/29/11
  * Time: 4:57 PM
+ * <p/>
+ * Registry of math entities. All modifications are done under the lock and end with publishing of a new immutable
+ * {@link Snapshot} of the registry which is used by all the read operations, i.e. reads are lock-free and name/id
+ * lookups take constant time.
  */
 public abstract class AbstractMathRegistry<T extends MathEntity> implements MathRegistry<T> {
 
@@ -47,10 +56,9 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
     protected final SortedList<T> entities = SortedList.newInstance(new ArrayList<T>(30), MATH_ENTITY_COMPARATOR);
     @GuardedBy("this")
     @Nonnull
-    protected final List<String> entityNames = new ArrayList<>();
-    @GuardedBy("this")
-    @Nonnull
     protected final SortedList<T> systemEntities = SortedList.newInstance(new ArrayList<T>(30), MATH_ENTITY_COMPARATOR);
+    @Nonnull
+    private volatile Snapshot<T> snapshot = new Snapshot<T>(Collections.<T>emptyList(), Collections.<T>emptyList(), 0);
 
     protected AbstractMathRegistry() {
     }
@@ -74,22 +82,14 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
         return null;
     }
 
-    private static boolean areEqual(@Nullable Object l, @Nullable Object r) {
-        return l != null ? l.equals(r) : r == null;
-    }
-
     @Nonnull
     public List<T> getEntities() {
-        synchronized (this) {
-            return java.util.Collections.unmodifiableList(new ArrayList<T>(entities));
-        }
+        return snapshot.entities;
     }
 
     @Nonnull
     public List<T> getSystemEntities() {
-        synchronized (this) {
-            return java.util.Collections.unmodifiableList(new ArrayList<T>(systemEntities));
-        }
+        return snapshot.systemEntities;
     }
 
     protected void add(@Nonnull T entity) {
@@ -104,8 +104,8 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
 
             if (!contains(entity.getName(), this.entities)) {
                 addEntity(entity, this.entities);
-                this.entityNames.clear();
             }
+            publish();
         }
     }
 
@@ -116,21 +116,34 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
         list.add(entity);
     }
 
+    /**
+     * Publishes the current state of the registry to the readers, must be called after each modification
+     */
+    private void publish() {
+        assert Thread.holdsLock(this);
+
+        snapshot = new Snapshot<T>(entities, systemEntities, snapshot.version + 1);
+    }
+
+    public long getVersion() {
+        return snapshot.version;
+    }
+
     public T addOrUpdate(@Nonnull T entity) {
         synchronized (this) {
             final T existingEntity = entity.isIdDefined() ? getById(entity.getId()) : get(entity.getName());
             if (existingEntity == null) {
                 addEntity(entity, entities);
-                entityNames.clear();
                 if (entity.isSystem()) {
                     systemEntities.add(entity);
                 }
+                publish();
                 return entity;
             } else {
                 existingEntity.copy(entity);
                 this.entities.sort();
-                this.entityNames.clear();
                 this.systemEntities.sort();
+                publish();
                 return existingEntity;
             }
         }
@@ -141,7 +154,7 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
             if (!entity.isSystem()) {
                 final T removed = removeByName(entities, entity.getName());
                 if (removed != null) {
-                    this.entityNames.clear();
+                    publish();
                 }
             }
         }
@@ -149,53 +162,75 @@ public abstract class AbstractMathRegistry<T extends MathEntity> implements Math
 
     @Nonnull
     public List<String> getNames() {
-        synchronized (this) {
-            if (entityNames.isEmpty()) {
-                for (T entity : entities) {
-                    entityNames.add(entity.getName());
-                }
-            }
-            return entityNames;
-        }
+        return snapshot.names;
     }
 
     @Nullable
-    public T get(@Nonnull final String name) {
-        synchronized (this) {
-            return get(name, entities);
-        }
+    public String findName(@Nonnull String text, int position) {
+        return snapshot.trie.findLongest(text, position);
     }
 
     @Nullable
-    private T get(@Nonnull String name, @Nonnull List<T> list) {
-        for (int i = 0; i < list.size(); i++) {
-            final T entity = list.get(i);
-            if (areEqual(entity.getName(), name)) {
-                return entity;
-            }
-        }
-        return null;
+    public T get(@Nonnull final String name) {
+        return snapshot.byName.get(name);
     }
 
     public T getById(@Nonnull final Integer id) {
-        synchronized (this) {
-            for (T entity : entities) {
-                if (areEqual(entity.getId(), id)) {
-                    return entity;
-                }
-            }
-            return null;
-        }
+        return snapshot.byId.get(id);
     }
 
     public boolean contains(@Nonnull final String name) {
-        synchronized (this) {
-            return contains(name, this.entities);
-        }
+        return snapshot.byName.containsKey(name);
     }
 
     private boolean contains(final String name, @Nonnull List<T> entities) {
-        return get(name, entities) != null;
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i).getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Immutable
+    private static final class Snapshot<T extends MathEntity> {
+        @Nonnull
+        final List<T> entities;
+        @Nonnull
+        final List<T> systemEntities;
+        @Nonnull
+        final List<String> names;
+        @Nonnull
+        final Map<String, T> byName;
+        @Nonnull
+        final Map<Integer, T> byId;
+        @Nonnull
+        final PrefixTrie trie;
+        final long version;
+
+        Snapshot(@Nonnull List<T> entities, @Nonnull List<T> systemEntities, long version) {
+            this.entities = Collections.unmodifiableList(new ArrayList<T>(entities));
+            this.systemEntities = Collections.unmodifiableList(new ArrayList<T>(systemEntities));
+            final List<String> names = new ArrayList<String>(entities.size());
+            final Map<String, T> byName = new HashMap<String, T>(2 * entities.size());
+            final Map<Integer, T> byId = new HashMap<Integer, T>(2 * entities.size());
+            for (T entity : entities) {
+                final String name = entity.getName();
+                names.add(name);
+                // entities are sorted: in case of duplicates the first one wins (as in linear search)
+                if (!byName.containsKey(name)) {
+                    byName.put(name, entity);
+                }
+                if (entity.isIdDefined() && !byId.containsKey(entity.getId())) {
+                    byId.put(entity.getId(), entity);
+                }
+            }
+            this.names = Collections.unmodifiableList(names);
+            this.byName = byName;
+            this.byId = byId;
+            this.trie = PrefixTrie.create(names);
+            this.version = version;
+        }
     }
 
     static class MathEntityComparator<T extends MathEntity> implements Comparator<T> {
@@ -43,9 +43,23 @@ public interface MathRegistry<T extends MathEntity> {
 
     boolean contains(@Nonnull final String name);
 
+    /**
+     * @param text     text to be searched in
+     * @param position position in the text where the name should start
+     * @return the longest name of the entity registered in this registry which occurs in <var>text</var> at
+     * <var>position</var>, null if there is no such entity
+     */
+    @Nullable
+    String findName(@Nonnull String text, int position);
+
     @Nullable
     T get(@Nonnull String name);
 
     @Nullable
     T getById(@Nonnull Integer id);
+
+    /**
+     * @return version of the registry which is changed on each modification
+     */
+    long getVersion();
 }
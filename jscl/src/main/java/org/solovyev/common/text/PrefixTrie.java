@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013 serso aka se.solovyev
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * ---------------------------------------------------------------------
+ * Contact details
+ *
+ * Email: se.solovyev@gmail.com
+ * Site:  http://se.solovyev.org
+ */
+
+
+package org.solovyev.common.text;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable prefix tree over a set of words. Allows to find the longest word which starts at a given position of a
+ * text in time proportional to the length of the match (and not to the number of words).
+ */
+@Immutable
+public final class PrefixTrie {
+
+    @Nonnull
+    public static final PrefixTrie EMPTY = new PrefixTrie(new Node());
+
+    @Nonnull
+    private final Node root;
+
+    private PrefixTrie(@Nonnull Node root) {
+        this.root = root;
+    }
+
+    @Nonnull
+    public static PrefixTrie create(@Nonnull Collection<String> words) {
+        if (words.isEmpty()) {
+            return EMPTY;
+        }
+        final Node root = new Node();
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.getOrAddChild(word.charAt(i));
+            }
+            if (node.word == null) {
+                node.word = word;
+            }
+        }
+        return new PrefixTrie(root);
+    }
+
+    /**
+     * @param text     text to be searched in
+     * @param position position in the text where the word should start
+     * @return the longest word of this trie which occurs in <var>text</var> at <var>position</var>, null if there is
+     * no such word
+     */
+    @Nullable
+    public String findLongest(@Nonnull CharSequence text, int position) {
+        String result = null;
+        Node node = root;
+        for (int i = position; i < text.length(); i++) {
+            node = node.getChild(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.word != null) {
+                result = node.word;
+            }
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    private static final class Node {
+
+        @Nonnull
+        private static final char[] NO_KEYS = new char[0];
+        @Nonnull
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // sorted keys, binary search is used for lookup
+        @Nonnull
+        private char[] keys = NO_KEYS;
+        @Nonnull
+        private Node[] children = NO_CHILDREN;
+        private int size;
+        @Nullable
+        private String word;
+
+        @Nullable
+        Node getChild(char key) {
+            final int i = Arrays.binarySearch(keys, 0, size, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        @Nonnull
+        Node getOrAddChild(char key) {
+            int i = Arrays.binarySearch(keys, 0, size, key);
+            if (i >= 0) {
+                return children[i];
+            }
+            i = -(i + 1);
+            if (size == keys.length) {
+                final int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, i, keys, i + 1, size - i);
+            System.arraycopy(children, i, children, i + 1, size - i);
+            final Node child = new Node();
+            keys[i] = key;
+            children[i] = child;
+            size++;
+            return child;
+        }
+    }
+}
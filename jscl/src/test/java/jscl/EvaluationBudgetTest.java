@@ -0,0 +1,136 @@
+package jscl;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import jscl.math.polynomial.Basis;
+import jscl.math.polynomial.Monomial;
+import jscl.text.ParseInterruptedException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EvaluationBudgetTest {
+
+    @Test
+    public void testShouldLimitOperations() throws Exception {
+        final JsclMathEngine me = new JsclMathEngine();
+        me.setBudget(EvaluationBudget.UNLIMITED.withMaxOperations(100));
+        try {
+            me.evaluate("(a+b+c+d+1)^30");
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.EXPAND, e.getStage());
+            assertEquals(EvaluationBudget.Limit.operations, e.getLimit());
+        }
+        // the budget is started anew for every evaluation
+        assertEquals("4", me.evaluate("2+2"));
+    }
+
+    @Test
+    public void testShouldLimitTerms() throws Exception {
+        final JsclMathEngine me = new JsclMathEngine();
+        me.setBudget(EvaluationBudget.UNLIMITED.withMaxTerms(1000));
+        try {
+            me.simplify("(a+b+c+d+1)^30");
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.EXPAND, e.getStage());
+            assertEquals(EvaluationBudget.Limit.terms, e.getLimit());
+        }
+        me.setBudget(EvaluationBudget.UNLIMITED);
+        assertEquals(46376, ((Expression) me.simplifyGeneric("(a+b+c+d+1)^30")).size());
+    }
+
+    @Test
+    public void testShouldLimitTime() throws Exception {
+        final EvaluationBudget.Meter meter = EvaluationBudget.UNLIMITED.withTimeout(50).start();
+        final long start = System.currentTimeMillis();
+        try {
+            // trial division up to 10^9
+            Expression.valueOf("1000000007*1000000009").factorize();
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.FACTORIZE, e.getStage());
+            assertEquals(EvaluationBudget.Limit.time, e.getLimit());
+        } finally {
+            EvaluationBudget.stop(meter);
+        }
+        assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+
+    @Test
+    public void testShouldLimitTimeOfParallelSum() throws Exception {
+        final JsclMathEngine me = new JsclMathEngine();
+        me.setBudget(EvaluationBudget.UNLIMITED.withTimeout(100));
+        final long start = System.currentTimeMillis();
+        try {
+            me.evaluate("Σ(sin(i), i, 1, 2147483647)");
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.SUM, e.getStage());
+            assertEquals(EvaluationBudget.Limit.time, e.getLimit());
+        }
+        assertTrue(System.currentTimeMillis() - start < 5000);
+    }
+
+    @Test
+    public void testShouldLimitGroebnerBasis() throws Exception {
+        final Generic[] generic = {Expression.valueOf("x^2+y^2+z^2-1"), Expression.valueOf("x^2-y+z^2"),
+                Expression.valueOf("x-z")};
+        final Variable[] unknown = {Expression.valueOf("x").variableValue(), Expression.valueOf("y").variableValue(),
+                Expression.valueOf("z").variableValue()};
+        final EvaluationBudget.Meter meter = EvaluationBudget.UNLIMITED.withMaxOperations(3).start();
+        try {
+            Basis.compute(generic, unknown, Monomial.lexicographic);
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.REDUCE, e.getStage());
+        } finally {
+            EvaluationBudget.stop(meter);
+        }
+        assertEquals(3, Basis.compute(generic, unknown, Monomial.lexicographic).elements().length);
+    }
+
+    @Test
+    public void testShouldShareBudgetOfOuterEvaluation() throws Exception {
+        final EvaluationBudget.Meter outer = EvaluationBudget.UNLIMITED.withMaxOperations(10).start();
+        assertNull(outer);
+        try {
+            final EvaluationBudget.Meter inner = EvaluationBudget.UNLIMITED.start();
+            assertTrue(inner != null);
+            EvaluationBudget.stop(inner);
+            for (int i = 0; i < 10; i++) {
+                EvaluationBudget.check("test");
+            }
+            try {
+                EvaluationBudget.check("test");
+                fail();
+            } catch (EvaluationBudgetExceededException e) {
+                assertEquals("test", e.getStage());
+            }
+        } finally {
+            EvaluationBudget.stop(outer);
+        }
+        // no budget is running
+        for (int i = 0; i < 100; i++) {
+            EvaluationBudget.check("test");
+        }
+    }
+
+    @Test
+    public void testShouldAbortInterruptedEvaluation() throws Exception {
+        Thread.currentThread().interrupt();
+        try {
+            EvaluationBudget.check("test");
+            fail();
+        } catch (ParseInterruptedException e) {
+            // ok
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package jscl;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import jscl.math.polynomial.Basis;
+import jscl.math.polynomial.Monomial;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentationTest {
+
+    @Before
+    public void setUp() throws Exception {
+        Instrumentation.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Instrumentation.setEnabled(false);
+        Instrumentation.setListener(null);
+        Instrumentation.reset();
+    }
+
+    @Test
+    public void testShouldCountGroebnerBasisComputation() throws Exception {
+        final Map<Instrumentation.Counter, Long> events = new EnumMap<Instrumentation.Counter, Long>(Instrumentation.Counter.class);
+        Instrumentation.setListener(new Instrumentation.Listener() {
+            @Override
+            public synchronized void onCount(@Nonnull Instrumentation.Counter counter, long value) {
+                final Long count = events.get(counter);
+                events.put(counter, count == null ? 1 : count + 1);
+            }
+
+            @Override
+            public void onTime(@Nonnull Instrumentation.Timer timer, long nanos) {
+            }
+        });
+
+        computeBasis();
+        assertEquals(0, Instrumentation.snapshot().getCount(Instrumentation.Counter.groebner_pairs));
+        assertTrue(events.isEmpty());
+
+        Instrumentation.setEnabled(true);
+        computeBasis();
+        final Instrumentation.Snapshot snapshot = Instrumentation.snapshot();
+        assertTrue(snapshot.getCount(Instrumentation.Counter.groebner_pairs) > 0);
+        assertTrue(snapshot.getCount(Instrumentation.Counter.groebner_polynomials) >= 3);
+        assertTrue(snapshot.getMax(Instrumentation.Counter.groebner_polynomials) >= 3);
+        assertEquals(3, snapshot.getCount(Instrumentation.Counter.groebner_reductions));
+        assertTrue(snapshot.getTotal(Instrumentation.Counter.groebner_reductions) >= 3);
+        assertEquals(1, snapshot.getCount(Instrumentation.Timer.groebner));
+        assertEquals(snapshot.getCount(Instrumentation.Counter.groebner_pairs), (long) events.get(Instrumentation.Counter.groebner_pairs));
+
+        Instrumentation.reset();
+        assertEquals(0, Instrumentation.snapshot().getCount(Instrumentation.Counter.groebner_pairs));
+    }
+
+    @Test
+    public void testShouldTimeEvaluation() throws Exception {
+        Instrumentation.setEnabled(true);
+        final JsclMathEngine me = new JsclMathEngine();
+        me.simplify("instrumentation_x^2+2*instrumentation_x+1");
+        final Instrumentation.Snapshot snapshot = Instrumentation.snapshot();
+        assertEquals(1, snapshot.getCount(Instrumentation.Timer.parse));
+        assertEquals(1, snapshot.getCount(Instrumentation.Timer.expand));
+        assertEquals(1, snapshot.getCount(Instrumentation.Timer.simplify));
+        assertTrue(snapshot.getTotalNanos(Instrumentation.Timer.simplify) > 0);
+        assertTrue(snapshot.getCount(Instrumentation.Counter.simplifications) > 0);
+    }
+
+    private static void computeBasis() throws Exception {
+        final Generic[] generic = {Expression.valueOf("x^2+y^2+z^2-1"), Expression.valueOf("x^2-y+z^2"),
+                Expression.valueOf("x-z")};
+        final Variable[] unknown = {Expression.valueOf("x").variableValue(), Expression.valueOf("y").variableValue(),
+                Expression.valueOf("z").variableValue()};
+        Basis.compute(generic, unknown, Monomial.lexicographic);
+    }
+}
@@ -3,10 +3,18 @@ package jscl;
 import org.junit.Before;
 import org.junit.Test;
 import org.solovyev.common.NumberFormatter;
+import org.solovyev.common.math.MathRegistry;
+
+import jscl.math.function.Constant;
+import jscl.math.function.ExtendedConstant;
+import jscl.math.function.IConstant;
 
 import midpcalc.Real;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * User: serso
@@ -209,4 +217,113 @@ public class JsclMathEngineTest {
         assertEquals("111.11123E3", me.format(111111.23d));
         assertEquals("111.1112E3", me.format(111111.2d));
     }
+
+    @Test
+    public void testShouldCacheExpressions() throws Exception {
+        final ExpressionCache cache = me.getCache();
+        assertEquals("3", me.evaluate("1+2"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertEquals("3", me.evaluate("1+2"));
+        assertEquals("3", me.simplify("1+2"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertEquals("7", me.evaluate("3+4"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testShouldInvalidateCacheOnRegistryChange() throws Exception {
+        final MathRegistry<IConstant> constants = JsclMathEngine.getInstance().getConstantsRegistry();
+        try {
+            constants.addOrUpdate(new ExtendedConstant.Builder(new Constant("cache_c"), 2d).create());
+            assertEquals("4", me.evaluate("2*cache_c"));
+            assertEquals("4", me.evaluate("2*cache_c"));
+            assertEquals(1, me.getCache().getHitCount());
+
+            constants.addOrUpdate(new ExtendedConstant.Builder(new Constant("cache_c"), 3d).create());
+            assertEquals("6", me.evaluate("2*cache_c"));
+            assertEquals(1, me.getCache().getHitCount());
+            assertEquals(2, me.getCache().getMissCount());
+        } finally {
+            constants.addOrUpdate(new ExtendedConstant.Builder(new Constant("cache_c"), (String) null).create());
+        }
+    }
+
+    @Test
+    public void testShouldEvaluateWithThreadContext() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        final EvaluationContext hex = me.getContext().withNumeralBase(NumeralBase.hex);
+        assertEquals("B", me.evaluate("A+1", hex));
+        assertEquals(NumeralBase.dec, me.getNumeralBase());
+        assertEquals("11", me.evaluate("10+1"));
+    }
+
+    @Test
+    public void testShouldEvaluateConcurrentlyWithDifferentContexts() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        final EvaluationContext deg = me.getContext().withAngleUnits(AngleUnit.deg);
+        final EvaluationContext rad = me.getContext().withAngleUnits(AngleUnit.rad);
+        final String[] errors = new String[2];
+        final Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+            final int thread = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int j = 0; j < 500; j++) {
+                            final String expected = thread == 0 ? "0.5" : "-0.988031624092862";
+                            final String actual = me.evaluate("sin(30)", thread == 0 ? deg : rad);
+                            if (!expected.equals(actual)) {
+                                errors[thread] = actual;
+                                return;
+                            }
+                        }
+                    } catch (Exception e) {
+                        errors[thread] = e.toString();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(errors[0]);
+        assertNull(errors[1]);
+    }
+
+    @Test
+    public void testShouldFormatConstants() throws Exception {
+        assertEquals("π", me.format(Math.PI));
+        assertEquals("e", me.format(Math.E));
+        assertEquals("c", me.format(299792458d));
+        assertEquals("3.14", me.format(3.14d));
+
+        // index of the constants is rebuilt once the registry changes
+        me.getConstantsRegistry().addOrUpdate(new ExtendedConstant.Builder(new Constant("c"), 42d).create());
+        assertEquals("c", me.format(42d));
+        assertEquals("299792458", me.format(299792458d));
+    }
+
+    @Test
+    public void testShouldEvictLeastRecentlyUsedExpressions() throws Exception {
+        final ExpressionCache cache = new ExpressionCache(2);
+        final NumeralBase nb = NumeralBase.dec;
+        final AngleUnit au = AngleUnit.rad;
+        final ExpressionCache.Entry first = cache.get("1", nb, au, 0);
+        cache.get("2", nb, au, 0);
+        assertSame(first, cache.get("1", nb, au, 0));
+        cache.get("3", nb, au, 0);
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("1", nb, au, 0));
+        assertNotSame(first, cache.get("1", nb, AngleUnit.deg, 0));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
 }
@@ -0,0 +1,110 @@
+package jscl.compile;
+
+import jscl.AngleUnit;
+import jscl.JsclMathEngine;
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.NumericWrapper;
+import jscl.math.function.Constant;
+import jscl.math.numeric.Real;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExpressionCompilerTest {
+
+    private static final String[] EXPRESSIONS = {
+            "x",
+            "2*x+1",
+            "x^3-2*x^2+x/3-7",
+            "(x+1)^5",
+            "sin(x)^2+cos(x)",
+            "tan(x)*cot(x/2)",
+            "asin(x/10)+acos(x/11)+atan(x)+acot(x)",
+            "sinh(x/3)-cosh(x/4)+tanh(x)",
+            "ln(abs(x)+1)+lg(x^2+1)+exp(x/5)",
+            "√(x^2+1)+cubic(x)",
+            "x^π+x^0.5",
+            "1/(x^2+1)",
+            "π*x+e",
+            "sgn(x)*abs(x)",
+            "3!*x+2^10"
+    };
+
+    private static final double[] VALUES = {0.1, 0.5, 1.3, 2, 3.7, 7.25};
+
+    private JsclMathEngine me;
+    private AngleUnit angleUnits;
+
+    @Before
+    public void setUp() throws Exception {
+        me = JsclMathEngine.getInstance();
+        angleUnits = me.getAngleUnits();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        me.setAngleUnits(angleUnits);
+    }
+
+    @Test
+    public void testShouldEvaluateAsNumeric() throws Exception {
+        for (AngleUnit au : AngleUnit.values()) {
+            me.setAngleUnits(au);
+            for (String expression : EXPRESSIONS) {
+                assertSameAsNumeric(expression);
+            }
+        }
+    }
+
+    @Test
+    public void testTwoVariables() throws Exception {
+        final Constant x = new Constant("x");
+        final Constant y = new Constant("y");
+        final CompiledExpression compiled = ExpressionCompiler.compile(Expression.valueOf("x^2*y+sin(x*y)-y/x"), AngleUnit.rad, x, y);
+        assertEquals(2, compiled.getArity());
+        assertEquals(4 * 3 + Math.sin(6) - 3d / 2, compiled.evaluate(2, 3), 1e-12);
+        assertEquals(compiled.evaluate(2, 3), compiled.evaluate(new double[]{2, 3}), 0);
+    }
+
+    @Test
+    public void testConstantExpression() throws Exception {
+        final CompiledExpression compiled = ExpressionCompiler.compile(Expression.valueOf("2+2*π"));
+        assertTrue(compiled.isConstant());
+        assertEquals(2 + 2 * Math.PI, compiled.evaluate(), 0);
+    }
+
+    @Test
+    public void testShouldReturnNaNForComplexResults() throws Exception {
+        final CompiledExpression compiled = ExpressionCompiler.compile(Expression.valueOf("√(x)+ln(x)"), new Constant("x"));
+        assertTrue(Double.isNaN(compiled.evaluate(-1)));
+    }
+
+    @Test
+    public void testShouldNotCompileUnboundVariables() throws Exception {
+        try {
+            ExpressionCompiler.compile(Expression.valueOf("x+y"), new Constant("x"));
+            fail();
+        } catch (NotCompilableException e) {
+            // ok
+        }
+    }
+
+    private void assertSameAsNumeric(@Nonnull String expression) throws Exception {
+        final Constant x = new Constant("x");
+        final Generic generic = Expression.valueOf(expression);
+        final CompiledExpression compiled = ExpressionCompiler.compile(generic, x);
+        for (double value : VALUES) {
+            final Generic numeric = generic.substitute(x, Expression.valueOf(value)).expand().numeric();
+            final double expected = ((Real) ((NumericWrapper) numeric).content()).doubleValue();
+            final double actual = compiled.evaluate(value);
+            assertEquals(expression + ", x=" + value + ", " + me.getAngleUnits(), expected, actual, Math.abs(expected) * 1e-12 + 1e-12);
+        }
+    }
+}
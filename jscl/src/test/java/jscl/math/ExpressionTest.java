@@ -9,6 +9,9 @@ import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -21,10 +24,15 @@ import jscl.NumeralBase;
 import jscl.math.function.Constant;
 import jscl.math.function.ExtendedConstant;
 import jscl.math.function.IConstant;
+import jscl.math.numeric.Complex;
 import jscl.text.ParseException;
 import midpcalc.Real;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -747,6 +755,32 @@ public class ExpressionTest {
         assertEquals("∂(cos(t), t, t, 1°)", Expression.valueOf("∂(cos(t),t,t,1°)").expand().numeric().toString());
     }
 
+    @Test
+    public void testMultiply() throws Exception {
+        assertEquals("a^2-b^2", Expression.valueOf("(a+b)*(a-b)").expand().toString());
+        assertEquals("0", Expression.valueOf("(a+b)^3-(a^3+3*a^2*b+3*a*b^2+b^3)").expand().toString());
+
+        final Expression base = Expression.valueOf("1+x-2*y^2+3*x*z^3").expand().expressionValue();
+        Expression expected = Expression.valueOf(JsclInteger.valueOf(1));
+        for (int i = 1; i <= 7; i++) {
+            expected = multiplyTermByTerm(expected, base);
+            assertEquals(expected, base.pow(i));
+        }
+        final Expression a = Expression.valueOf("a^2+2*a*b+c").expand().expressionValue();
+        final Expression b = Expression.valueOf("a-b+5*c^3+d*a+7").expand().expressionValue();
+        assertEquals(a.multiply(b), b.multiply(a));
+        assertEquals(0, a.multiply(b).subtract(a.multiply(b.subtract(a))).subtract(a.multiply(a)).signum());
+    }
+
+    @Nonnull
+    private static Expression multiplyTermByTerm(@Nonnull Expression a, @Nonnull Expression b) {
+        Expression result = Expression.valueOf(JsclInteger.ZERO);
+        for (int i = 0; i < a.size(); i++) {
+            result = result.multiplyAndAdd(a.literal(i), a.coef(i), b);
+        }
+        return result;
+    }
+
     @Test
     public void testSum() throws Exception {
         assertEquals("3", Expression.valueOf("Σ(n,n,1,2)").expand().toString());
@@ -837,4 +871,80 @@ public class ExpressionTest {
             me.setPrecision(NumberFormatter.MAX_PRECISION);
         }
     }
+
+    @Test
+    public void testHashCode() throws Exception {
+        final String[] expressions = {"x^2+2*x*y+sin(y)", "sqrt(2)*a-1", "∫(sin(x), x)", "root[1](1, 2, 3)",
+                "Σ(i^2, i, 1, n)", "3*a!", "y'"};
+        final Map<Generic, String> map = new HashMap<Generic, String>();
+        for (String expression : expressions) {
+            map.put(Expression.valueOf(expression), expression);
+        }
+        for (String expression : expressions) {
+            final Generic generic = Expression.valueOf(expression);
+            assertEquals(expression, map.get(generic));
+            assertEquals(generic.hashCode(), Expression.valueOf(expression).hashCode());
+        }
+
+        // equal values of different types
+        final JsclInteger two = JsclInteger.valueOf(2);
+        assertTrue(Expression.valueOf(two).equals(two));
+        assertEquals(two.hashCode(), Expression.valueOf(two).hashCode());
+        final Rational half = new Rational(BigInteger.ONE, BigInteger.valueOf(2));
+        assertTrue(Expression.valueOf(half).equals(half));
+        assertEquals(half.hashCode(), Expression.valueOf(half).hashCode());
+        assertEquals(0, Expression.valueOf(JsclInteger.valueOf(0)).hashCode());
+
+        // numeric values are equal to integers but not to expressions
+        final Map<Generic, String> numbers = new HashMap<Generic, String>();
+        numbers.put(two, "2");
+        numbers.put(JsclInteger.valueOf(-7), "-7");
+        numbers.put(new JsclInteger(BigInteger.ONE.shiftLeft(70)), "2^70");
+        numbers.put(JsclInteger.valueOf(0), "0");
+        assertEquals("2", numbers.get(numeric(2)));
+        assertEquals("2", numbers.get(new NumericWrapper(Complex.valueOf(2, 0))));
+        assertEquals("-7", numbers.get(numeric(-7)));
+        assertEquals("2^70", numbers.get(numeric(Math.pow(2, 70))));
+        assertEquals("0", numbers.get(numeric(-0d)));
+        assertNull(numbers.get(numeric(2.5)));
+        final Map<Generic, String> numerics = new HashMap<Generic, String>();
+        numerics.put(numeric(3), "3");
+        assertEquals("3", numerics.get(JsclInteger.valueOf(3)));
+        assertNull(numerics.get(Expression.valueOf("3")));
+        assertFalse(numeric(3).equals(Expression.valueOf("3")));
+        assertFalse(Expression.valueOf("3").equals(numeric(3)));
+    }
+
+    @Test
+    public void testIntern() throws Exception {
+        final Expression a = Expression.valueOf("x^2+sin(y)*z");
+        final Expression b = Expression.valueOf("z*sin(y)+x^2");
+        assertTrue(a != b);
+        final Expression interned = a.intern();
+        assertSame(interned, b.intern());
+        assertSame(interned, interned.intern());
+        assertTrue(interned.equals(b));
+        assertFalse(interned.equals(Expression.valueOf("x^2+sin(y)").intern()));
+
+        // subexpressions are shared
+        final Expression c = Expression.valueOf("sin(y)+1").intern();
+        final Variable sin = findVariable(interned, "sin(y)");
+        assertNotNull(sin);
+        assertSame(sin, findVariable(c, "sin(y)"));
+    }
+
+    @Nonnull
+    private static NumericWrapper numeric(double value) {
+        return new NumericWrapper(jscl.math.numeric.Real.valueOf(value));
+    }
+
+    @Nullable
+    private static Variable findVariable(@Nonnull Generic generic, @Nonnull String name) {
+        for (Variable variable : generic.variables()) {
+            if (variable.toString().equals(name)) {
+                return variable;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,68 @@
+package jscl.math;
+
+import jscl.JsclMathEngine;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FactorialsTest {
+
+    @Test
+    public void testMultifactorial() throws Exception {
+        for (int k = 1; k <= 3; k++) {
+            for (int n = 0; n <= 500; n++) {
+                assertEquals("n = " + n + ", k = " + k, naive(n, k), Factorials.multifactorial(n, k));
+            }
+        }
+        assertEquals(naive(5000, 1), Factorials.factorial(5000));
+        assertEquals(naive(5001, 2), Factorials.multifactorial(5001, 2));
+        assertEquals(naive(5002, 2), Factorials.multifactorial(5002, 2));
+    }
+
+    @Test
+    public void testLog() throws Exception {
+        for (int k = 1; k <= 3; k++) {
+            for (int n = 0; n <= 300; n += 7) {
+                final double expected = Math.log(naive(n, k).doubleValue());
+                if (!Double.isInfinite(expected)) {
+                    assertEquals(expected, Factorials.log(n, k), 1e-13 * Math.max(1, expected));
+                }
+            }
+        }
+        // ln(10^6!) = 12815518.38465...
+        assertEquals(12815518.384658169, Factorials.log(1000000, 1), 1e-6);
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        try {
+            Factorials.factorial(-1);
+            fail();
+        } catch (ArithmeticException e) {
+            // ok
+        }
+    }
+
+    @Test
+    public void testHugeFactorials() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        assertEquals("7.257415615307999E306", me.evaluate("170!"));
+        assertEquals("∞", me.evaluate("171!"));
+        final long start = System.currentTimeMillis();
+        assertEquals("∞", me.evaluate("1000000000!"));
+        assertEquals("∞", me.evaluate("1000000001!!"));
+        assertTrue(System.currentTimeMillis() - start < 1000);
+    }
+
+    private static BigInteger naive(int n, int k) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = n; i > 0; i -= k) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+}
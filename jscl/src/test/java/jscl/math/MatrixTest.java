@@ -0,0 +1,103 @@
+package jscl.math;
+
+import jscl.math.operator.matrix.LinearSolve;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+
+public class MatrixTest {
+
+    @Test
+    public void testDeterminant() throws Exception {
+        Assert.assertEquals("-2", matrix("[[1,2],[3,4]]").determinant().toString());
+        Assert.assertEquals("0", matrix("[[1,2],[2,4]]").determinant().toString());
+        Assert.assertEquals("-1", matrix("[[0,0,1],[0,1,0],[1,0,0]]").determinant().toString());
+        Assert.assertEquals("-2*x+x^3", matrix("[[x,1,0],[1,x,1],[0,1,x]]").determinant().toString());
+        Assert.assertEquals("cos(x)^2+sin(x)^2", matrix("[[sin(x), cos(x)],[-cos(x), sin(x)]]").determinant().toString());
+    }
+
+    @Test
+    public void testDeterminantOfLargeMatrix() throws Exception {
+        // cofactor expansion would take 12! operations
+        final int n = 12;
+        final long[][] elements = luProduct(n);
+        // det = product of the diagonal of U = (1*2*3)^4
+        Assert.assertEquals(JsclInteger.valueOf(1296), matrix(elements).determinant());
+
+        // first column of the second row is 0: elimination must swap the rows back, which negates the determinant
+        Assert.assertEquals(0, elements[1][0]);
+        final long[] row = elements[0];
+        elements[0] = elements[1];
+        elements[1] = row;
+        Assert.assertEquals(JsclInteger.valueOf(-1296), matrix(elements).determinant());
+    }
+
+    @Test
+    public void testInverse() throws Exception {
+        Assert.assertEquals("[[-24, 18, 5],\n[20, -15, -4],\n[-5, 4, 1]]", matrix("[[1,2,3],[0,1,4],[5,6,0]]").inverse().toString());
+        Assert.assertEquals("[[0, 1],\n[1, 0]]", matrix("[[0,1],[1,0]]").inverse().toString());
+        Assert.assertEquals("[[y/(-2+x*y), (-1)/(-2+x*y)],\n[(-2)/(-2+x*y), x/(-2+x*y)]]", matrix("[[x,1],[2,y]]").inverse().toString());
+        final Generic m = matrix("[[2,1,1],[1,3,2],[1,0,0]]");
+        Assert.assertEquals(Matrix.identity(3).toString(), m.multiply(m.inverse()).toString());
+    }
+
+    @Test
+    public void testSolve() throws Exception {
+        final JsclVector b = (JsclVector) Expression.valueOf("[4,5,6]").expand();
+        Assert.assertEquals("[6, 15, -23]", matrix("[[2,1,1],[1,3,2],[1,0,0]]").solve(b).toString());
+        Assert.assertEquals("[6, 15, -23]", new LinearSolve(matrix("[[2,1,1],[1,3,2],[1,0,0]]"), b).expand().toString());
+        Assert.assertEquals("[6, 15, -23]", new LinearSolve(matrix("[[2,1,1],[1,3,2],[1,0,0]]"), b).numeric().toString());
+        try {
+            matrix("[[1,2],[2,4]]").solve((JsclVector) Expression.valueOf("[1,2]").expand());
+            Assert.fail();
+        } catch (ArithmeticException e) {
+            // singular matrix
+        }
+    }
+
+    @Nonnull
+    private static Matrix matrix(@Nonnull String matrix) throws Exception {
+        return (Matrix) Expression.valueOf(matrix).expand();
+    }
+
+    /**
+     * @return L*U where L is unit lower triangular (with L[1][0] = 0) and U is upper triangular with the diagonal
+     * 1, 2, 3, 1, 2, 3, ...
+     */
+    @Nonnull
+    private static long[][] luProduct(int n) {
+        final long[][] l = new long[n][n];
+        final long[][] u = new long[n][n];
+        for (int i = 0; i < n; i++) {
+            l[i][i] = 1;
+            for (int j = 0; j < i; j++) {
+                l[i][j] = (i + 2 * j) % 3 - 1;
+            }
+            u[i][i] = i % 3 + 1;
+            for (int j = i + 1; j < n; j++) {
+                u[i][j] = (i * j) % 5 - 2;
+            }
+        }
+        final long[][] result = new long[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                for (int k = 0; k < n; k++) {
+                    result[i][j] += l[i][k] * u[k][j];
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static Matrix matrix(@Nonnull long[][] elements) {
+        final Generic[][] result = new Generic[elements.length][elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            for (int j = 0; j < elements.length; j++) {
+                result[i][j] = JsclInteger.valueOf(elements[i][j]);
+            }
+        }
+        return new Matrix(result);
+    }
+}
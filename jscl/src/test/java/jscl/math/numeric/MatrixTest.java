@@ -2,6 +2,10 @@ package jscl.math.numeric;
 
 import org.junit.Test;
 
+import javax.annotation.Nonnull;
+
+import static org.junit.Assert.assertEquals;
+
 /**
  * User: serso
  * Date: 1/15/12
@@ -11,6 +15,64 @@ public class MatrixTest {
 
     @Test
     public void testMatrix() throws Exception {
-        //To change body of created methods use File | Settings | File Templates.
+        final Matrix m = matrix(new double[][]{{0, 1, 2}, {1, 0, 3}, {4, -3, 8}});
+        assertEquals(-2d, m.determinant().doubleValue(), 1e-12);
+        assertEquals("{{-4.5, 7, -1.5},\n{-2, 4, -1},\n{1.5, -2, 0.5}}", m.inverse().toString());
+        assertEquals(0d, matrix(new double[][]{{1, 2}, {2, 4}}).determinant().doubleValue(), 0d);
+    }
+
+    @Test
+    public void testSolve() throws Exception {
+        final Matrix m = matrix(new double[][]{{2, 1, 1}, {1, 3, 2}, {1, 0, 0}});
+        final Vector x = m.solve(new Vector(new Numeric[]{Real.valueOf(4), Real.valueOf(5), Real.valueOf(6)}));
+        assertEquals(6d, x.elements()[0].doubleValue(), 1e-12);
+        assertEquals(15d, x.elements()[1].doubleValue(), 1e-12);
+        assertEquals(-23d, x.elements()[2].doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void testMultiply() throws Exception {
+        final Matrix m = matrix(new double[][]{{1, 2}, {3, 5}});
+        assertEquals("{{7, 12},\n{18, 31}}", m.multiply(m).toString());
+        assertEquals("[5, 13]", m.multiply(new Vector(new Numeric[]{Real.ONE, Real.TWO})).toString());
+
+        // complex elements: boxed arithmetic
+        final Matrix c = new Matrix(new Numeric[][]{{Complex.I, Real.ZERO}, {Real.ZERO, Real.ONE}});
+        final Numeric[][] product = c.multiply(m).elements();
+        assertEquals(Complex.valueOf(0, 1), product[0][0]);
+        assertEquals(Complex.valueOf(0, 2), product[0][1]);
+        assertEquals(Real.valueOf(3), product[1][0]);
+        assertEquals(Real.valueOf(5), product[1][1]);
+        assertEquals(Real.ONE.negate(), c.multiply(c).elements()[0][0]);
+    }
+
+    @Test
+    public void testLargeMatrix() throws Exception {
+        final int n = 50;
+        final double[][] a = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                a[i][j] = i == j ? n : 1d / (i + j + 1);
+            }
+        }
+        final Matrix m = matrix(a);
+        final Matrix identity = (Matrix) m.multiply(m.inverse());
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(i == j ? 1d : 0d, identity.elements()[i][j].doubleValue(), 1e-12);
+            }
+        }
+    }
+
+    @Nonnull
+    private static Matrix matrix(@Nonnull double[][] elements) {
+        final Numeric[][] result = new Numeric[elements.length][];
+        for (int i = 0; i < elements.length; i++) {
+            result[i] = new Numeric[elements[i].length];
+            for (int j = 0; j < elements[i].length; j++) {
+                result[i][j] = Real.valueOf(elements[i][j]);
+            }
+        }
+        return new Matrix(result);
     }
 }
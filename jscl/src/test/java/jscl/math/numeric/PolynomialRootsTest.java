@@ -0,0 +1,92 @@
+package jscl.math.numeric;
+
+import jscl.JsclMathEngine;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PolynomialRootsTest {
+
+    @Test
+    public void testRoots() throws Exception {
+        // x^2 - 2
+        assertRoots(new double[]{-2, 0, 1}, "1.414213562373095", "-1.414213562373095");
+        // x^2 + 1
+        assertRoots(new double[]{1, 0, 1}, "i", "-i");
+        // x^3 - 6x^2 + 11x - 6
+        // (constants defined in other tests might replace integers in the output)
+        final Numeric[] c = {Real.valueOf(-6), Real.valueOf(11), Real.valueOf(-6), Real.ONE};
+        for (int i = 0; i < 3; i++) {
+            final Numeric root = PolynomialRoots.root(i, c);
+            assertTrue(root instanceof Real);
+            assertEquals(3 - i, root.doubleValue(), 1e-14);
+        }
+        // x^3 + x
+        assertRoots(new double[]{0, 1, 0, 1}, "i", "0", "-i");
+        // x^5 - x - 1
+        assertRoots(new double[]{-1, -1, 0, 0, 0, 1}, "1.167303978261419", "0.181232444469875+1.083954101317711*i",
+                "0.181232444469875-1.083954101317711*i", "-0.764884433600585+0.352471546031726*i",
+                "-0.764884433600585-0.352471546031726*i");
+    }
+
+    @Test
+    public void testMultipleRoots() throws Exception {
+        // (x - 1)^2 * (x^3 + 2)
+        assertRoots(new double[]{2, -4, 2, 1, -2, 1}, "1", "1", "0.629960524947437+1.091123635971721*i",
+                "0.629960524947437-1.091123635971721*i", "-1.259921049894873");
+        // (x - 3)^4 * (x + 1)
+        assertRoots(new double[]{81, -27, -54, 42, -11, 1}, "3", "3", "3", "3", "-1");
+    }
+
+    @Test
+    public void testHighDegree() throws Exception {
+        final Numeric[] coefficients = new Numeric[51];
+        coefficients[0] = Real.valueOf(-1);
+        for (int i = 1; i < 50; i++) {
+            coefficients[i] = Real.ZERO;
+        }
+        coefficients[50] = Real.ONE;
+        final Numeric[] roots = PolynomialRoots.roots(coefficients);
+        assertEquals(50, roots.length);
+        for (Numeric root : roots) {
+            assertEquals(1, root.abs().doubleValue(), 1e-14);
+        }
+        assertSame(roots, PolynomialRoots.roots(coefficients));
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        try {
+            PolynomialRoots.root(0, new Numeric[]{Real.ONE, Real.ZERO});
+            fail();
+        } catch (ArithmeticException e) {
+            // constant
+        }
+        try {
+            PolynomialRoots.root(2, new Numeric[]{Real.ONE, Real.ONE});
+            fail();
+        } catch (ArithmeticException e) {
+            // no such root
+        }
+    }
+
+    @Test
+    public void testEngine() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        assertEquals("0.181232444469875+1.083954101317711*i", me.evaluate("root[1](-1, -1, 0, 0, 0, 1)"));
+        assertTrue(me.evaluate("root[0](-2, 0, 1)").startsWith("1.414213562373095"));
+    }
+
+    private static void assertRoots(double[] coefficients, String... expected) {
+        final Numeric[] c = new Numeric[coefficients.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = Real.valueOf(coefficients[i]);
+        }
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], PolynomialRoots.root(i, c).toString());
+        }
+    }
+}
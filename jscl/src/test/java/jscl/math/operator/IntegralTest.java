@@ -0,0 +1,55 @@
+package jscl.math.operator;
+
+import jscl.AngleUnit;
+import jscl.JsclMathEngine;
+import jscl.math.Expression;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntegralTest {
+
+    private JsclMathEngine me;
+
+    @Before
+    public void setUp() throws Exception {
+        me = JsclMathEngine.getInstance();
+        me.setAngleUnits(AngleUnit.rad);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        me.setAngleUnits(AngleUnit.deg);
+    }
+
+    @Test
+    public void testShouldIntegrateNumerically() throws Exception {
+        // no elementary antiderivatives
+        assertEquals(0.746824132812427, numeric("∫ab(exp(-x^2), x, 0, 1)"), 1e-15);
+        assertEquals(-0.746824132812427, numeric("∫ab(exp(-x^2), x, 1, 0)"), 1e-15);
+        assertEquals(0.946083070367183, numeric("∫ab(sin(x)/x, x, 0, 1)"), 1e-15);
+        assertEquals(Math.sqrt(Math.PI), numeric("∫ab(exp(-x^2), x, -∞, ∞)"), 1e-14);
+        assertEquals(Math.sqrt(Math.PI) / 2, numeric("∫ab(exp(-x^2), x, 0, ∞)"), 1e-14);
+        // integrable singularity at the bound
+        assertEquals(2, numeric("∫ab(1/√(x), x, 0, 1)"), 1e-12);
+        assertEquals("0.746824132812427", me.evaluate("∫ab(exp(-x^2), x, 0, 1)"));
+    }
+
+    @Test
+    public void testShouldNotIntegrateNumericallyIfIntegrandHasParameters() throws Exception {
+        assertEquals("∫ab(y*(1/e)^x^2, x, 0, 1)", me.simplify("∫ab(e^(-x^2)*y, x, 0, 1)"));
+        try {
+            me.evaluate("∫ab(e^(-x^2)*y, x, 0, 1)");
+            Assert.fail();
+        } catch (ArithmeticException e) {
+            // ok
+        }
+    }
+
+    private static double numeric(String expression) throws Exception {
+        return Expression.valueOf(expression).expand().numeric().doubleValue();
+    }
+}
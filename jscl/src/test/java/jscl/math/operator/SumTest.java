@@ -1,6 +1,7 @@
 package jscl.math.operator;
 
 import jscl.JsclMathEngine;
+import jscl.math.Expression;
 import jscl.math.function.Constant;
 import jscl.math.function.ExtendedConstant;
 import org.junit.Test;
@@ -19,4 +20,41 @@ public class SumTest {
         assertEquals("51.73529646243829", me.evaluate("Σ((1+x/i)^i, i, 1, 10)"));
         assertEquals("686.0048440525586", me.evaluate("Σ((1+x/i)^i, i, 1, 100)"));
     }
+
+    @Test
+    public void testPolynomial() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        me.getConstantsRegistry().addOrUpdate(new ExtendedConstant.Builder(new Constant("k"), (String) null).create());
+        assertEquals("385", Expression.valueOf("Σ(k^2, k, 1, 10)").expand().toString());
+        assertEquals("500000500000", Expression.valueOf("Σ(k, k, 1, 1000000)").expand().toString());
+        assertEquals("333333833333500000", Expression.valueOf("Σ(k^2, k, 1, 1000000)").expand().toString());
+        // negative bounds
+        assertEquals("0", Expression.valueOf("Σ(k^3, k, -5, 5)").expand().toString());
+        assertEquals("-3025", Expression.valueOf("Σ(k^3, k, -10, -1)").expand().toString());
+        // same as term by term
+        assertEquals(Expression.valueOf("Σ(k^5-3*k+2, k, -3, 7)").expand(), Expression.valueOf("(-3)^5+9+2 + (-2)^5+6+2 + (-1)^5+3+2 + 2 + 1-3+2 + 32-6+2 + 243-9+2 + 1024-12+2 + 3125-15+2 + 7776-18+2 + 16807-21+2").expand());
+        // empty range
+        assertEquals("0", Expression.valueOf("Σ(k^2, k, 10, 1)").expand().toString());
+    }
+
+    @Test
+    public void testNumeric() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        me.getConstantsRegistry().addOrUpdate(new ExtendedConstant.Builder(new Constant("k"), (String) null).create());
+        final double zeta2 = Math.PI * Math.PI / 6;
+        // tail of the series is 1/n - 1/(2n^2) + ...
+        assertEquals(zeta2 - 1e-6 + 5e-13, Expression.valueOf("Σ(1/k^2, k, 1, 1000000)").expand().numeric().doubleValue(), 1e-13);
+        assertEquals(zeta2 - 1e-3 + 5e-7 - 1.0 / 6e9, Expression.valueOf("Σ(1/k^2, k, 1, 1000)").numeric().doubleValue(), 1e-13);
+        // large ranges are not expanded symbolically
+        assertEquals("Σ(1/k^2, k, 1, 1000000)", Expression.valueOf("Σ(1/k^2, k, 1, 1000000)").expand().toString());
+    }
+
+    @Test
+    public void testProduct() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        me.getConstantsRegistry().addOrUpdate(new ExtendedConstant.Builder(new Constant("k"), (String) null).create());
+        assertEquals("3628800", Expression.valueOf("∏(k, k, 1, 10)").expand().toString());
+        // Wallis product
+        assertEquals(Math.PI / 2, Expression.valueOf("∏(4*k^2/(4*k^2-1), k, 1, 1000000)").expand().numeric().doubleValue(), 1e-5);
+    }
 }
@@ -0,0 +1,56 @@
+package jscl.math.polynomial;
+
+import jscl.EvaluationBudget;
+import jscl.EvaluationBudgetExceededException;
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BasisTest {
+
+    private static final String[] CYCLIC_4 = {"a+b+c+d", "a*b+b*c+c*d+d*a", "a*b*c+b*c*d+c*d*a+d*a*b", "a*b*c*d-1"};
+    private static final String[] KATSURA_3 = {"a+2*b+2*c+2*d-1", "a^2+2*b^2+2*c^2+2*d^2-a", "2*a*b+2*b*c+2*c*d-b",
+            "b^2+2*a*c+2*b*d-c"};
+
+    @Test
+    public void testParallelBasisShouldBeEqualToBlockBasis() throws Exception {
+        for (String[] ideal : new String[][]{CYCLIC_4, KATSURA_3}) {
+            for (Ordering ordering : new Ordering[]{Monomial.degreeReverseLexicographic, Monomial.lexicographic}) {
+                final Generic[] block = compute(ideal, ordering, Basis.BLOCK);
+                final Generic[] parallel = compute(ideal, ordering, Basis.PARALLEL);
+                assertEquals(Arrays.asList(block), Arrays.asList(parallel));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelBasisShouldRunBudget() throws Exception {
+        final EvaluationBudget.Meter meter = EvaluationBudget.UNLIMITED.withMaxOperations(20).start();
+        try {
+            compute(KATSURA_3, Monomial.lexicographic, Basis.PARALLEL);
+            fail();
+        } catch (EvaluationBudgetExceededException e) {
+            assertEquals(EvaluationBudget.GROEBNER, e.getStage());
+        } finally {
+            EvaluationBudget.stop(meter);
+        }
+    }
+
+    private static Generic[] compute(String[] ideal, Ordering ordering, int flags) throws Exception {
+        final Generic[] generic = new Generic[ideal.length];
+        for (int i = 0; i < ideal.length; i++) {
+            generic[i] = Expression.valueOf(ideal[i]);
+        }
+        final Variable[] unknown = new Variable[4];
+        for (int i = 0; i < unknown.length; i++) {
+            unknown[i] = Expression.valueOf(String.valueOf((char) ('a' + i))).variableValue();
+        }
+        return Basis.compute(generic, unknown, ordering, 0, flags).elements();
+    }
+}
@@ -0,0 +1,64 @@
+package jscl.math.polynomial;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IntegerConvolutionTest {
+
+    @Test
+    public void testMultiply() throws Exception {
+        final Random random = new Random(42);
+        final int[][] sizes = {{1, 1}, {5, 3}, {40, 40}, {33, 100}, {200, 150}, {300, 1000}, {1, 500}};
+        final int[] bits = {3, 30, 100, 400};
+        for (int[] size : sizes) {
+            for (int b : bits) {
+                final BigInteger[] x = random(random, size[0], b);
+                final BigInteger[] y = random(random, size[1], b);
+                final BigInteger[] expected = schoolbook(x, y);
+                assertArrayEquals(expected, IntegerConvolution.multiply(x, y));
+                assertArrayEquals(expected, IntegerConvolution.multiplyKaratsuba(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void testPolynomial() throws Exception {
+        final Generic p = Expression.valueOf("(x-1)^150*(x+2)^130").expand();
+        final Generic q = Expression.valueOf("(x+2)^130").expand();
+        final Variable x = Expression.valueOf("x").variableValue();
+        final UnivariatePolynomial product = (UnivariatePolynomial) Polynomial.factory(x).valueOf(Expression.valueOf("(x-1)^150").expand())
+                .multiply(Polynomial.factory(x).valueOf(q));
+        assertEquals(280, product.degree());
+        assertEquals(p, product.genericValue());
+    }
+
+    private static BigInteger[] random(Random random, int length, int bits) {
+        final BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            final BigInteger c = new BigInteger(bits, random);
+            result[i] = random.nextBoolean() ? c : c.negate();
+        }
+        return result;
+    }
+
+    private static BigInteger[] schoolbook(BigInteger[] a, BigInteger[] b) {
+        final BigInteger[] result = new BigInteger[a.length + b.length - 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = BigInteger.ZERO;
+        }
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] = result[i + j].add(a[i].multiply(b[j]));
+            }
+        }
+        return result;
+    }
+}
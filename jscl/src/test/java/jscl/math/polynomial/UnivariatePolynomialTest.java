@@ -0,0 +1,28 @@
+package jscl.math.polynomial;
+
+import jscl.math.Expression;
+import jscl.math.Generic;
+import jscl.math.Variable;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class UnivariatePolynomialTest {
+
+    @Test
+    public void testGcd() throws Exception {
+        assertEquals("2401-4116*x+1274*x^2+1008*x^3-381*x^4-144*x^5+26*x^6+12*x^7+x^8", gcd("(x^2+3*x-7)^6*(2*x^5-x+11)^3", "(x^2+3*x-7)^4*(5*x^4+x^3-1)^5"));
+        // sign of the lowest term is positive, content gcd is kept
+        assertEquals("6-4*x-4*x^2-6*x^3", gcd("(3*x^3+2*x^2+2*x-3)*(x^4-11*x^3+16*x^2-6*x-8)*10", "-(3*x^3+2*x^2+2*x-3)*(18*x^2+16*x-16)*4"));
+        assertEquals("1", gcd("(x^5+7*x-3)*(x^4+2)", "(x^6-5*x^2+1)*(x^4+3)"));
+        // large coefficients need several primes
+        assertEquals(Expression.valueOf("(123456789012345*x^5-98765432109876*x+5)^3").expand().toString(), gcd("(123456789012345*x^5-98765432109876*x+5)^4*(x^3+1)", "(123456789012345*x^5-98765432109876*x+5)^3*(x^3-1)^2"));
+    }
+
+    private static String gcd(String a, String b) throws Exception {
+        final Variable x = Expression.valueOf("x").variableValue();
+        final Generic p = Expression.valueOf(a).expand();
+        final Generic q = Expression.valueOf(b).expand();
+        return Polynomial.factory(x).valueOf(p).gcd(Polynomial.factory(x).valueOf(q)).genericValue().toString();
+    }
+}
@@ -1,5 +1,6 @@
 package jscl.text;
 
+import jscl.text.msg.Messages;
 import org.junit.Assert;
 
 /**
@@ -11,16 +12,15 @@ public class PowerParserTest {
 
     @org.junit.Test
     public void testParse() throws Exception {
-        PowerParser.parser.parse(Parser.Parameters.get("  ^"), null);
-        PowerParser.parser.parse(Parser.Parameters.get(" **"), null);
-        PowerParser.parser.parse(Parser.Parameters.get(" **7"), null);
-        PowerParser.parser.parse(Parser.Parameters.get("^"), null);
-        PowerParser.parser.parse(Parser.Parameters.get("**"), null);
-        try {
-            PowerParser.parser.parse(Parser.Parameters.get("*"), null);
-            Assert.fail();
-        } catch (ParseException e) {
+        Assert.assertEquals("^", PowerParser.parser.parse(Parser.Parameters.get("  ^"), null));
+        Assert.assertEquals("**", PowerParser.parser.parse(Parser.Parameters.get(" **"), null));
+        Assert.assertEquals("**", PowerParser.parser.parse(Parser.Parameters.get(" **7"), null));
+        Assert.assertEquals("^", PowerParser.parser.parse(Parser.Parameters.get("^"), null));
+        Assert.assertEquals("**", PowerParser.parser.parse(Parser.Parameters.get("**"), null));
 
-        }
+        final Parser.Parameters p = Parser.Parameters.get("*");
+        Assert.assertNull(PowerParser.parser.parse(p, null));
+        Assert.assertEquals(0, p.position.intValue());
+        Assert.assertEquals(Messages.msg_10, p.newParseException().getMessageCode());
     }
 }
@@ -66,6 +66,7 @@ public class JsclMessageTest {
             case 0:
             case 10:
             case 19:
+            case 26:
                 return Arrays.asList("param1", "param2");
             case 1:
             case 2:
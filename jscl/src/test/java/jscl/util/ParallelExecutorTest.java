@@ -0,0 +1,62 @@
+package jscl.util;
+
+import jscl.AngleUnit;
+import jscl.EvaluationBudget;
+import jscl.EvaluationContext;
+import jscl.JsclMathEngine;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ParallelExecutorTest {
+
+    @Test
+    public void testShouldRunTasksWithSettingsOfCaller() throws Exception {
+        final JsclMathEngine me = JsclMathEngine.getInstance();
+        final AngleUnit angleUnits = me.getAngleUnits() == AngleUnit.rad ? AngleUnit.grad : AngleUnit.rad;
+        final EvaluationContext context = me.getContext().withAngleUnits(angleUnits);
+        final EvaluationBudget.Meter meter = EvaluationBudget.UNLIMITED.withMaxOperations(1000).start();
+        final EvaluationContext previous = me.setThreadContext(context);
+        try {
+            final EvaluationBudget.Meter callerMeter = EvaluationBudget.current();
+            for (Future<Object[]> future : ParallelExecutor.invokeAll(newTasks(4), EvaluationBudget.SUM)) {
+                final Object[] result = future.get();
+                assertSame(context, result[0]);
+                assertSame(callerMeter, result[1]);
+            }
+        } finally {
+            me.setThreadContext(previous);
+            EvaluationBudget.stop(meter);
+        }
+
+        // worker threads are restored
+        for (Future<Object[]> future : ParallelExecutor.getInstance().invokeAll(newTasks(4))) {
+            final Object[] result = future.get();
+            assertNull(result[0]);
+            assertNull(result[1]);
+        }
+        assertNull(me.getThreadContext());
+    }
+
+    @Nonnull
+    private static List<Callable<Object[]>> newTasks(int count) {
+        final List<Callable<Object[]>> tasks = new ArrayList<Callable<Object[]>>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Callable<Object[]>() {
+                @Override
+                public Object[] call() {
+                    return new Object[]{JsclMathEngine.getInstance().getThreadContext(), EvaluationBudget.current()};
+                }
+            });
+        }
+        return tasks;
+    }
+}
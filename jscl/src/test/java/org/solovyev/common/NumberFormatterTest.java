@@ -3,7 +3,10 @@ package org.solovyev.common;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
 
 import static java.lang.Math.pow;
 import static java.math.BigInteger.TEN;
@@ -195,6 +198,55 @@ public class NumberFormatterTest {
         }
     }
 
+    @Test
+    public void testSimpleFormatOfRandomNumbers() throws Exception {
+        numberFormatter.useSimpleFormat();
+        final Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            final int precision = 1 + random.nextInt(15);
+            numberFormatter.setPrecision(precision);
+            final double value = random.nextGaussian() * pow(10, random.nextInt(20) - 5);
+            final BigDecimal rounded = BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP);
+            if (rounded.stripTrailingZeros().precision() <= 15 && rounded.abs().compareTo(BigDecimal.TEN.pow(16)) < 0) {
+                final String expected = rounded.signum() == 0 ? "0" : rounded.stripTrailingZeros().toPlainString();
+                assertEquals(value + ", precision = " + precision, expected, numberFormatter.format(value));
+            }
+        }
+    }
+
+    @Test
+    public void testSimpleFormatWithGrouping() throws Exception {
+        numberFormatter.useSimpleFormat();
+        numberFormatter.setGroupingSeparator(' ');
+        numberFormatter.setPrecision(3);
+        assertEquals("-1 234 567.125", numberFormatter.format(-1234567.125d));
+        assertEquals("999.1", numberFormatter.format(999.0999d));
+        assertEquals("1 000", numberFormatter.format(999.9999d));
+        assertEquals("0.001", numberFormatter.format(0.0005d));
+        assertEquals("0", numberFormatter.format(-0.0004d));
+        assertEquals("123 456", numberFormatter.format(123456d));
+        assertEquals("-123 456", numberFormatter.format(BigInteger.valueOf(-123456)));
+        assertEquals("9 223 372 036 854 775 807", numberFormatter.format(BigInteger.valueOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testBigIntegers() throws Exception {
+        numberFormatter.useSimpleFormat();
+        assertEquals("9.900656229295898E301029", numberFormatter.format(BigInteger.ONE.shiftLeft(1000000)));
+        assertEquals("-1.60693804425899E60", numberFormatter.format(BigInteger.ONE.shiftLeft(200).negate()));
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            final BigInteger value = new BigInteger(1 + random.nextInt(100000), random);
+            final int radix = new int[]{2, 8, 10, 16}[i % 4];
+            assertEquals(value.toString(radix).toUpperCase(), numberFormatter.formatAllDigits(value, radix));
+        }
+        numberFormatter.setGroupingSeparator(' ');
+        assertEquals("-12 345 678 901", numberFormatter.formatAllDigits(BigInteger.valueOf(-12345678901L), 10));
+        assertEquals("1 23 45", numberFormatter.formatAllDigits(BigInteger.valueOf(0x12345), 16));
+        assertEquals("0", numberFormatter.formatAllDigits(BigInteger.ZERO, 10));
+    }
+
     private void checkMaximumPrecision(String expression, CharSequence value) {
         assertTrue(expression + "=" + value, value.length() <= 8);
     }
@@ -0,0 +1,34 @@
+package org.solovyev.common.text;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void testShouldFindLongestWord() throws Exception {
+        final PrefixTrie trie = PrefixTrie.create(Arrays.asList("s", "sin", "sinh", "sqrt", "π", "e"));
+
+        assertEquals("sinh", trie.findLongest("sinh(x)", 0));
+        assertEquals("sin", trie.findLongest("sin(x)", 0));
+        assertEquals("sin", trie.findLongest("sin", 0));
+        assertEquals("s", trie.findLongest("si", 0));
+        assertEquals("sqrt", trie.findLongest("2*sqrt(2)", 2));
+        assertEquals("π", trie.findLongest("2π", 1));
+        assertNull(trie.findLongest("2π", 0));
+        assertNull(trie.findLongest("2π", 2));
+    }
+
+    @Test
+    public void testEmptyTrie() throws Exception {
+        assertTrue(PrefixTrie.create(Collections.<String>emptyList()).isEmpty());
+        assertTrue(PrefixTrie.create(Collections.singletonList("")).isEmpty());
+        assertNull(PrefixTrie.EMPTY.findLongest("sin", 0));
+    }
+}